@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.eclipse.lyo.oslc.domains.auto.AutomationResult;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.oslc.domains.qm.TestCase;
+import org.eclipse.lyo.oslc.domains.rm.Requirement;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+
+/**
+ * Deterministic domain resources for the benchmarks.
+ *
+ * <p>Resources are populated like those of a typical adaptor: literal properties, a few dates and
+ * booleans, and links to resources of the other domains, so that marshalling exercises literals,
+ * typed literals and resource references alike. The same size always yields the same resources.
+ *
+ * @since 7.0.0
+ */
+public final class Fixtures {
+  public static final String BASE = "http://localhost:8080/adaptor/services/";
+
+  public static final URI SERVICE_PROVIDER = URI.create(BASE + "serviceProviders/1");
+  public static final URI CREATOR = URI.create(BASE + "persons/jdoe");
+
+  /** Fixed instant, so that literals do not vary between runs. */
+  private static final Date CREATED = new Date(1_700_000_000_000L);
+
+  private Fixtures() {}
+
+  public static URI changeRequestUri(final int i) {
+    return URI.create(BASE + "changeRequests/" + i);
+  }
+
+  public static URI requirementUri(final int i) {
+    return URI.create(BASE + "requirements/" + i);
+  }
+
+  public static URI testCaseUri(final int i) {
+    return URI.create(BASE + "testCases/" + i);
+  }
+
+  public static URI automationResultUri(final int i) {
+    return URI.create(BASE + "automationResults/" + i);
+  }
+
+  public static ChangeRequest changeRequest(final int i) {
+    final ChangeRequest resource = new ChangeRequest(changeRequestUri(i));
+    resource.setIdentifier("CR-" + i);
+    resource.setTitle("Change request " + i);
+    resource.setShortTitle("CR " + i);
+    resource.setDescription("Description of change request " + i + " with some body text.");
+    resource.setStatus(i % 3 == 0 ? "Closed" : "Open");
+    resource.setClosed(i % 3 == 0);
+    resource.setInProgress(i % 3 == 1);
+    resource.setCreated(CREATED);
+    resource.setModified(CREATED);
+    resource.addSubject("benchmark");
+    resource.addSubject("component-" + (i % 7));
+    resource.addCreator(new Link(CREATOR));
+    resource.addServiceProvider(new Link(SERVICE_PROVIDER));
+    resource.addTracksRequirement(new Link(requirementUri(i), "Requirement " + i));
+    resource.addAffectsRequirement(new Link(requirementUri(i + 1)));
+    resource.addRelatedChangeRequest(new Link(changeRequestUri(i + 1)));
+    return resource;
+  }
+
+  public static Requirement requirement(final int i) {
+    final Requirement resource = new Requirement(requirementUri(i));
+    resource.setIdentifier("REQ-" + i);
+    resource.setTitle("Requirement " + i);
+    resource.setShortTitle("REQ " + i);
+    resource.setDescription("The system shall satisfy requirement " + i + ".");
+    resource.setCreated(CREATED);
+    resource.setModified(CREATED);
+    resource.addSubject("benchmark");
+    resource.addCreator(new Link(CREATOR));
+    resource.addServiceProvider(new Link(SERVICE_PROVIDER));
+    resource.addValidatedBy(new Link(testCaseUri(i)));
+    resource.addTrackedBy(new Link(changeRequestUri(i)));
+    resource.addDecomposes(new Link(requirementUri(i / 2)));
+    return resource;
+  }
+
+  public static TestCase testCase(final int i) {
+    final TestCase resource = new TestCase(testCaseUri(i));
+    resource.setIdentifier("TC-" + i);
+    resource.setTitle("Test case " + i);
+    resource.setDescription("Verifies requirement " + i + ".");
+    resource.setCreated(CREATED);
+    resource.setModified(CREATED);
+    resource.addSubject("benchmark");
+    resource.addCreator(new Link(CREATOR));
+    resource.addServiceProvider(new Link(SERVICE_PROVIDER));
+    resource.addValidatesRequirement(new Link(requirementUri(i)));
+    resource.addTestsChangeRequest(new Link(changeRequestUri(i)));
+    return resource;
+  }
+
+  public static AutomationResult automationResult(final int i) {
+    final AutomationResult resource = new AutomationResult(automationResultUri(i));
+    resource.setIdentifier("AR-" + i);
+    resource.setTitle("Automation result " + i);
+    resource.setCreated(CREATED);
+    resource.setModified(CREATED);
+    resource.addSubject("benchmark");
+    resource.addCreator(new Link(CREATOR));
+    resource.addServiceProvider(new Link(SERVICE_PROVIDER));
+    resource.addState(new Link(URI.create("http://open-services.net/ns/auto#complete")));
+    final String verdict = i % 5 == 0 ? "failed" : "passed";
+    resource.addVerdict(new Link(URI.create("http://open-services.net/ns/auto#" + verdict)));
+    resource.setReportsOnAutomationPlan(new Link(URI.create(BASE + "automationPlans/" + i % 10)));
+    return resource;
+  }
+
+  public static List<ChangeRequest> changeRequests(final int size) {
+    final List<ChangeRequest> resources = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      resources.add(changeRequest(i));
+    }
+    return resources;
+  }
+
+  /**
+   * @return {@code size} resources, cycling through the four domain types
+   */
+  public static List<AbstractResource> mixed(final int size) {
+    final List<AbstractResource> resources = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      switch (i % 4) {
+        case 0 -> resources.add(changeRequest(i));
+        case 1 -> resources.add(requirement(i));
+        case 2 -> resources.add(testCase(i));
+        default -> resources.add(automationResult(i));
+      }
+    }
+    return resources;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Marshalling of domain beans to a Jena model and back. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JenaModelHelperBenchmark {
+
+  @Param({"1", "10", "100", "1000"})
+  public int size;
+
+  private Object[] mixed;
+  private Model changeRequestModel;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    mixed = Fixtures.mixed(size).toArray();
+    changeRequestModel = JenaModelHelper.createJenaModel(Fixtures.changeRequests(size).toArray());
+  }
+
+  @Benchmark
+  public Model createJenaModel() throws Exception {
+    return JenaModelHelper.createJenaModel(mixed);
+  }
+
+  @Benchmark
+  public Object[] fromJenaModel() throws Exception {
+    return JenaModelHelper.fromJenaModel(changeRequestModel, ChangeRequest.class);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.lyo.core.query.Property;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of {@code oslc.where} and {@code oslc.select} expressions.
+ *
+ * <p>The parse results are lazy proxies, so the benchmarks also resolve their top-level terms to
+ * include the tree walk that every query evaluation performs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryParsingBenchmark {
+  private static final String PREFIXES =
+      "dcterms=<http://purl.org/dc/terms/>,"
+          + "oslc=<http://open-services.net/ns/core#>,"
+          + "oslc_cm=<http://open-services.net/ns/cm#>,"
+          + "oslc_rm=<http://open-services.net/ns/rm#>,"
+          + "xsd=<http://www.w3.org/2001/XMLSchema#>";
+
+  @Param({"simple", "compound"})
+  public String complexity;
+
+  private Map<String, String> prefixMap;
+  private String where;
+  private String select;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+    if ("simple".equals(complexity)) {
+      where = "dcterms:identifier=\"CR-1\"";
+      select = "dcterms:title,dcterms:identifier";
+    } else {
+      where =
+          "oslc_cm:status in [\"Open\",\"In Progress\"]"
+              + " and dcterms:created>=\"2023-01-01T00:00:00Z\"^^xsd:dateTime"
+              + " and oslc_cm:closed=false"
+              + " and dcterms:title=\"Change request 1\"@en"
+              + " and oslc_cm:tracksRequirement{dcterms:identifier=\"REQ-1\"}";
+      select =
+          "dcterms:title,dcterms:identifier,oslc_cm:status,dcterms:creator{*},"
+              + "oslc_cm:tracksRequirement{dcterms:title,oslc_rm:validatedBy{dcterms:title}}";
+    }
+  }
+
+  @Benchmark
+  public List<SimpleTerm> parseWhere() throws Exception {
+    return QueryUtils.parseWhere(where, prefixMap).children();
+  }
+
+  @Benchmark
+  public List<Property> parseSelect() throws Exception {
+    return QueryUtils.parseSelect(select, prefixMap).children();
+  }
+}
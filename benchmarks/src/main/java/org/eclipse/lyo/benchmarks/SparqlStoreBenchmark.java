@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.store.Store;
+import org.eclipse.lyo.store.StoreFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@code SparqlStoreImpl} operations against an in-memory TDB dataset. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SparqlStoreBenchmark {
+  private static final URI READ_GRAPH = URI.create("urn:lyo:benchmarks:read");
+  private static final URI WRITE_GRAPH = URI.create("urn:lyo:benchmarks:write");
+  private static final String PREFIXES =
+      "dcterms=<http://purl.org/dc/terms/>,oslc_cm=<http://open-services.net/ns/cm#>";
+
+  @Param({"10", "100", "1000"})
+  public int size;
+
+  private Store store;
+  private List<ChangeRequest> changeRequests;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    store = StoreFactory.sparqlInMem();
+    changeRequests = Fixtures.changeRequests(size);
+    store.putResources(READ_GRAPH, changeRequests);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    store.close();
+  }
+
+  @Benchmark
+  public boolean putResources() throws Exception {
+    // Replaces the graph contents, so the dataset does not grow between invocations
+    return store.putResources(WRITE_GRAPH, changeRequests);
+  }
+
+  @Benchmark
+  public List<ChangeRequest> getResources() throws Exception {
+    return store.getResources(READ_GRAPH, ChangeRequest.class);
+  }
+
+  @Benchmark
+  public ChangeRequest getResource() throws Exception {
+    return store.getResource(READ_GRAPH, Fixtures.changeRequestUri(size / 2), ChangeRequest.class);
+  }
+
+  @Benchmark
+  public Model queryResources() {
+    return store.getResources(READ_GRAPH, PREFIXES, "oslc_cm:status=\"Open\"", null, 20, 0);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.util.List;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+
+/**
+ * Accessors of the properties of a resource class, generated at build time by
+ * the OSLC4J annotation processor so that the (un)marshalling of the class
+ * calls its getters and setters directly rather than through reflection.
+ * <p>
+ * The accessors of a class {@code com.example.Foo} annotated with
+ * {@link OslcResourceShape} are named {@code com.example.Foo}{@value #CLASS_NAME_SUFFIX}
+ * and have a public no-args constructor. They are registered as services of
+ * this interface in {@code META-INF/services}. They should not be implemented
+ * by hand.
+ *
+ * @since 7.0.0
+ */
+public interface IOslcResourceAccessors {
+
+	/**
+	 * Suffix appended to the name of a resource class to name its accessors.
+	 */
+	String CLASS_NAME_SUFFIX = "_OslcAccessors";
+
+	/**
+	 * @return the {@link OslcPropertyDefinition} of each property getter, by
+	 * property index
+	 */
+	List<String> getPropertyDefinitions();
+
+	/**
+	 * @param index index of the property
+	 * @return true if the property has a setter
+	 */
+	boolean isWritable(int index);
+
+	/**
+	 * Gets a property value of a resource.
+	 * @param resource the resource to read, an instance of the resource class
+	 * @param index index of the property
+	 * @return the value returned by the getter
+	 * @throws Exception if the getter throws one
+	 */
+	Object getValue(Object resource, int index) throws Exception;
+
+	/**
+	 * Sets a property value of a resource.
+	 * @param resource the resource to write
+	 * @param index index of a {@link #isWritable(int) writable} property
+	 * @param value the value to pass to the setter, of the setter parameter type
+	 * @throws Exception if the setter throws one
+	 */
+	void setValue(Object resource, int index, Object value) throws Exception;
+}
@@ -57,6 +57,93 @@ public interface OSLC4JConstants {
      */
     String LYO_STORE_PAGING_PRECISE_LIMIT = OSLC4J + "storePagingPreciseLimit";
 
+    /**
+     * System property {@value} : Maximum number of subjects removed by a single SPARQL update
+     * when the store deletes resources in bulk. Defaults to 500.
+     */
+    String LYO_STORE_DELETE_CHUNK_SIZE = OSLC4J + "storeDeleteChunkSize";
+
+    /**
+     * System property {@value} : Maximum number of subjects fetched by a single query when the
+     * store reads resources by URI in bulk. Defaults to 500.
+     */
+    String LYO_STORE_READ_CHUNK_SIZE = OSLC4J + "storeReadChunkSize";
+
+    /**
+     * System property {@value} : Maximum number of triples sent in a single {@code INSERT DATA}
+     * update when the store bulk-loads triples. Defaults to 10000.
+     */
+    String LYO_STORE_INSERT_CHUNK_SIZE = OSLC4J + "storeInsertChunkSize";
+
+    /**
+     * System property {@value} : Maximum number of {@code INSERT DATA} chunks sent concurrently
+     * when the store bulk-loads triples into a remote endpoint. Defaults to 1 (sequential).
+     */
+    String LYO_STORE_INSERT_CONCURRENCY = OSLC4J + "storeInsertConcurrency";
+
+    /**
+     * System property {@value} : Maximum number of triples fetched when the store reads
+     * resources, guarding against running out of memory on large results. Defaults to 1000000;
+     * 0 disables the limit.
+     */
+    String LYO_STORE_TRIPLE_LIMIT = OSLC4J + "storeTripleLimit";
+
+    /**
+     * System property {@value} : When "false" (default), a store read that exceeds
+     * {@link #LYO_STORE_TRIPLE_LIMIT} fails. When "true", the result is truncated to the limit
+     * instead, which may leave resources incomplete.
+     */
+    String LYO_STORE_TRIPLE_LIMIT_TRUNCATE = OSLC4J + "storeTripleLimitTruncate";
+
+    /**
+     * System property {@value} : Depth up to which the store follows blank nodes when it reads
+     * resources, e.g. 2 fetches the blank nodes of a resource and their own blank nodes. Deeper
+     * blank nodes are left out with a warning. Defaults to -1, which follows blank nodes to any
+     * depth, like the DESCRIBE queries the store used before, at the cost of repeated queries
+     * for deeply nested blank nodes.
+     */
+    String LYO_STORE_BLANK_NODE_DEPTH = OSLC4J + "storeBlankNodeDepth";
+
+    /**
+     * System property {@value} : Time in milliseconds for which the store reuses the result of a
+     * resource count query, e.g. to report the total count of paged query results. Defaults to 0
+     * (counts are not cached).
+     */
+    String LYO_STORE_COUNT_CACHE_TTL = OSLC4J + "storeCountCacheTtl";
+
+
+    /**
+     * System property {@value} : When "true" (default), bean getters and setters are invoked
+     * through method handles during (un)marshalling. When "false", plain reflection is used. The
+     * value is read when a bean class is marshalled for the first time.
+     */
+    String OSLC4J_USE_METHOD_HANDLES = OSLC4J + "useMethodHandles";
+
+
+    /**
+     * System property {@value} : When "true" (default), the accessor classes generated at build
+     * time by the OSLC4J annotation processor are used, when present, to invoke bean getters and
+     * setters during (un)marshalling. The value is read when a bean class is marshalled for the
+     * first time.
+     */
+    String OSLC4J_USE_GENERATED_ACCESSORS = OSLC4J + "useGeneratedAccessors";
+
+
+    /**
+     * System property {@value} : When "true", responses in RDF syntaxes that Jena can write as a
+     * stream (e.g. Turtle or N-Triples) are serialized one resource at a time, without building a
+     * model of the whole response first. When "false" (default), the response model is built in
+     * full before it is written.
+     */
+    String OSLC4J_STREAMING_RESPONSES = OSLC4J + "streamingResponses";
+
+    /**
+     * System property {@value} : Number of top-level resources after which a streamed
+     * abbreviated RDF/XML response is flushed to the client, see
+     * {@link #OSLC4J_STREAMING_RESPONSES}. Defaults to 100; 0 flushes at the end only.
+     */
+    String OSLC4J_STREAMING_FLUSH_INTERVAL = OSLC4J + "streamingFlushInterval";
+
 
     /*Properties below not used in OSLC4JUtils*/
 
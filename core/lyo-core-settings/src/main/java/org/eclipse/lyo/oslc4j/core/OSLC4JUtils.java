@@ -568,6 +568,53 @@ public class OSLC4JUtils {
 		return value;
 	}
 
+	/**
+	 * @param key          key to get a system property
+	 * @param defaultValue used only if the property is missing
+	 *
+	 * @return int value of a property, the default value if it's missing or an
+	 *         IllegalArgumentException if the property value is not a positive integer
+	 */
+	private static int parsePositiveIntPropertyOrDefault(final String key,
+			final int defaultValue) {
+		return parseIntPropertyOrDefault(key, defaultValue, 1);
+	}
+
+	/**
+	 * @param key          key to get a system property
+	 * @param defaultValue used only if the property is missing
+	 *
+	 * @return int value of a property, the default value if it's missing or an
+	 *         IllegalArgumentException if the property value is not a non-negative integer
+	 */
+	private static int parseNonNegativeIntPropertyOrDefault(final String key,
+			final int defaultValue) {
+		return parseIntPropertyOrDefault(key, defaultValue, 0);
+	}
+
+	private static int parseIntPropertyOrDefault(final String key, final int defaultValue,
+			final int minValue) {
+		final String property = System.getProperty(key);
+		if (StringUtils.isNullOrEmpty(property)) {
+			return defaultValue;
+		}
+		try {
+			final int value = Integer.parseInt(property.trim());
+			if (value < minValue) {
+				throw new NumberFormatException("Value must be at least " + minValue + ": " + value);
+			}
+			return value;
+		} catch (NumberFormatException e) {
+			log.error(
+					"System property '{}' holds illegal value: '{}' (only integers from {} are allowed)",
+					key,
+					property,
+					minValue
+			);
+			throw new IllegalArgumentException(e);
+		}
+	}
+
 	/**
 	 * This method returns true if the given Resource Shape describes array
 	 * matches the list of RDF types.
@@ -767,6 +814,163 @@ public class OSLC4JUtils {
         System.setProperty(OSLC4JConstants.LYO_STORE_PAGING_PRECISE_LIMIT, Boolean.toString(value));
     }
 
+    /**
+     * @see OSLC4JConstants#LYO_STORE_DELETE_CHUNK_SIZE
+     * @return the int value of org.eclipse.lyo.oslc4j.storeDeleteChunkSize
+     * Default is 500 if not set.
+     */
+    public static int getLyoStoreDeleteChunkSize() {
+        return parsePositiveIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_DELETE_CHUNK_SIZE, 500);
+    }
+
+    public static void setLyoStoreDeleteChunkSize(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_DELETE_CHUNK_SIZE, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_READ_CHUNK_SIZE
+     * @return the int value of org.eclipse.lyo.oslc4j.storeReadChunkSize
+     * Default is 500 if not set.
+     */
+    public static int getLyoStoreReadChunkSize() {
+        return parsePositiveIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_READ_CHUNK_SIZE, 500);
+    }
+
+    public static void setLyoStoreReadChunkSize(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_READ_CHUNK_SIZE, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_INSERT_CHUNK_SIZE
+     * @return the int value of org.eclipse.lyo.oslc4j.storeInsertChunkSize
+     * Default is 10000 if not set.
+     */
+    public static int getLyoStoreInsertChunkSize() {
+        return parsePositiveIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_INSERT_CHUNK_SIZE, 10000);
+    }
+
+    public static void setLyoStoreInsertChunkSize(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_INSERT_CHUNK_SIZE, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_INSERT_CONCURRENCY
+     * @return the int value of org.eclipse.lyo.oslc4j.storeInsertConcurrency
+     * Default is 1 if not set.
+     */
+    public static int getLyoStoreInsertConcurrency() {
+        return parsePositiveIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_INSERT_CONCURRENCY, 1);
+    }
+
+    public static void setLyoStoreInsertConcurrency(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_INSERT_CONCURRENCY, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_TRIPLE_LIMIT
+     * @return the int value of org.eclipse.lyo.oslc4j.storeTripleLimit
+     * Default is 1000000 if not set.
+     */
+    public static int getLyoStoreTripleLimit() {
+        return parseNonNegativeIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT,
+            1_000_000);
+    }
+
+    public static void setLyoStoreTripleLimit(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_TRIPLE_LIMIT_TRUNCATE
+     * @return the boolean value of org.eclipse.lyo.oslc4j.storeTripleLimitTruncate
+     * Default is false if not set.
+     */
+    public static boolean isLyoStoreTripleLimitTruncate() {
+        return parseBooleanPropertyOrDefault(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT_TRUNCATE, false);
+    }
+
+    public static void setLyoStoreTripleLimitTruncate(boolean value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT_TRUNCATE, Boolean.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_BLANK_NODE_DEPTH
+     * @return the int value of org.eclipse.lyo.oslc4j.storeBlankNodeDepth
+     * Default is -1 (no limit) if not set.
+     */
+    public static int getLyoStoreBlankNodeDepth() {
+        return parseIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_BLANK_NODE_DEPTH, -1, -1);
+    }
+
+    public static void setLyoStoreBlankNodeDepth(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_BLANK_NODE_DEPTH, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#LYO_STORE_COUNT_CACHE_TTL
+     * @return the int value of org.eclipse.lyo.oslc4j.storeCountCacheTtl
+     * Default is 0 if not set.
+     */
+    public static int getLyoStoreCountCacheTtl() {
+        return parseNonNegativeIntPropertyOrDefault(OSLC4JConstants.LYO_STORE_COUNT_CACHE_TTL, 0);
+    }
+
+    public static void setLyoStoreCountCacheTtl(int value) {
+        System.setProperty(OSLC4JConstants.LYO_STORE_COUNT_CACHE_TTL, Integer.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#OSLC4J_USE_METHOD_HANDLES
+     * @return the boolean value of org.eclipse.lyo.oslc4j.useMethodHandles
+     * Default is true if not set.
+     */
+    public static boolean useMethodHandles() {
+        return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_USE_METHOD_HANDLES, true);
+    }
+
+    public static void setUseMethodHandles(boolean value) {
+        System.setProperty(OSLC4JConstants.OSLC4J_USE_METHOD_HANDLES, Boolean.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#OSLC4J_USE_GENERATED_ACCESSORS
+     * @return the boolean value of org.eclipse.lyo.oslc4j.useGeneratedAccessors
+     * Default is true if not set.
+     */
+    public static boolean useGeneratedAccessors() {
+        return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_USE_GENERATED_ACCESSORS, true);
+    }
+
+    public static void setUseGeneratedAccessors(boolean value) {
+        System.setProperty(OSLC4JConstants.OSLC4J_USE_GENERATED_ACCESSORS, Boolean.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#OSLC4J_STREAMING_RESPONSES
+     * @return the boolean value of org.eclipse.lyo.oslc4j.streamingResponses
+     * Default is false if not set.
+     */
+    public static boolean useStreamingResponses() {
+        return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_STREAMING_RESPONSES, false);
+    }
+
+    public static void setUseStreamingResponses(boolean value) {
+        System.setProperty(OSLC4JConstants.OSLC4J_STREAMING_RESPONSES, Boolean.toString(value));
+    }
+
+    /**
+     * @see OSLC4JConstants#OSLC4J_STREAMING_FLUSH_INTERVAL
+     * @return the int value of org.eclipse.lyo.oslc4j.streamingFlushInterval
+     * Default is 100 if not set.
+     */
+    public static int getStreamingFlushInterval() {
+        return parseNonNegativeIntPropertyOrDefault(OSLC4JConstants.OSLC4J_STREAMING_FLUSH_INTERVAL, 100);
+    }
+
+    public static void setStreamingFlushInterval(int value) {
+        System.setProperty(OSLC4JConstants.OSLC4J_STREAMING_FLUSH_INTERVAL, Integer.toString(value));
+    }
+
     public static boolean isWellFormed(String xmlLiteral) {
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
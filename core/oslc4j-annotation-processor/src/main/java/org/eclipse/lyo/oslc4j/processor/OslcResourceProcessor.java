@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+
+/**
+ * Generates the {@link IOslcResourceAccessors} of the concrete top-level classes annotated with
+ * {@link OslcResourceShape}, which the Jena provider uses instead of reflection to read and write
+ * their properties.
+ *
+ * <p>The properties are found like the Jena provider finds them at runtime: public getters
+ * (declared or inherited) annotated with {@link OslcPropertyDefinition}, or overriding a getter
+ * annotated so, and their {@code set} companions taking the getter return type. Properties sharing
+ * a property definition are left to reflection.
+ *
+ * <p>The generated accessors are also registered as services in {@value #SERVICES_LOCATION}, so
+ * that they are found by {@link java.util.ServiceLoader}, e.g. in a native image. An incremental
+ * compilation only registers the classes it compiles, in which case the Jena provider still finds
+ * the others by their name.
+ *
+ * <p>When the {@value #INDEX_OPTION} option is {@code true}, the processor also writes the
+ * build-time index of each package holding resource classes, which {@code ResourcePackages} then
+ * reads instead of scanning the package. The index of a package lists the classes of the package
+ * and of its subpackages seen by the compilation, so the option should only be enabled for full
+ * builds of modules that do not share packages with other modules.
+ *
+ * @since 7.0.0
+ */
+@SupportedAnnotationTypes(OslcResourceProcessor.RESOURCE_SHAPE)
+@SupportedOptions(OslcResourceProcessor.INDEX_OPTION)
+public class OslcResourceProcessor extends AbstractProcessor {
+  /** Option enabling the generation of the resource packages index. */
+  public static final String INDEX_OPTION = "oslc4j.resourcePackagesIndex";
+
+  static final String RESOURCE_SHAPE = "org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape";
+
+  /** Same as {@code ResourcePackages.INDEX_LOCATION}. */
+  static final String INDEX_LOCATION = "META-INF/oslc4j/resource-packages/";
+
+  static final String SERVICES_LOCATION =
+      "META-INF/services/org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors";
+
+  private static final String GETTER_PREFIX_GET = "get";
+  private static final String GETTER_PREFIX_IS = "is";
+  private static final String SETTER_PREFIX = "set";
+
+  /** Binary names of the concrete resource classes, by package. */
+  private final Map<String, Set<String>> indexedClasses = new TreeMap<>();
+
+  /** Names of the generated accessors classes. */
+  private final Set<String> generatedClasses = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    final TypeElement resourceShape =
+        processingEnv.getElementUtils().getTypeElement(OslcResourceShape.class.getCanonicalName());
+    if (resourceShape != null) {
+      for (final Element element : roundEnv.getElementsAnnotatedWith(resourceShape)) {
+        if (element.getKind() != ElementKind.CLASS
+            || element.getModifiers().contains(Modifier.ABSTRACT)) {
+          continue;
+        }
+        final TypeElement type = (TypeElement) element;
+        final String packageName =
+            processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        indexedClasses
+            .computeIfAbsent(packageName, k -> new TreeSet<>())
+            .add(processingEnv.getElementUtils().getBinaryName(type).toString());
+
+        if (type.getNestingKind() == NestingKind.TOP_LEVEL) {
+          generateAccessors(packageName, type);
+        }
+      }
+    }
+
+    if (roundEnv.processingOver()) {
+      if (!generatedClasses.isEmpty()) {
+        writeServices();
+      }
+      if (Boolean.parseBoolean(processingEnv.getOptions().get(INDEX_OPTION))) {
+        writeIndex();
+      }
+    }
+    return false;
+  }
+
+  private void generateAccessors(final String packageName, final TypeElement type) {
+    final List<Property> properties = findProperties(type);
+    final String simpleName =
+        type.getSimpleName() + IOslcResourceAccessors.CLASS_NAME_SUFFIX;
+    final String qualifiedName =
+        packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    final Elements elements = processingEnv.getElementUtils();
+    final String beanType = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+    try (PrintWriter out =
+        new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())) {
+      if (!packageName.isEmpty()) {
+        out.println("package " + packageName + ";");
+        out.println();
+      }
+      out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+      out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+      out.println("public final class " + simpleName + " implements "
+          + IOslcResourceAccessors.class.getName() + " {");
+      out.println("  private static final java.util.List<String> PROPERTY_DEFINITIONS =");
+      out.print("      java.util.List.of(");
+      for (int index = 0; index < properties.size(); index++) {
+        out.print(index == 0 ? "" : ",");
+        out.println();
+        out.print("          " + elements.getConstantExpression(properties.get(index).definition));
+      }
+      out.println(");");
+      out.println();
+      out.println("  @Override");
+      out.println("  public java.util.List<String> getPropertyDefinitions() {");
+      out.println("    return PROPERTY_DEFINITIONS;");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public boolean isWritable(final int index) {");
+      out.println("    switch (index) {");
+      for (int index = 0; index < properties.size(); index++) {
+        if (properties.get(index).setter != null) {
+          out.println("      case " + index + ":");
+        }
+      }
+      if (properties.stream().anyMatch(property -> property.setter != null)) {
+        out.println("        return true;");
+      }
+      out.println("      default:");
+      out.println("        return false;");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public Object getValue(final Object resource, final int index) throws Exception {");
+      out.println("    final " + beanType + " bean = (" + beanType + ") resource;");
+      out.println("    switch (index) {");
+      for (int index = 0; index < properties.size(); index++) {
+        out.println("      case " + index + ":");
+        out.println("        return bean." + properties.get(index).getter + "();");
+      }
+      out.println("      default:");
+      out.println("        throw new IndexOutOfBoundsException(index);");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public void setValue(final Object resource, final int index, final Object value)");
+      out.println("      throws Exception {");
+      out.println("    final " + beanType + " bean = (" + beanType + ") resource;");
+      out.println("    switch (index) {");
+      for (int index = 0; index < properties.size(); index++) {
+        final Property property = properties.get(index);
+        if (property.setter != null) {
+          out.println("      case " + index + ":");
+          out.println("        bean." + property.setter + "((" + property.type + ") value);");
+          out.println("        return;");
+        }
+      }
+      out.println("      default:");
+      out.println("        throw new IndexOutOfBoundsException(index);");
+      out.println("    }");
+      out.println("  }");
+      out.println("}");
+      generatedClasses.add(qualifiedName);
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR, "Cannot write " + qualifiedName + ": " + e.getMessage(), type);
+    }
+  }
+
+  /**
+   * @return the properties of the class, excluding those sharing a property definition
+   */
+  private List<Property> findProperties(final TypeElement type) {
+    final Elements elements = processingEnv.getElementUtils();
+    final Types types = processingEnv.getTypeUtils();
+    final List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(type));
+
+    final Map<String, Property> properties = new TreeMap<>();
+    final Map<String, Integer> counts = new HashMap<>();
+    for (final ExecutableElement method : methods) {
+      if (!isGetter(method)) {
+        continue;
+      }
+      final String definition = findPropertyDefinition(type, method);
+      if (definition == null) {
+        continue;
+      }
+      counts.merge(definition, 1, Integer::sum);
+
+      final String name = method.getSimpleName().toString();
+      final String setterName =
+          SETTER_PREFIX
+              + name.substring(
+                  name.startsWith(GETTER_PREFIX_GET)
+                      ? GETTER_PREFIX_GET.length()
+                      : GETTER_PREFIX_IS.length());
+      final TypeMirror returnType = types.erasure(method.getReturnType());
+      String setter = null;
+      for (final ExecutableElement candidate : methods) {
+        if (candidate.getSimpleName().contentEquals(setterName)
+            && candidate.getModifiers().contains(Modifier.PUBLIC)
+            && !candidate.getModifiers().contains(Modifier.STATIC)
+            && candidate.getParameters().size() == 1
+            && types.isSameType(
+                types.erasure(candidate.getParameters().get(0).asType()), returnType)) {
+          setter = setterName;
+          break;
+        }
+      }
+      properties.put(definition, new Property(definition, name, setter, returnType.toString()));
+    }
+
+    final List<Property> result = new ArrayList<>();
+    for (final Property property : properties.values()) {
+      if (counts.get(property.definition) == 1) {
+        result.add(property);
+      } else {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.NOTE,
+                "Property " + property.definition + " has several getters, using reflection",
+                type);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return true for a public instance method named {@code getX} or {@code isX} without parameters
+   */
+  private static boolean isGetter(final ExecutableElement method) {
+    final String name = method.getSimpleName().toString();
+    return method.getModifiers().contains(Modifier.PUBLIC)
+        && !method.getModifiers().contains(Modifier.STATIC)
+        && method.getParameters().isEmpty()
+        && method.getReturnType().getKind() != TypeKind.VOID
+        && ((name.startsWith(GETTER_PREFIX_GET) && name.length() > GETTER_PREFIX_GET.length())
+            || (name.startsWith(GETTER_PREFIX_IS) && name.length() > GETTER_PREFIX_IS.length()));
+  }
+
+  /**
+   * Finds the {@link OslcPropertyDefinition} of a getter, or of a getter of a supertype that it
+   * overrides.
+   *
+   * @return the property definition, or null if there is none
+   */
+  private String findPropertyDefinition(final TypeElement type, final ExecutableElement getter) {
+    final String definition = getPropertyDefinition(getter);
+    if (definition != null) {
+      return definition;
+    }
+    for (final TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+      final TypeElement superElement = (TypeElement) ((DeclaredType) supertype).asElement();
+      for (final ExecutableElement method :
+          ElementFilter.methodsIn(superElement.getEnclosedElements())) {
+        if (method.getSimpleName().contentEquals(getter.getSimpleName())
+            && method.getParameters().isEmpty()) {
+          final String superDefinition = getPropertyDefinition(method);
+          if (superDefinition != null) {
+            return superDefinition;
+          }
+        }
+      }
+      final String superDefinition = findPropertyDefinition(superElement, getter);
+      if (superDefinition != null) {
+        return superDefinition;
+      }
+    }
+    return null;
+  }
+
+  private static String getPropertyDefinition(final ExecutableElement method) {
+    for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+      final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+      if (annotationType
+          .getQualifiedName()
+          .contentEquals(OslcPropertyDefinition.class.getCanonicalName())) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            annotation.getElementValues().entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals("value")) {
+            return (String) entry.getValue().getValue();
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private void writeServices() {
+    try {
+      final FileObject file =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_LOCATION);
+      try (Writer writer = file.openWriter()) {
+        writer.write("# Generated by " + getClass().getName() + "\n");
+        for (final String className : generatedClasses) {
+          writer.write(className + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Cannot register the generated accessors: " + e.getMessage());
+    }
+  }
+
+  private void writeIndex() {
+    for (final String packageName : indexedClasses.keySet()) {
+      final Set<String> classes = new TreeSet<>();
+      indexedClasses.forEach(
+          (name, names) -> {
+            if (name.equals(packageName) || name.startsWith(packageName + ".")) {
+              classes.addAll(names);
+            }
+          });
+      try {
+        final FileObject file =
+            processingEnv
+                .getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION + packageName);
+        try (Writer writer = file.openWriter()) {
+          writer.write("# Generated by " + getClass().getName() + "\n");
+          for (final String className : classes) {
+            writer.write(className + "\n");
+          }
+        }
+      } catch (final IOException e) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.ERROR,
+                "Cannot write the index of package " + packageName + ": " + e.getMessage());
+      }
+    }
+  }
+
+  /** A property of a resource class. */
+  private static final class Property {
+    private final String definition;
+    private final String getter;
+    private final String setter;
+    private final String type;
+
+    private Property(
+        final String definition, final String getter, final String setter, final String type) {
+      this.definition = definition;
+      this.getter = getter;
+      this.setter = setter;
+      this.type = type;
+    }
+  }
+}
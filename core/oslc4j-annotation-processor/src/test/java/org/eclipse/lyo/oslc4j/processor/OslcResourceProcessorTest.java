@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.processor;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OslcResourceProcessorTest {
+  private static final String NS = "http://example.com/ns#";
+
+  private static final String NAMED =
+      "package example;\n"
+          + "import org.eclipse.lyo.oslc4j.core.annotation.*;\n"
+          + "public interface Named {\n"
+          + "  @OslcPropertyDefinition(\"" + NS + "name\")\n"
+          + "  String getName();\n"
+          + "}\n";
+
+  private static final String THING =
+      "package example;\n"
+          + "import java.util.*;\n"
+          + "import org.eclipse.lyo.oslc4j.core.annotation.*;\n"
+          + "import org.eclipse.lyo.oslc4j.core.model.Link;\n"
+          + "@OslcNamespace(\"" + NS + "\")\n"
+          + "@OslcResourceShape(title = \"Thing\")\n"
+          + "public class Thing implements Named {\n"
+          + "  private String name;\n"
+          + "  private int count;\n"
+          + "  private Set<Link> links = new HashSet<>();\n"
+          + "  public String getName() { return name; }\n"
+          + "  public void setName(String name) { this.name = name; }\n"
+          + "  @OslcPropertyDefinition(\"" + NS + "count\")\n"
+          + "  public int getCount() { return count; }\n"
+          + "  public void setCount(int count) { this.count = count; }\n"
+          + "  @OslcPropertyDefinition(\"" + NS + "links\")\n"
+          + "  public Set<Link> getLinks() { return links; }\n"
+          + "  public void setLinks(Set<Link> links) { this.links = links; }\n"
+          + "  @OslcPropertyDefinition(\"" + NS + "readOnly\")\n"
+          + "  public String getReadOnly() { return \"constant\"; }\n"
+          + "  public String getUnmapped() { return null; }\n"
+          + "}\n";
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testGeneratedAccessors() throws Exception {
+    final Path output = compile(List.of());
+
+    try (URLClassLoader loader =
+        new URLClassLoader(
+            new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+      final Class<?> thingClass = loader.loadClass("example.Thing");
+      final IOslcResourceAccessors accessors =
+          (IOslcResourceAccessors)
+              loader
+                  .loadClass("example.Thing" + IOslcResourceAccessors.CLASS_NAME_SUFFIX)
+                  .getDeclaredConstructor()
+                  .newInstance();
+
+      final List<String> definitions = accessors.getPropertyDefinitions();
+      assertEquals(
+          List.of(NS + "count", NS + "links", NS + "name", NS + "readOnly"), definitions);
+      assertTrue(accessors.isWritable(definitions.indexOf(NS + "name")));
+      assertFalse(accessors.isWritable(definitions.indexOf(NS + "readOnly")));
+
+      final Object thing = thingClass.getDeclaredConstructor().newInstance();
+      accessors.setValue(thing, definitions.indexOf(NS + "name"), "A");
+      accessors.setValue(thing, definitions.indexOf(NS + "count"), 2);
+      accessors.setValue(
+          thing, definitions.indexOf(NS + "links"), Set.of(new Link(URI.create(NS + "l"))));
+
+      assertEquals("A", accessors.getValue(thing, definitions.indexOf(NS + "name")));
+      assertEquals(2, accessors.getValue(thing, definitions.indexOf(NS + "count")));
+      assertEquals(
+          Set.of(new Link(URI.create(NS + "l"))),
+          accessors.getValue(thing, definitions.indexOf(NS + "links")));
+      assertEquals("constant", accessors.getValue(thing, definitions.indexOf(NS + "readOnly")));
+    }
+    assertFalse(Files.exists(output.resolve(OslcResourceProcessor.INDEX_LOCATION + "example")));
+
+    final List<String> services =
+        Files.readAllLines(
+            output.resolve(OslcResourceProcessor.SERVICES_LOCATION), StandardCharsets.UTF_8);
+    assertEquals(
+        List.of("example.Thing" + IOslcResourceAccessors.CLASS_NAME_SUFFIX),
+        services.subList(1, services.size()));
+    assertEquals(
+        IOslcResourceAccessors.class.getName(),
+        Path.of(OslcResourceProcessor.SERVICES_LOCATION).getFileName().toString());
+  }
+
+  @Test
+  public void testResourcePackagesIndex() throws Exception {
+    final Path output = compile(List.of("-A" + OslcResourceProcessor.INDEX_OPTION + "=true"));
+
+    final List<String> lines =
+        Files.readAllLines(
+            output.resolve(OslcResourceProcessor.INDEX_LOCATION + "example"),
+            StandardCharsets.UTF_8);
+    assertEquals(List.of("example.Thing"), lines.subList(1, lines.size()));
+  }
+
+  private Path compile(final List<String> options) throws IOException {
+    final Path output = folder.newFolder().toPath();
+    final String classpath =
+        new File(OslcResourceShape.class.getProtectionDomain().getCodeSource().getLocation().getPath())
+            .getPath();
+
+    final List<String> arguments = new ArrayList<>(options);
+    arguments.addAll(List.of("-classpath", classpath, "-d", output.toString()));
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final JavaCompiler.CompilationTask task =
+        compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            arguments,
+            null,
+            List.of(new Source("example/Named", NAMED), new Source("example/Thing", THING)));
+    task.setProcessors(List.of(new OslcResourceProcessor()));
+
+    final boolean success = task.call();
+    for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      assertNotEquals(diagnostic.toString(), Diagnostic.Kind.ERROR, diagnostic.getKind());
+    }
+    assertTrue(success);
+    return output;
+  }
+
+  private static final class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    private Source(final String name, final String code) {
+      super(URI.create("string:///" + name + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+}
@@ -17,8 +17,6 @@ import java.io.StringWriter;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -40,7 +38,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Optional;
@@ -83,42 +80,36 @@ import org.apache.jena.rdf.model.Seq;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.rdf.model.impl.ReifierStd;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFOps;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
 import org.eclipse.lyo.oslc4j.core.NestedWildcardProperties;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
-import org.eclipse.lyo.oslc4j.core.OslcGlobalNamespaceProvider;
 import org.eclipse.lyo.oslc4j.core.SingletonWildcardProperties;
 import org.eclipse.lyo.oslc4j.core.UnparseableLiteral;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespaceDefinition;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcRdfCollectionType;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreInvalidPropertyDefinitionException;
-import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMisusedOccursException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreRelativeURIException;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
 import org.eclipse.lyo.oslc4j.core.model.AnyResource;
 import org.eclipse.lyo.oslc4j.core.model.FilteredResource;
 import org.eclipse.lyo.oslc4j.core.model.IExtendedResource;
-import org.eclipse.lyo.oslc4j.core.model.IOslcCustomNamespaceProvider;
 import org.eclipse.lyo.oslc4j.core.model.IReifiedResource;
 import org.eclipse.lyo.oslc4j.core.model.IResource;
-import org.eclipse.lyo.oslc4j.core.model.InheritedMethodAnnotationHelper;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
 import org.eclipse.lyo.oslc4j.core.model.ResponseInfo;
 import org.eclipse.lyo.oslc4j.core.model.TypeFactory;
-import org.eclipse.lyo.oslc4j.core.model.ValueType;
 import org.eclipse.lyo.oslc4j.core.model.XMLLiteral;
+import org.eclipse.lyo.oslc4j.provider.jena.ResourceClassMetadata.PropertyMetadata;
+import org.eclipse.lyo.oslc4j.provider.jena.ResourceClassMetadata.SetterMetadata;
 import org.eclipse.lyo.oslc4j.provider.jena.ordfm.ResourcePackages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -136,13 +127,6 @@ public final class JenaModelHelper {
   private static final String RDF_BAG = "Bag";
   private static final String RDF_SEQ = "Seq";
 
-  private static final String METHOD_NAME_START_GET = "get";
-  private static final String METHOD_NAME_START_IS = "is";
-  private static final String METHOD_NAME_START_SET = "set";
-
-  private static final int METHOD_NAME_START_GET_LENGTH = METHOD_NAME_START_GET.length();
-  private static final int METHOD_NAME_START_IS_LENGTH = METHOD_NAME_START_IS.length();
-
   private static final String GENERATED_PREFIX_START = "j.";
 
   /**
@@ -184,6 +168,106 @@ public final class JenaModelHelper {
 
     final Model model = ModelFactory.createDefaultModel();
 
+    final Resource descriptionResource =
+        createResponseResources(
+            model, descriptionAbout, responseInfoAbout, responseInfo, objects.length, properties);
+
+    for (final Object object : objects) {
+      handleSingleResource(descriptionResource, object, model, properties);
+    }
+
+    // Set the namespace prefixes
+    model.setNsPrefixes(
+        NamespacePrefixTable.of(objects, descriptionAbout != null, responseInfoAbout != null));
+
+    Instant finish = Instant.now();
+    logger.trace(
+        "createJenaModel - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
+    return model;
+  }
+
+  /**
+   * Streaming counterpart of {@link #createJenaModel(String, String, ResponseInfo, Object[],
+   * Map)}.
+   *
+   * <p>Each object is marshalled into a model of its own, whose triples are sent to the stream
+   * before the next object is processed. Memory use is therefore bounded by the largest object
+   * rather than by the whole response. Namespace prefixes are sent first.
+   * Triples shared by several objects (e.g. common inline resources) may be emitted more than
+   * once.
+   *
+   * @param descriptionAbout URI of the query result description, or null if the objects are not
+   *     the members of a query result
+   * @param responseInfoAbout URI of the response info, or null if there is none
+   * @param responseInfo paging and total count of the query result, may be null
+   * @param objects the resources to marshal
+   * @param properties the properties to marshal for each object, or null for all of them, as
+   *     selected by {@code oslc.properties} or {@code oslc.select}
+   * @param stream destination of the triples; {@link StreamRDF#start()} and {@link
+   *     StreamRDF#finish()} are called by this method
+   * @since 7.0.0
+   */
+  public static void writeJenaModel(
+      final String descriptionAbout,
+      final String responseInfoAbout,
+      final ResponseInfo<?> responseInfo,
+      final Object[] objects,
+      final Map<String, Object> properties,
+      final StreamRDF stream)
+      throws DatatypeConfigurationException,
+          IllegalAccessException,
+          IllegalArgumentException,
+          InvocationTargetException,
+          OslcCoreApplicationException {
+
+    Instant start = Instant.now();
+
+    final Map<String, String> namespaceMappings =
+        NamespacePrefixTable.of(objects, descriptionAbout != null, responseInfoAbout != null);
+
+    stream.start();
+
+    final Model header = ModelFactory.createDefaultModel();
+    final Resource descriptionResource =
+        createResponseResources(
+            header, descriptionAbout, responseInfoAbout, responseInfo, objects.length, properties);
+    namespaceMappings.forEach(stream::prefix);
+    StreamRDFOps.sendTriplesToStream(header.getGraph(), stream);
+
+    for (final Object object : objects) {
+      final Model model = ModelFactory.createDefaultModel();
+      final Resource memberOf =
+          descriptionResource == null ? null : model.createResource(descriptionAbout);
+
+      handleSingleResource(memberOf, object, model, properties);
+
+      StreamRDFOps.sendTriplesToStream(model.getGraph(), stream);
+    }
+
+    stream.finish();
+
+    Instant finish = Instant.now();
+    logger.trace(
+        "writeJenaModel - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
+  }
+
+  /**
+   * Adds the query result description resource (the container of the members) and the
+   * ResponseInfo resource to the model.
+   *
+   * @return the description resource, or null if there is none
+   */
+  private static Resource createResponseResources(
+      final Model model,
+      final String descriptionAbout,
+      final String responseInfoAbout,
+      final ResponseInfo<?> responseInfo,
+      final int objectCount,
+      final Map<String, Object> properties)
+      throws DatatypeConfigurationException,
+          IllegalAccessException,
+          InvocationTargetException,
+          OslcCoreApplicationException {
     Resource descriptionResource = null;
 
     if (descriptionAbout != null) {
@@ -209,7 +293,7 @@ public final class JenaModelHelper {
 
         if (responseInfo != null) {
           final int totalCount =
-              responseInfo.totalCount() == null ? objects.length : responseInfo.totalCount();
+              responseInfo.totalCount() == null ? objectCount : responseInfo.totalCount();
           responseInfoResource.addProperty(
               model.createProperty(OslcConstants.OSLC_CORE_NAMESPACE, PROPERTY_TOTAL_COUNT),
               model.createTypedLiteral(totalCount));
@@ -232,48 +316,13 @@ public final class JenaModelHelper {
       }
     }
 
-    // add global namespace mappings
-    final Map<String, String> namespaceMappings =
-        new HashMap<>(OslcGlobalNamespaceProvider.getInstance().getPrefixDefinitionMap());
-
-    for (final Object object : objects) {
-      handleSingleResource(descriptionResource, object, model, namespaceMappings, properties);
-    }
-
-    if (descriptionAbout != null) {
-      // Ensure we have an rdf prefix
-      ensureNamespacePrefix(
-          OslcConstants.RDF_NAMESPACE_PREFIX, OslcConstants.RDF_NAMESPACE, namespaceMappings);
-
-      // Ensure we have an rdfs prefix
-      ensureNamespacePrefix(
-          OslcConstants.RDFS_NAMESPACE_PREFIX, OslcConstants.RDFS_NAMESPACE, namespaceMappings);
-
-      if (responseInfoAbout != null) {
-        // Ensure we have an oslc prefix
-        ensureNamespacePrefix(
-            OslcConstants.OSLC_CORE_NAMESPACE_PREFIX,
-            OslcConstants.OSLC_CORE_NAMESPACE,
-            namespaceMappings);
-      }
-    }
-
-    // Set the namespace prefixes
-    for (final Map.Entry<String, String> namespaceMapping : namespaceMappings.entrySet()) {
-      model.setNsPrefix(namespaceMapping.getKey(), namespaceMapping.getValue());
-    }
-
-    Instant finish = Instant.now();
-    logger.trace(
-        "createJenaModel - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
-    return model;
+    return descriptionResource;
   }
 
   private static void handleSingleResource(
       final Resource descriptionResource,
       final Object object,
       final Model model,
-      final Map<String, String> namespaceMappings,
       final Map<String, Object> properties)
       throws DatatypeConfigurationException,
           IllegalAccessException,
@@ -282,9 +331,6 @@ public final class JenaModelHelper {
           OslcCoreApplicationException {
     final Class<?> objectClass = object.getClass();
 
-    // Collect the namespace prefix -> namespace mappings
-    recursivelyCollectNamespaceMappings(namespaceMappings, objectClass);
-
     final Resource mainResource;
 
     if (object instanceof URI) {
@@ -305,8 +351,9 @@ public final class JenaModelHelper {
         mainResource = model.createResource();
       }
 
-      if (objectClass.getAnnotation(OslcResourceShape.class) != null) {
-        String qualifiedName = TypeFactory.getQualifiedName(objectClass);
+      final ResourceClassMetadata metadata = ResourceClassMetadata.of(objectClass);
+      if (metadata.isResourceShape()) {
+        String qualifiedName = metadata.getQualifiedName();
         if (qualifiedName != null) {
           mainResource.addProperty(RDF.type, model.createResource(qualifiedName));
         }
@@ -384,16 +431,9 @@ public final class JenaModelHelper {
       beanClass = mostConcreteResourceClass.get();
     }
     final Object newInstance = beanClass.getDeclaredConstructor().newInstance();
-    final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods = new HashMap<>();
     final Map<String, Object> visitedResources = new HashMap<>();
     final HashSet<String> rdfTypes = new HashSet<>();
-    fromResource(
-        classPropertyDefinitionsToSetMethods,
-        beanClass,
-        newInstance,
-        resource,
-        visitedResources,
-        rdfTypes);
+    fromResource(beanClass, newInstance, resource, visitedResources, rdfTypes);
 
     return newInstance;
   }
@@ -538,8 +578,6 @@ public final class JenaModelHelper {
           NoSuchMethodException {
     if (null != listSubjects) {
       ResourcePackages.mapPackage(beanClass.getPackage());
-      final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods =
-          new HashMap<>();
       Class<?> originalBeanClass = beanClass;
       for (final Resource resource : listSubjects) {
         beanClass = originalBeanClass;
@@ -555,13 +593,7 @@ public final class JenaModelHelper {
         final Map<String, Object> visitedResources = new HashMap<>();
         final HashSet<String> rdfTypes = new HashSet<>();
 
-        fromResource(
-            classPropertyDefinitionsToSetMethods,
-            beanClass,
-            newInstance,
-            resource,
-            visitedResources,
-            rdfTypes);
+        fromResource(beanClass, newInstance, resource, visitedResources, rdfTypes);
 
         results.add(newInstance);
       }
@@ -572,7 +604,6 @@ public final class JenaModelHelper {
 
   @SuppressWarnings("unchecked")
   private static void fromResource(
-      final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods,
       final Class<?> beanClass,
       final Object bean,
       final Resource resource,
@@ -587,12 +618,8 @@ public final class JenaModelHelper {
           URISyntaxException,
           SecurityException,
           NoSuchMethodException {
-    Map<String, Method> setMethodMap = classPropertyDefinitionsToSetMethods.get(beanClass);
-    if (setMethodMap == null) {
-      setMethodMap = createPropertyDefinitionToSetMethods(beanClass);
-
-      classPropertyDefinitionsToSetMethods.put(beanClass, setMethodMap);
-    }
+    final Map<String, SetterMetadata> setMethodMap =
+        ResourceClassMetadata.of(beanClass).getSetters();
 
     visitedResources.put(getVisitedResourceName(resource), bean);
 
@@ -640,9 +667,9 @@ public final class JenaModelHelper {
       final Property predicate = statement.getPredicate();
       final RDFNode object = statement.getObject();
       final String uri = predicate.getURI();
-      final Method setMethod = setMethodMap.get(uri);
+      final SetterMetadata setter = setMethodMap.get(uri);
 
-      if (setMethod == null) {
+      if (setter == null) {
         if (RDF_TYPE_URI.equals(uri)) {
           if (extendedResource != null) {
             final URI type = new URI(object.asResource().getURI());
@@ -681,29 +708,8 @@ public final class JenaModelHelper {
           }
         }
       } else {
-
-        Class<?> setMethodComponentParameterClass = setMethod.getParameterTypes()[0];
-
-        boolean multiple = setMethodComponentParameterClass.isArray();
-
-        if (multiple) {
-          setMethodComponentParameterClass = setMethodComponentParameterClass.getComponentType();
-        } else if (Collection.class.isAssignableFrom(setMethodComponentParameterClass)) {
-          multiple = true;
-
-          final Type genericParameterType = setMethod.getGenericParameterTypes()[0];
-
-          if (genericParameterType instanceof ParameterizedType) {
-            final ParameterizedType parameterizedType = (ParameterizedType) genericParameterType;
-            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-            if (actualTypeArguments.length == 1) {
-              final Type actualTypeArgument = actualTypeArguments[0];
-              if (actualTypeArgument instanceof Class) {
-                setMethodComponentParameterClass = (Class<?>) actualTypeArgument;
-              }
-            }
-          }
-        }
+        final Method setMethod = setter.getSetter();
+        final boolean multiple = setter.isMultiple();
 
         final List<RDFNode> objects;
         if (multiple
@@ -747,22 +753,8 @@ public final class JenaModelHelper {
           }
         }
 
-        Class<?> reifiedClass = null;
-        if (IReifiedResource.class.isAssignableFrom(setMethodComponentParameterClass)) {
-          reifiedClass = setMethodComponentParameterClass;
-          final Type genericType = setMethodComponentParameterClass.getGenericSuperclass();
-
-          if (genericType instanceof ParameterizedType) {
-            final ParameterizedType parameterizedType = (ParameterizedType) genericType;
-            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-            if (actualTypeArguments.length == 1) {
-              final Type actualTypeArgument = actualTypeArguments[0];
-              if (actualTypeArgument instanceof Class) {
-                setMethodComponentParameterClass = (Class<?>) actualTypeArgument;
-              }
-            }
-          }
-        }
+        final Class<?> reifiedClass = setter.getReifiedClass();
+        final Class<?> setMethodComponentParameterClass = setter.getValueClass();
 
         for (RDFNode o : objects) {
           Object parameter = null;
@@ -839,12 +831,7 @@ public final class JenaModelHelper {
                       : setMethodComponentParameterClass;
               final Object nestedBean = resourceClass.getDeclaredConstructor().newInstance();
               fromResource(
-                  classPropertyDefinitionsToSetMethods,
-                  nestedBean.getClass(),
-                  nestedBean,
-                  nestedResource,
-                  visitedResources,
-                  rdfTypes);
+                  nestedBean.getClass(), nestedBean, nestedResource, visitedResources, rdfTypes);
 
               parameter = nestedBean;
             }
@@ -877,12 +864,7 @@ public final class JenaModelHelper {
                 Node reifiedNode = reifiedTriplesIter.next();
                 Resource reifiedStatement = getResource(statement.getModel(), reifiedNode);
                 fromResource(
-                    classPropertyDefinitionsToSetMethods,
-                    reifiedClass,
-                    reifiedResource,
-                    reifiedStatement,
-                    visitedResources,
-                    rdfTypes);
+                    reifiedClass, reifiedResource, reifiedStatement, visitedResources, rdfTypes);
               }
 
               parameter = reifiedResource;
@@ -898,7 +880,7 @@ public final class JenaModelHelper {
                 throw new OslcCoreMisusedOccursException(beanClass, setMethod);
               }
 
-              setMethod.invoke(bean, parameter);
+              setter.setValue(bean, parameter);
 
               singleValueMethodsUsed.add(setMethod);
             }
@@ -912,8 +894,8 @@ public final class JenaModelHelper {
         propertyDefinitionsToArrayValues.entrySet()) {
       final String uri = propertyDefinitionToArrayValues.getKey();
       final List<Object> values = propertyDefinitionToArrayValues.getValue();
-      final Method setMethod = setMethodMap.get(uri);
-      final Class<?> parameterClass = setMethod.getParameterTypes()[0];
+      final SetterMetadata setter = setMethodMap.get(uri);
+      final Class<?> parameterClass = setter.getParameterClass();
 
       if (parameterClass.isArray()) {
         final Class<?> setMethodComponentParameterClass = parameterClass.getComponentType();
@@ -928,7 +910,7 @@ public final class JenaModelHelper {
           Array.set(array, index++, value);
         }
 
-        setMethod.invoke(bean, array);
+        setter.setValue(bean, array);
       }
       // Else - we are dealing with a collection or a subclass of collection
       else {
@@ -961,7 +943,7 @@ public final class JenaModelHelper {
 
         collection.addAll(values);
 
-        setMethod.invoke(bean, collection);
+        setter.setValue(bean, collection);
       }
     }
   }
@@ -1129,15 +1111,7 @@ public final class JenaModelHelper {
     if ((nestedResource.getURI() == null || nestedResource.listProperties().hasNext())
         && (!visitedResources.containsKey(getVisitedResourceName(nestedResource)))) {
       final AbstractResource any = new AnyResource();
-      final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods =
-          new HashMap<>();
-      fromResource(
-          classPropertyDefinitionsToSetMethods,
-          AnyResource.class,
-          any,
-          nestedResource,
-          visitedResources,
-          rdfTypes);
+      fromResource(AnyResource.class, any, nestedResource, visitedResources, rdfTypes);
 
       return any;
     }
@@ -1155,51 +1129,6 @@ public final class JenaModelHelper {
     }
   }
 
-  private static Map<String, Method> createPropertyDefinitionToSetMethods(final Class<?> beanClass)
-      throws OslcCoreApplicationException {
-    final Map<String, Method> result = new HashMap<>();
-
-    final Method[] methods = beanClass.getMethods();
-
-    for (final Method method : methods) {
-      if (method.getParameterTypes().length == 0) {
-        final String getMethodName = method.getName();
-
-        if (((getMethodName.startsWith(METHOD_NAME_START_GET))
-                && (getMethodName.length() > METHOD_NAME_START_GET_LENGTH))
-            || ((getMethodName.startsWith(METHOD_NAME_START_IS))
-                && (getMethodName.length() > METHOD_NAME_START_IS_LENGTH))) {
-          final OslcPropertyDefinition oslcPropertyDefinitionAnnotation =
-              InheritedMethodAnnotationHelper.getAnnotation(method, OslcPropertyDefinition.class);
-
-          if (oslcPropertyDefinitionAnnotation != null) {
-            // We need to find the set companion setMethod
-            final String setMethodName;
-            if (getMethodName.startsWith(METHOD_NAME_START_GET)) {
-              setMethodName =
-                  METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_GET_LENGTH);
-            } else {
-              setMethodName =
-                  METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_IS_LENGTH);
-            }
-
-            final Class<?> getMethodReturnType = method.getReturnType();
-
-            try {
-              final Method setMethod = beanClass.getMethod(setMethodName, getMethodReturnType);
-
-              result.put(oslcPropertyDefinitionAnnotation.value(), setMethod);
-            } catch (final NoSuchMethodException exception) {
-              throw new OslcCoreMissingSetMethodException(beanClass, method, exception);
-            }
-          }
-        }
-      }
-    }
-
-    return result;
-  }
-
   private static void buildResource(
       final Object object,
       final Class<?> resourceClass,
@@ -1215,55 +1144,33 @@ public final class JenaModelHelper {
       return;
     }
 
-    for (final Method method : resourceClass.getMethods()) {
-      if (method.getParameterTypes().length == 0) {
-        final String methodName = method.getName();
-
-        if (((methodName.startsWith(METHOD_NAME_START_GET))
-                && (methodName.length() > METHOD_NAME_START_GET_LENGTH))
-            || ((methodName.startsWith(METHOD_NAME_START_IS))
-                && (methodName.length() > METHOD_NAME_START_IS_LENGTH))) {
-          final OslcPropertyDefinition oslcPropertyDefinitionAnnotation =
-              InheritedMethodAnnotationHelper.getAnnotation(method, OslcPropertyDefinition.class);
-
-          if (oslcPropertyDefinitionAnnotation != null) {
-            final Object value = method.invoke(object);
-
-            if (value != null) {
-              Map<String, Object> nestedProperties = null;
-              boolean onlyNested = false;
-
-              if (properties != null) {
-                @SuppressWarnings("unchecked")
-                final Map<String, Object> map =
-                    (Map<String, Object>) properties.get(oslcPropertyDefinitionAnnotation.value());
-
-                if (map != null) {
-                  nestedProperties = map;
-                } else if (properties instanceof SingletonWildcardProperties
-                    && !(properties instanceof NestedWildcardProperties)) {
-                  nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
-                } else if (properties instanceof NestedWildcardProperties) {
-                  nestedProperties =
-                      ((NestedWildcardProperties) properties).commonNestedProperties();
-                  onlyNested = !(properties instanceof SingletonWildcardProperties);
-                } else {
-                  continue;
-                }
-              }
-
-              buildAttributeResource(
-                  resourceClass,
-                  method,
-                  oslcPropertyDefinitionAnnotation,
-                  model,
-                  mainResource,
-                  value,
-                  nestedProperties,
-                  onlyNested);
-            }
+    for (final PropertyMetadata property : ResourceClassMetadata.of(resourceClass).getProperties()) {
+      final Object value = property.getValue(object);
+
+      if (value != null) {
+        Map<String, Object> nestedProperties = null;
+        boolean onlyNested = false;
+
+        if (properties != null) {
+          @SuppressWarnings("unchecked")
+          final Map<String, Object> map =
+              (Map<String, Object>) properties.get(property.getPropertyDefinition());
+
+          if (map != null) {
+            nestedProperties = map;
+          } else if (properties instanceof SingletonWildcardProperties
+              && !(properties instanceof NestedWildcardProperties)) {
+            nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
+          } else if (properties instanceof NestedWildcardProperties) {
+            nestedProperties = ((NestedWildcardProperties) properties).commonNestedProperties();
+            onlyNested = !(properties instanceof SingletonWildcardProperties);
+          } else {
+            continue;
           }
         }
+
+        buildAttributeResource(
+            resourceClass, property, model, mainResource, value, nestedProperties, onlyNested);
       }
     }
 
@@ -1435,7 +1342,7 @@ public final class JenaModelHelper {
         resource.addProperty(property, visitedResources.get(any));
       }
 
-    } else if (value.getClass().getAnnotation(OslcResourceShape.class) != null
+    } else if (ResourceClassMetadata.of(value.getClass()).isResourceShape()
         || value instanceof URI
         || value instanceof IReifiedResource) {
       // TODO:	 Until we handle XMLLiteral for incoming unknown resources, need to assume it is
@@ -1565,8 +1472,7 @@ public final class JenaModelHelper {
 
   private static void buildAttributeResource(
       final Class<?> resourceClass,
-      final Method method,
-      final OslcPropertyDefinition propertyDefinitionAnnotation,
+      final PropertyMetadata property,
       final Model model,
       Resource resource,
       final Object value,
@@ -1577,34 +1483,19 @@ public final class JenaModelHelper {
           IllegalArgumentException,
           InvocationTargetException,
           OslcCoreApplicationException {
-    final String propertyDefinition = propertyDefinitionAnnotation.value();
+    final Method method = property.getGetter();
 
-    final OslcName nameAnnotation =
-        InheritedMethodAnnotationHelper.getAnnotation(method, OslcName.class);
-
-    final String name;
-    if (nameAnnotation != null) {
-      name = nameAnnotation.value();
-    } else {
-      name = getDefaultPropertyName(method);
-    }
-
-    if (!propertyDefinition.endsWith(name)) {
+    if (!property.hasValidName()) {
       throw new OslcCoreInvalidPropertyDefinitionException(
-          resourceClass, method, propertyDefinitionAnnotation);
+          resourceClass, method, property.getPropertyDefinitionAnnotation());
     }
 
-    final OslcValueType valueTypeAnnotation =
-        InheritedMethodAnnotationHelper.getAnnotation(method, OslcValueType.class);
-
-    final boolean xmlLiteral =
-        valueTypeAnnotation != null && ValueType.XMLLiteral.equals(valueTypeAnnotation.value());
+    final boolean xmlLiteral = property.isXmlLiteral();
 
-    final Property attribute = model.createProperty(propertyDefinition);
+    final Property attribute = model.createProperty(property.getPropertyDefinition());
 
-    final Class<?> returnType = method.getReturnType();
-    final OslcRdfCollectionType collectionType =
-        InheritedMethodAnnotationHelper.getAnnotation(method, OslcRdfCollectionType.class);
+    final Class<?> returnType = property.getReturnType();
+    final OslcRdfCollectionType collectionType = property.getCollectionType();
     final List<RDFNode> rdfNodeContainer;
 
     if (collectionType != null
@@ -1816,9 +1707,10 @@ public final class JenaModelHelper {
       } else {
         nestedNode = model.createTypedLiteral(calendar);
       }
-    } else if (objectClass.getAnnotation(OslcResourceShape.class) != null) {
-      final String namespace = TypeFactory.getNamespace(objectClass);
-      final String name = TypeFactory.getName(objectClass);
+    } else if (ResourceClassMetadata.of(objectClass).isResourceShape()) {
+      final ResourceClassMetadata metadata = ResourceClassMetadata.of(objectClass);
+      final String namespace = metadata.getNamespace();
+      final String name = metadata.getName();
 
       URI aboutURI = null;
       if (value instanceof IResource) {
@@ -1922,112 +1814,6 @@ public final class JenaModelHelper {
     }
   }
 
-  private static String getDefaultPropertyName(final Method method) {
-    final String methodName = method.getName();
-    final int startingIndex =
-        methodName.startsWith(METHOD_NAME_START_GET)
-            ? METHOD_NAME_START_GET_LENGTH
-            : METHOD_NAME_START_IS_LENGTH;
-    final int endingIndex = startingIndex + 1;
-
-    // We want the name to start with a lower-case letter
-    final String lowercasedFirstCharacter =
-        methodName.substring(startingIndex, endingIndex).toLowerCase(Locale.ENGLISH);
-
-    if (methodName.length() == endingIndex) {
-      return lowercasedFirstCharacter;
-    }
-
-    return lowercasedFirstCharacter + methodName.substring(endingIndex);
-  }
-
-  private static void recursivelyCollectNamespaceMappings(
-      final Map<String, String> namespaceMappings, final Class<?> resourceClass) {
-    final OslcSchema oslcSchemaAnnotation =
-        resourceClass.getPackage().getAnnotation(OslcSchema.class);
-
-    if (oslcSchemaAnnotation != null) {
-      final OslcNamespaceDefinition[] oslcNamespaceDefinitionAnnotations =
-          oslcSchemaAnnotation.value();
-
-      for (final OslcNamespaceDefinition oslcNamespaceDefinitionAnnotation :
-          oslcNamespaceDefinitionAnnotations) {
-        final String prefix = oslcNamespaceDefinitionAnnotation.prefix();
-        final String namespaceURI = oslcNamespaceDefinitionAnnotation.namespaceURI();
-
-        namespaceMappings.put(prefix, namespaceURI);
-      }
-      // Adding custom prefixes obtained from an implementation, if there is an implementation.
-      Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider =
-          oslcSchemaAnnotation.customNamespaceProvider();
-      if (!customNamespaceProvider.isInterface()) {
-        try {
-          IOslcCustomNamespaceProvider customNamespaceProviderImpl =
-              customNamespaceProvider.getDeclaredConstructor().newInstance();
-          Map<String, String> customNamespacePrefixes =
-              customNamespaceProviderImpl.getCustomNamespacePrefixes();
-          if (null != customNamespacePrefixes) {
-            namespaceMappings.putAll(customNamespacePrefixes);
-          }
-        } catch (IllegalAccessException e) {
-          throw new RuntimeException(
-              "The custom namespace provider implementation: "
-                  + customNamespaceProvider.getName()
-                  + ", must have a public no args construtor",
-              e);
-        } catch (InstantiationException e) {
-          throw new RuntimeException(
-              "The custom namespace provider must not be a abstract,"
-                  + " nor interface class and must have a public no args constructor",
-              e);
-        } catch (InvocationTargetException e) {
-          throw new RuntimeException(
-              "Class '%s' does not have a no-args constructor required for Lyo Beans"
-                  .formatted(customNamespaceProvider.getSimpleName()),
-              e);
-        } catch (NoSuchMethodException e) {
-          throw new RuntimeException(e);
-        }
-      }
-    }
-
-    final Class<?> superClass = resourceClass.getSuperclass();
-
-    if (superClass != null) {
-      recursivelyCollectNamespaceMappings(namespaceMappings, superClass);
-    }
-
-    final Class<?>[] interfaces = resourceClass.getInterfaces();
-
-    for (final Class<?> iface : interfaces) {
-      recursivelyCollectNamespaceMappings(namespaceMappings, iface);
-    }
-  }
-
-  private static void ensureNamespacePrefix(
-      final String prefix, final String namespace, final Map<String, String> namespaceMappings) {
-    if (!namespaceMappings.containsValue(namespace)) {
-      if (!namespaceMappings.containsKey(prefix)) {
-        namespaceMappings.put(prefix, namespace);
-      } else {
-        // There is already a namespace for this prefix.  We need to generate a new unique prefix.
-        int index = 1;
-
-        while (true) {
-          final String newPrefix = prefix + index;
-
-          if (!namespaceMappings.containsKey(newPrefix)) {
-            namespaceMappings.put(newPrefix, namespace);
-
-            return;
-          }
-
-          index++;
-        }
-      }
-    }
-  }
-
   private static String getVisitedResourceName(Resource resource) {
     String visitedResourceName;
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.lyo.oslc4j.core.OslcGlobalNamespaceProvider;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+
+/**
+ * Namespace prefixes of a response marshalled by {@link JenaModelHelper}.
+ *
+ * <p>The table of a response holds the global prefixes of {@link OslcGlobalNamespaceProvider},
+ * overridden by the {@link ResourceClassMetadata#getNamespacePrefixes() prefixes of the classes}
+ * of the response objects, in the order in which the objects are marshalled, and finally the
+ * {@code rdf}, {@code rdfs} and {@code oslc} prefixes that the response resources need.
+ *
+ * <p>Most responses hold objects of a single class, so the table of each single-class response
+ * variant is kept per class, in a {@link ClassValue}, and reused for as long as the global
+ * prefixes do not change. Tables of mixed responses are merged from the per-class tables, which
+ * requires no reflection. All tables are immutable.
+ *
+ * @since 7.0.0
+ */
+final class NamespacePrefixTable {
+  /** Single-class tables, indexed by {@link #variant(boolean, boolean)}. */
+  private static final ClassValue<Table[]> TABLES =
+      new ClassValue<>() {
+        @Override
+        protected Table[] computeValue(final Class<?> resourceClass) {
+          return new Table[3];
+        }
+      };
+
+  private NamespacePrefixTable() {}
+
+  /**
+   * @param objects objects of the response
+   * @param description whether the response has a description resource, which needs the {@code
+   *     rdf} and {@code rdfs} prefixes
+   * @param responseInfo whether the response has a response info resource, which needs the {@code
+   *     oslc} prefix
+   * @return the immutable prefix to namespace map of the response
+   */
+  static Map<String, String> of(
+      final Object[] objects, final boolean description, final boolean responseInfo) {
+    final Map<String, String> global =
+        OslcGlobalNamespaceProvider.getInstance().getPrefixDefinitionMap();
+    final int variant = variant(description, responseInfo);
+
+    final List<Class<?>> classes = getClassesInMarshallingOrder(objects);
+    if (classes.size() != 1) {
+      return create(global, classes, variant);
+    }
+
+    final Table[] tables = TABLES.get(classes.get(0));
+    final Table table = tables[variant];
+    if (table != null && table.global.equals(global)) {
+      return table.prefixes;
+    }
+
+    // Concurrent misses may create the table more than once; the results are equal.
+    final Map<String, String> prefixes = create(global, classes, variant);
+    tables[variant] = new Table(new HashMap<>(global), prefixes);
+    return prefixes;
+  }
+
+  /**
+   * Returns the distinct classes of the objects, ordered by their last occurrence, so that putting
+   * their prefixes in turn has the same outcome as putting the prefixes of every object in turn.
+   */
+  private static List<Class<?>> getClassesInMarshallingOrder(final Object[] objects) {
+    final Set<Class<?>> classes = new LinkedHashSet<>();
+    for (int index = objects.length - 1; index >= 0; index--) {
+      classes.add(objects[index].getClass());
+    }
+    final List<Class<?>> result = new ArrayList<>(classes);
+    Collections.reverse(result);
+    return result;
+  }
+
+  private static Map<String, String> create(
+      final Map<String, String> global, final List<Class<?>> classes, final int variant) {
+    final Map<String, String> prefixes = new HashMap<>(global);
+
+    for (final Class<?> resourceClass : classes) {
+      prefixes.putAll(ResourceClassMetadata.of(resourceClass).getNamespacePrefixes());
+    }
+
+    if (variant > 0) {
+      // Ensure we have an rdf and an rdfs prefix
+      ensureNamespacePrefix(
+          OslcConstants.RDF_NAMESPACE_PREFIX, OslcConstants.RDF_NAMESPACE, prefixes);
+      ensureNamespacePrefix(
+          OslcConstants.RDFS_NAMESPACE_PREFIX, OslcConstants.RDFS_NAMESPACE, prefixes);
+
+      if (variant > 1) {
+        // Ensure we have an oslc prefix
+        ensureNamespacePrefix(
+            OslcConstants.OSLC_CORE_NAMESPACE_PREFIX, OslcConstants.OSLC_CORE_NAMESPACE, prefixes);
+      }
+    }
+
+    return Collections.unmodifiableMap(prefixes);
+  }
+
+  private static int variant(final boolean description, final boolean responseInfo) {
+    if (!description) {
+      return 0;
+    }
+    return responseInfo ? 2 : 1;
+  }
+
+  private static void ensureNamespacePrefix(
+      final String prefix, final String namespace, final Map<String, String> namespaceMappings) {
+    if (!namespaceMappings.containsValue(namespace)) {
+      if (!namespaceMappings.containsKey(prefix)) {
+        namespaceMappings.put(prefix, namespace);
+      } else {
+        // There is already a namespace for this prefix.  We need to generate a new unique prefix.
+        int index = 1;
+
+        while (true) {
+          final String newPrefix = prefix + index;
+
+          if (!namespaceMappings.containsKey(newPrefix)) {
+            namespaceMappings.put(newPrefix, namespace);
+
+            return;
+          }
+
+          index++;
+        }
+      }
+    }
+  }
+
+  /** Table of a single-class response, with the global prefixes it was created from. */
+  private static final class Table {
+    private final Map<String, String> global;
+    private final Map<String, String> prefixes;
+
+    private Table(final Map<String, String> global, final Map<String, String> prefixes) {
+      this.global = global;
+      this.prefixes = prefixes;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bean getter/setter accessors used by {@link JenaModelHelper}.
+ *
+ * <p>Unless disabled via {@link OSLC4JConstants#OSLC4J_USE_METHOD_HANDLES}, accessors are backed
+ * by a {@link MethodHandle} adapted to an erased {@code (Object)Object} or {@code
+ * (Object,Object)void} type, which avoids the argument array allocation and access checks of
+ * {@link Method#invoke(Object, Object...)} on every call. Methods that cannot be looked up through
+ * {@link MethodHandles#publicLookup()} (e.g. public methods of non-public classes) fall back to
+ * reflection.
+ *
+ * <p>Accessors of classes processed by the OSLC4J annotation processor are instead backed by the
+ * generated {@link IOslcResourceAccessors}, which call the bean methods directly, unless disabled
+ * via {@link OSLC4JConstants#OSLC4J_USE_GENERATED_ACCESSORS}.
+ *
+ * <p>In all modes, any exception thrown by the bean method is wrapped in an {@link
+ * InvocationTargetException}, like {@link Method#invoke(Object, Object...)} does. A bean or value
+ * of the wrong type fails with the {@link IllegalArgumentException} of {@link Method#invoke(Object,
+ * Object...)} rather than with an {@link InvocationTargetException}.
+ *
+ * @since 7.0.0
+ */
+final class PropertyAccessors {
+  private static final Logger logger = LoggerFactory.getLogger(PropertyAccessors.class);
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private PropertyAccessors() {}
+
+  /** Reads a property value of a bean. */
+  @FunctionalInterface
+  interface Getter {
+    Object get(Object bean) throws IllegalAccessException, InvocationTargetException;
+  }
+
+  /** Writes a property value of a bean. */
+  @FunctionalInterface
+  interface Setter {
+    void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException;
+  }
+
+  static Getter getter(final Method method) {
+    final MethodHandle handle = unreflect(method, GETTER_TYPE);
+    if (handle == null) {
+      return bean -> method.invoke(bean);
+    }
+    final Class<?> beanClass = method.getDeclaringClass();
+    return bean -> {
+      // the handle would fail with a ClassCastException, as if the method had thrown it
+      checkBean(beanClass, bean);
+      try {
+        return (Object) handle.invokeExact(bean);
+      } catch (final Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    };
+  }
+
+  static Setter setter(final Method method) {
+    final MethodHandle handle = unreflect(method, SETTER_TYPE);
+    if (handle == null) {
+      return (bean, value) -> method.invoke(bean, value);
+    }
+    final Class<?> beanClass = method.getDeclaringClass();
+    final Class<?> parameterType = method.getParameterTypes()[0];
+    final Class<?> valueClass = MethodType.methodType(parameterType).wrap().returnType();
+    return (bean, value) -> {
+      checkBean(beanClass, bean);
+      checkValue(parameterType, valueClass, value);
+      try {
+        handle.invokeExact(bean, value);
+      } catch (final Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    };
+  }
+
+  static Getter getter(
+      final IOslcResourceAccessors accessors, final int index, final Class<?> resourceClass) {
+    return bean -> {
+      checkBean(resourceClass, bean);
+      try {
+        return accessors.getValue(bean, index);
+      } catch (final Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    };
+  }
+
+  static Setter setter(
+      final IOslcResourceAccessors accessors,
+      final int index,
+      final Class<?> resourceClass,
+      final Class<?> parameterType) {
+    final Class<?> valueClass = MethodType.methodType(parameterType).wrap().returnType();
+    return (bean, value) -> {
+      checkBean(resourceClass, bean);
+      checkValue(parameterType, valueClass, value);
+      try {
+        accessors.setValue(bean, index, value);
+      } catch (final Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    };
+  }
+
+  /**
+   * Fails like {@link Method#invoke(Object, Object...)} for a bean that is not an instance of the
+   * class, rather than with the {@link ClassCastException} of the accessor or method handle.
+   */
+  private static void checkBean(final Class<?> beanClass, final Object bean) {
+    if (!beanClass.isInstance(bean)) {
+      if (bean == null) {
+        throw new NullPointerException("bean is null");
+      }
+      throw new IllegalArgumentException(
+          "object of "
+              + bean.getClass().getName()
+              + " is not an instance of "
+              + beanClass.getName());
+    }
+  }
+
+  /**
+   * Fails like {@link Method#invoke(Object, Object...)} for a value that the setter cannot take.
+   * Unlike it, no widening conversion is applied to primitive values.
+   *
+   * @param valueClass the parameter type, or its wrapper if it is primitive
+   */
+  private static void checkValue(
+      final Class<?> parameterType, final Class<?> valueClass, final Object value) {
+    if (value == null ? parameterType.isPrimitive() : !valueClass.isInstance(value)) {
+      throw new IllegalArgumentException(
+          "argument type mismatch: "
+              + (value == null ? "null" : value.getClass().getName())
+              + " for "
+              + parameterType.getName());
+    }
+  }
+
+  /**
+   * Finds the accessors registered as services by the annotation processor, which works in native
+   * images, then the accessors named after the class, which the processor may not have registered
+   * on incremental builds.
+   *
+   * @return the generated accessors of a bean class, or null if there are none or they are
+   *     disabled
+   */
+  static IOslcResourceAccessors generatedAccessors(final Class<?> resourceClass) {
+    if (!OSLC4JUtils.useGeneratedAccessors()) {
+      return null;
+    }
+    final String className = resourceClass.getName() + IOslcResourceAccessors.CLASS_NAME_SUFFIX;
+    try {
+      final Optional<IOslcResourceAccessors> registered =
+          ServiceLoader.load(IOslcResourceAccessors.class, resourceClass.getClassLoader()).stream()
+              .filter(provider -> provider.type().getName().equals(className))
+              .map(ServiceLoader.Provider::get)
+              .findFirst();
+      if (registered.isPresent()) {
+        return registered.get();
+      }
+    } catch (final ServiceConfigurationError e) {
+      logger.warn(
+          "Ignoring the registered accessors of {}: {}", resourceClass.getName(), e.toString());
+    }
+    try {
+      final Class<?> accessorsClass =
+          Class.forName(className, true, resourceClass.getClassLoader());
+      if (!IOslcResourceAccessors.class.isAssignableFrom(accessorsClass)) {
+        logger.warn("Ignoring {}, which does not implement IOslcResourceAccessors", className);
+        return null;
+      }
+      return (IOslcResourceAccessors) accessorsClass.getDeclaredConstructor().newInstance();
+    } catch (final ClassNotFoundException e) {
+      return null;
+    } catch (final ReflectiveOperationException | LinkageError e) {
+      logger.warn("Ignoring generated accessors {}: {}", className, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * @return a method handle adapted to the given type, or null if reflection shall be used
+   */
+  private static MethodHandle unreflect(final Method method, final MethodType type) {
+    if (!OSLC4JUtils.useMethodHandles()) {
+      return null;
+    }
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(type);
+    } catch (final IllegalAccessException e) {
+      logger.trace("Falling back to reflection for {}: {}", method, e.getMessage());
+      return null;
+    }
+  }
+}
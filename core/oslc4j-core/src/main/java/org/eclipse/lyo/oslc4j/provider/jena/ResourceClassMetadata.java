@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespaceDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcOccurs;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcRdfCollectionType;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcRepresentation;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
+import org.eclipse.lyo.oslc4j.core.model.IOslcCustomNamespaceProvider;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+import org.eclipse.lyo.oslc4j.core.model.IReifiedResource;
+import org.eclipse.lyo.oslc4j.core.model.InheritedMethodAnnotationHelper;
+import org.eclipse.lyo.oslc4j.core.model.Occurs;
+import org.eclipse.lyo.oslc4j.core.model.Representation;
+import org.eclipse.lyo.oslc4j.core.model.TypeFactory;
+import org.eclipse.lyo.oslc4j.core.model.ValueType;
+
+/**
+ * Marshalling metadata of a resource bean class, as used by {@link JenaModelHelper}.
+ *
+ * <p>Collecting the metadata requires a {@link Class#getMethods()} scan and an inherited
+ * annotation lookup for every getter, so it is computed once per class and kept in a {@link
+ * ClassValue}. Entries are therefore released together with the class when its classloader is
+ * garbage collected, e.g. on webapp redeployment, and the cache never holds more entries than
+ * there are loaded bean classes. Instances are immutable once built and safe to share between
+ * threads.
+ *
+ * <p>The properties of classes annotated with {@link OslcResourceShape} are accessed through the
+ * {@link IOslcResourceAccessors} generated for the class at build time, if any.
+ *
+ * @since 7.0.0
+ */
+final class ResourceClassMetadata {
+  static final String METHOD_NAME_START_GET = "get";
+  static final String METHOD_NAME_START_IS = "is";
+  static final String METHOD_NAME_START_SET = "set";
+
+  static final int METHOD_NAME_START_GET_LENGTH = METHOD_NAME_START_GET.length();
+  static final int METHOD_NAME_START_IS_LENGTH = METHOD_NAME_START_IS.length();
+
+  private static final ClassValue<ResourceClassMetadata> METADATA =
+      new ClassValue<>() {
+        @Override
+        protected ResourceClassMetadata computeValue(final Class<?> resourceClass) {
+          return new ResourceClassMetadata(resourceClass);
+        }
+      };
+
+  /** Prefixes of each {@link OslcSchema#customNamespaceProvider()}, which is instantiated once. */
+  private static final ClassValue<Map<String, String>> CUSTOM_NAMESPACE_PREFIXES =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(final Class<?> customNamespaceProvider) {
+          return createCustomNamespacePrefixes(customNamespaceProvider);
+        }
+      };
+
+  private final Class<?> resourceClass;
+  private final boolean resourceShape;
+  private final String namespace;
+  private final String name;
+  private final String qualifiedName;
+  private final List<PropertyMetadata> properties;
+  private final IOslcResourceAccessors accessors;
+  private final Map<String, Integer> accessorIndexes;
+  private volatile Map<String, SetterMetadata> setters;
+  private volatile Map<String, String> namespacePrefixes;
+
+  private ResourceClassMetadata(final Class<?> resourceClass) {
+    this.resourceClass = resourceClass;
+    this.resourceShape = resourceClass.getAnnotation(OslcResourceShape.class) != null;
+    this.namespace = TypeFactory.getNamespace(resourceClass);
+    this.name = TypeFactory.getName(resourceClass);
+    this.qualifiedName = TypeFactory.getQualifiedName(resourceClass);
+    this.accessors = resourceShape ? PropertyAccessors.generatedAccessors(resourceClass) : null;
+    this.accessorIndexes = new HashMap<>();
+    if (accessors != null) {
+      final List<String> propertyDefinitions = accessors.getPropertyDefinitions();
+      for (int index = 0; index < propertyDefinitions.size(); index++) {
+        accessorIndexes.put(propertyDefinitions.get(index), index);
+      }
+    }
+
+    final List<PropertyMetadata> list = new ArrayList<>();
+    for (final Method method : resourceClass.getMethods()) {
+      if (isGetter(method)) {
+        final OslcPropertyDefinition propertyDefinition =
+            InheritedMethodAnnotationHelper.getAnnotation(method, OslcPropertyDefinition.class);
+
+        if (propertyDefinition != null) {
+          final Integer index = accessorIndexes.get(propertyDefinition.value());
+          final PropertyAccessors.Getter getter =
+              index != null
+                  ? PropertyAccessors.getter(accessors, index, resourceClass)
+                  : PropertyAccessors.getter(method);
+          list.add(new PropertyMetadata(method, getter, propertyDefinition));
+        }
+      }
+    }
+    this.properties = Collections.unmodifiableList(list);
+  }
+
+  /**
+   * @param resourceClass bean class to describe
+   * @return the (cached) metadata of the class
+   */
+  static ResourceClassMetadata of(final Class<?> resourceClass) {
+    return METADATA.get(resourceClass);
+  }
+
+  /**
+   * @return true for a parameterless method named {@code getX} or {@code isX}
+   */
+  static boolean isGetter(final Method method) {
+    if (method.getParameterCount() != 0) {
+      return false;
+    }
+    final String methodName = method.getName();
+    return ((methodName.startsWith(METHOD_NAME_START_GET))
+            && (methodName.length() > METHOD_NAME_START_GET_LENGTH))
+        || ((methodName.startsWith(METHOD_NAME_START_IS))
+            && (methodName.length() > METHOD_NAME_START_IS_LENGTH));
+  }
+
+  /**
+   * @return the default OSLC name of a getter, i.e. its name without the {@code get}/{@code is}
+   *     prefix and with a lower-cased first character
+   */
+  static String getDefaultPropertyName(final Method method) {
+    final String methodName = method.getName();
+    final int startingIndex =
+        methodName.startsWith(METHOD_NAME_START_GET)
+            ? METHOD_NAME_START_GET_LENGTH
+            : METHOD_NAME_START_IS_LENGTH;
+    final int endingIndex = startingIndex + 1;
+
+    // We want the name to start with a lower-case letter
+    final String lowercasedFirstCharacter =
+        methodName.substring(startingIndex, endingIndex).toLowerCase(Locale.ENGLISH);
+
+    if (methodName.length() == endingIndex) {
+      return lowercasedFirstCharacter;
+    }
+
+    return lowercasedFirstCharacter + methodName.substring(endingIndex);
+  }
+
+  Class<?> getResourceClass() {
+    return resourceClass;
+  }
+
+  /**
+   * @return true if the class is annotated with {@link OslcResourceShape}
+   */
+  boolean isResourceShape() {
+    return resourceShape;
+  }
+
+  /**
+   * @see TypeFactory#getNamespace(Class)
+   */
+  String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * @see TypeFactory#getName(Class)
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * @see TypeFactory#getQualifiedName(Class)
+   */
+  String getQualifiedName() {
+    return qualifiedName;
+  }
+
+  /**
+   * @return getters annotated with {@link OslcPropertyDefinition}, in {@link Class#getMethods()}
+   *     order
+   */
+  List<PropertyMetadata> getProperties() {
+    return properties;
+  }
+
+  /**
+   * Returns the setter companions of the property getters, keyed by property URI.
+   *
+   * <p>Setters are resolved on the first unmarshalling of the class, since beans that are only
+   * marshalled are not required to have them.
+   *
+   * @throws OslcCoreMissingSetMethodException if a property getter has no matching setter
+   */
+  Map<String, SetterMetadata> getSetters() throws OslcCoreMissingSetMethodException {
+    Map<String, SetterMetadata> result = setters;
+    if (result == null) {
+      // Concurrent first calls may resolve the setters more than once; the results are equal.
+      result = resolveSetters();
+      setters = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the namespace prefixes declared by the {@link OslcSchema} annotations of the packages
+   * of the class, of its superclasses and of its interfaces, including those of their custom
+   * namespace providers. In case of conflict, the prefixes of superclasses and interfaces win.
+   *
+   * <p>The prefixes are collected on the first marshalling of the class; the custom namespace
+   * providers are therefore asked for their prefixes once.
+   *
+   * @return an immutable prefix to namespace map
+   * @throws RuntimeException if a custom namespace provider cannot be instantiated
+   */
+  Map<String, String> getNamespacePrefixes() {
+    Map<String, String> result = namespacePrefixes;
+    if (result == null) {
+      // Concurrent first calls may collect the prefixes more than once; the results are equal.
+      final Map<String, String> prefixes = new HashMap<>();
+      collectNamespacePrefixes(prefixes, resourceClass);
+      result = Collections.unmodifiableMap(prefixes);
+      namespacePrefixes = result;
+    }
+    return result;
+  }
+
+  private static void collectNamespacePrefixes(
+      final Map<String, String> prefixes, final Class<?> resourceClass) {
+    final Package resourcePackage = resourceClass.getPackage();
+    final OslcSchema oslcSchemaAnnotation =
+        resourcePackage != null ? resourcePackage.getAnnotation(OslcSchema.class) : null;
+
+    if (oslcSchemaAnnotation != null) {
+      for (final OslcNamespaceDefinition oslcNamespaceDefinitionAnnotation :
+          oslcSchemaAnnotation.value()) {
+        prefixes.put(
+            oslcNamespaceDefinitionAnnotation.prefix(),
+            oslcNamespaceDefinitionAnnotation.namespaceURI());
+      }
+      // Adding custom prefixes obtained from an implementation, if there is an implementation.
+      final Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider =
+          oslcSchemaAnnotation.customNamespaceProvider();
+      if (!customNamespaceProvider.isInterface()) {
+        prefixes.putAll(CUSTOM_NAMESPACE_PREFIXES.get(customNamespaceProvider));
+      }
+    }
+
+    final Class<?> superClass = resourceClass.getSuperclass();
+
+    if (superClass != null) {
+      collectNamespacePrefixes(prefixes, superClass);
+    }
+
+    for (final Class<?> iface : resourceClass.getInterfaces()) {
+      collectNamespacePrefixes(prefixes, iface);
+    }
+  }
+
+  private static Map<String, String> createCustomNamespacePrefixes(
+      final Class<?> customNamespaceProvider) {
+    try {
+      final IOslcCustomNamespaceProvider customNamespaceProviderImpl =
+          (IOslcCustomNamespaceProvider)
+              customNamespaceProvider.getDeclaredConstructor().newInstance();
+      final Map<String, String> customNamespacePrefixes =
+          customNamespaceProviderImpl.getCustomNamespacePrefixes();
+      if (null == customNamespacePrefixes) {
+        return Collections.emptyMap();
+      }
+      return Collections.unmodifiableMap(new HashMap<>(customNamespacePrefixes));
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(
+          "The custom namespace provider implementation: "
+              + customNamespaceProvider.getName()
+              + ", must have a public no args construtor",
+          e);
+    } catch (InstantiationException e) {
+      throw new RuntimeException(
+          "The custom namespace provider must not be a abstract,"
+              + " nor interface class and must have a public no args constructor",
+          e);
+    } catch (InvocationTargetException e) {
+      throw new RuntimeException(
+          "Class '%s' does not have a no-args constructor required for Lyo Beans"
+              .formatted(customNamespaceProvider.getSimpleName()),
+          e);
+    } catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Map<String, SetterMetadata> resolveSetters() throws OslcCoreMissingSetMethodException {
+    final Map<String, SetterMetadata> result = new HashMap<>();
+
+    for (final PropertyMetadata property : properties) {
+      final Method getter = property.getGetter();
+      final String getMethodName = getter.getName();
+
+      // We need to find the set companion setMethod
+      final String setMethodName;
+      if (getMethodName.startsWith(METHOD_NAME_START_GET)) {
+        setMethodName =
+            METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_GET_LENGTH);
+      } else {
+        setMethodName = METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_IS_LENGTH);
+      }
+
+      try {
+        final Method setMethod = resourceClass.getMethod(setMethodName, property.getReturnType());
+
+        final Integer index = accessorIndexes.get(property.getPropertyDefinition());
+        final PropertyAccessors.Setter setter =
+            index != null && accessors.isWritable(index)
+                ? PropertyAccessors.setter(
+                    accessors, index, resourceClass, setMethod.getParameterTypes()[0])
+                : PropertyAccessors.setter(setMethod);
+        result.put(property.getPropertyDefinition(), new SetterMetadata(setMethod, setter));
+      } catch (final NoSuchMethodException exception) {
+        throw new OslcCoreMissingSetMethodException(resourceClass, getter, exception);
+      }
+    }
+
+    return Collections.unmodifiableMap(result);
+  }
+
+  /** Metadata of a single getter annotated with {@link OslcPropertyDefinition}. */
+  static final class PropertyMetadata {
+    private final Method getter;
+    private final PropertyAccessors.Getter accessor;
+    private final OslcPropertyDefinition propertyDefinitionAnnotation;
+    private final String propertyDefinition;
+    private final boolean validName;
+    private final Class<?> returnType;
+    private final boolean xmlLiteral;
+    private final OslcRdfCollectionType collectionType;
+    private final Occurs occurs;
+    private final Representation representation;
+
+    private PropertyMetadata(
+        final Method getter,
+        final PropertyAccessors.Getter accessor,
+        final OslcPropertyDefinition propertyDefinitionAnnotation) {
+      this.getter = getter;
+      this.accessor = accessor;
+      this.propertyDefinitionAnnotation = propertyDefinitionAnnotation;
+      this.propertyDefinition = propertyDefinitionAnnotation.value();
+
+      final OslcName nameAnnotation =
+          InheritedMethodAnnotationHelper.getAnnotation(getter, OslcName.class);
+      final String name =
+          nameAnnotation != null ? nameAnnotation.value() : getDefaultPropertyName(getter);
+      this.validName = propertyDefinition.endsWith(name);
+
+      this.returnType = getter.getReturnType();
+
+      final OslcValueType valueTypeAnnotation =
+          InheritedMethodAnnotationHelper.getAnnotation(getter, OslcValueType.class);
+      this.xmlLiteral =
+          valueTypeAnnotation != null && ValueType.XMLLiteral.equals(valueTypeAnnotation.value());
+
+      this.collectionType =
+          InheritedMethodAnnotationHelper.getAnnotation(getter, OslcRdfCollectionType.class);
+
+      final OslcOccurs occursAnnotation =
+          InheritedMethodAnnotationHelper.getAnnotation(getter, OslcOccurs.class);
+      this.occurs = occursAnnotation != null ? occursAnnotation.value() : null;
+
+      final OslcRepresentation representationAnnotation =
+          InheritedMethodAnnotationHelper.getAnnotation(getter, OslcRepresentation.class);
+      this.representation =
+          representationAnnotation != null ? representationAnnotation.value() : null;
+    }
+
+    Method getGetter() {
+      return getter;
+    }
+
+    /**
+     * @return the property value of the bean, as returned by the getter
+     */
+    Object getValue(final Object bean) throws IllegalAccessException, InvocationTargetException {
+      return accessor.get(bean);
+    }
+
+    OslcPropertyDefinition getPropertyDefinitionAnnotation() {
+      return propertyDefinitionAnnotation;
+    }
+
+    /**
+     * @return the property URI
+     */
+    String getPropertyDefinition() {
+      return propertyDefinition;
+    }
+
+    /**
+     * @return false if the property URI does not end with the {@link OslcName} (or the default
+     *     name) of the getter
+     */
+    boolean hasValidName() {
+      return validName;
+    }
+
+    Class<?> getReturnType() {
+      return returnType;
+    }
+
+    /**
+     * @return true if the value type is {@link ValueType#XMLLiteral}
+     */
+    boolean isXmlLiteral() {
+      return xmlLiteral;
+    }
+
+    /**
+     * @return the collection type annotation, or null if none is present
+     */
+    OslcRdfCollectionType getCollectionType() {
+      return collectionType;
+    }
+
+    /**
+     * @return the occurs value, or null if no {@link OslcOccurs} annotation is present
+     */
+    Occurs getOccurs() {
+      return occurs;
+    }
+
+    /**
+     * @return the representation, or null if no {@link OslcRepresentation} annotation is present
+     */
+    Representation getRepresentation() {
+      return representation;
+    }
+  }
+
+  /**
+   * Metadata of the setter companion of a property getter.
+   *
+   * <p>The value class of the setter parameter is resolved once, rather than for every statement
+   * being unmarshalled.
+   */
+  static final class SetterMetadata {
+    private final Method setter;
+    private final PropertyAccessors.Setter accessor;
+    private final Class<?> parameterClass;
+    private final boolean multiple;
+    private final Class<?> reifiedClass;
+    private final Class<?> valueClass;
+
+    SetterMetadata(final Method setter) {
+      this(setter, PropertyAccessors.setter(setter));
+    }
+
+    SetterMetadata(final Method setter, final PropertyAccessors.Setter accessor) {
+      this.setter = setter;
+      this.accessor = accessor;
+      this.parameterClass = setter.getParameterTypes()[0];
+
+      Class<?> componentClass = parameterClass;
+      if (parameterClass.isArray()) {
+        this.multiple = true;
+        componentClass = parameterClass.getComponentType();
+      } else if (Collection.class.isAssignableFrom(parameterClass)) {
+        this.multiple = true;
+        final Class<?> typeArgument = getTypeArgument(setter.getGenericParameterTypes()[0]);
+        if (typeArgument != null) {
+          componentClass = typeArgument;
+        }
+      } else {
+        this.multiple = false;
+      }
+
+      if (IReifiedResource.class.isAssignableFrom(componentClass)) {
+        this.reifiedClass = componentClass;
+        final Class<?> typeArgument = getTypeArgument(componentClass.getGenericSuperclass());
+        this.valueClass = typeArgument != null ? typeArgument : componentClass;
+      } else {
+        this.reifiedClass = null;
+        this.valueClass = componentClass;
+      }
+    }
+
+    /**
+     * @return the single class argument of a parameterized type, or null
+     */
+    private static Class<?> getTypeArgument(final Type type) {
+      if (type instanceof ParameterizedType) {
+        final Type[] actualTypeArguments = ((ParameterizedType) type).getActualTypeArguments();
+        if (actualTypeArguments.length == 1 && actualTypeArguments[0] instanceof Class) {
+          return (Class<?>) actualTypeArguments[0];
+        }
+      }
+      return null;
+    }
+
+    Method getSetter() {
+      return setter;
+    }
+
+    /**
+     * @return the parameter type of the setter
+     */
+    Class<?> getParameterClass() {
+      return parameterClass;
+    }
+
+    /**
+     * @return true if the setter takes an array or a collection
+     */
+    boolean isMultiple() {
+      return multiple;
+    }
+
+    /**
+     * @return the {@link IReifiedResource} class of the (component) parameter type, or null if it
+     *     is not reified
+     */
+    Class<?> getReifiedClass() {
+      return reifiedClass;
+    }
+
+    /**
+     * @return the class of the values, i.e. the (component) parameter type, or the value type of
+     *     its {@link IReifiedResource}
+     */
+    Class<?> getValueClass() {
+      return valueClass;
+    }
+
+    /**
+     * Sets the property value of the bean.
+     */
+    void setValue(final Object bean, final Object value)
+        throws IllegalAccessException, InvocationTargetException {
+      accessor.set(bean, value);
+    }
+  }
+}
@@ -17,16 +17,23 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
@@ -42,107 +49,150 @@ public class ResourcePackages {
 	private static final Logger log = LoggerFactory.getLogger(ResourcePackages.class);
 
     /**
-     * The set of scanned packages.
+     * Location of the build-time index of a package, followed by the package
+     * name. The index lists the names of the classes annotated with
+     * {@link OslcResourceShape} in the package and its subpackages, one per
+     * line; blank lines and lines starting with {@code #} are ignored. A
+     * package with an index is not scanned.
+     *
+     * @since 7.0.0
      */
-    static final Set<String> SCANNED_PACKAGES = new HashSet<>();
+    public static final String INDEX_LOCATION = "META-INF/oslc4j/resource-packages/";
 
     /**
-     * The RDFs-Classes types mapping.
+     * The scanned packages and their RDFs-Classes types mapping, replaced as a
+     * whole when a package is mapped.
      */
-    static final Map<String, Set<Class<?>>> TYPES_MAPPINGS = new HashMap<>();
+    private static volatile TypeIndex index = TypeIndex.EMPTY;
 
     private ResourcePackages() {}
 
     /**
-     * Scans a package (recursively) searching for classes annotated with
+     * Maps a package (recursively), searching for classes annotated with
      * {@link OslcResourceShape} and mapping them with an {@link RDF#type} built
      * by the {@link TypeFactory#getQualifiedName(java.lang.Class)} method.
+     * The classes are read from the {@link #INDEX_LOCATION build-time index}
+     * of the package if there is one, or found by scanning the classpath
+     * otherwise.
      * @param pkg the package to scan.
      */
-    public static synchronized void mapPackage(Package pkg) {
+    public static void mapPackage(Package pkg) {
         String packageName = pkg.getName();
-        if (SCANNED_PACKAGES.contains(packageName)) {
+        if (index.getPackages().contains(packageName)) {
             log.trace("> package {} already scanned", packageName);
-        } else {
+            return;
+        }
+        synchronized (ResourcePackages.class) {
+            TypeIndex current = index;
+            if (current.getPackages().contains(packageName)) {
+                log.trace("> package {} already scanned", packageName);
+                return;
+            }
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = ResourcePackages.class.getClassLoader();
+            }
+            List<String> classNames = readIndex(classLoader, packageName)
+                .orElseGet(() -> scanPackage(packageName));
+            Map<String, Set<Class<?>>> classes = new HashMap<>();
             int counter = 0;
-            log.trace("> scanning package {}", packageName);
-            ClassGraph classGraph = new ClassGraph().acceptPackages(pkg.getName());
-            classGraph = classGraph.enableClassInfo().enableAnnotationInfo();
-            try (ScanResult scanResult = classGraph.scan()) {
-                ClassInfoList classInforList = scanResult.getClassesWithAnnotation(OslcResourceShape.class.getName());
-                for (ClassInfo classInfo : classInforList) {
-                    if (classInfo.isAbstract()) {
-                        log.trace("[-] Abstract class: {}", classInfo.getName());
+            for (String className : classNames) {
+                try {
+                    Class<?> rdfClass = Class.forName(className, true, classLoader);
+                    if (Modifier.isAbstract(rdfClass.getModifiers())) {
+                        log.trace("[-] Abstract class: {}", className);
+                        continue;
+                    }
+                    String rdfType = TypeFactory.getQualifiedName(rdfClass);
+                    var known = current.getMappings().get(rdfType);
+                    if ((known == null || !known.contains(rdfClass))
+                            && classes.computeIfAbsent(rdfType, k -> new LinkedHashSet<>()).add(rdfClass)) {
+                        counter ++;
+                        log.trace("[+] {} -> {}", rdfType, rdfClass);
                     } else {
-                        try {
-                            Class<?> rdfClass = Class.forName(classInfo.getName(), true,
-                                Thread.currentThread().getContextClassLoader());
-                            String rdfType = TypeFactory.getQualifiedName(rdfClass);
-                            var types = TYPES_MAPPINGS.computeIfAbsent(rdfType, k -> new HashSet<>());
-                            if(types.add(rdfClass)) {
-                                counter ++;
-                                log.trace("[+] {} -> {}", rdfType, rdfClass);
-                            } else {
-                                log.trace("[.] {} already registered", rdfClass.getName());
-                            }
-                        } catch (ClassNotFoundException ex) {
-                            log.trace("[-] Unexpected missing class: {}", classInfo.getName());
-                        }
+                        log.trace("[.] {} already registered", rdfClass.getName());
                     }
+                } catch (ClassNotFoundException ex) {
+                    log.trace("[-] Unexpected missing class: {}", className);
                 }
             }
             log.debug("< {} RDF classes found in package {}", counter, packageName);
-            SCANNED_PACKAGES.add(packageName);
+            index = current.with(packageName, classes);
         }
     }
 
     /**
-     * Tries to find the most concrete class of a list of candidates classes.
-     * @param candidates the candidates list of classes to evaluate.
-     * @return the most concrete class.
-     * @throws IllegalStateException if candidates contains at least two classes
-     * belonging to different inheritance trees.
+     * Scans a package (recursively) searching for concrete classes annotated
+     * with {@link OslcResourceShape}.
+     * @param packageName the package to scan.
+     * @return the names of the classes found.
      */
-    private static Class<?> getMostConcreteClassOf(List<Class<?>> candidates) {
-        int size = candidates.size();
-        int index = 0;
-        do {
-            Class<?> pivot = candidates.get(index);
-            Iterator<Class<?>> iterator = candidates.iterator();
-            int currentIndex = -1;
-            while(iterator.hasNext()) {
-                Class<?> current = iterator.next();
-                currentIndex++;
-                if (!current.equals(pivot) && current.isAssignableFrom(pivot)) {
-                    iterator.remove();
-                    if (currentIndex < index) {
-                        //if we are removing an item located before the pivot (index position),
-                        //then decrement the index, since the size of the array is also reduced, making sure the pivot index is correct
-                        //in relation to the new size.
-                        index--;
-                    }
+    private static List<String> scanPackage(String packageName) {
+        log.trace("> scanning package {}", packageName);
+        List<String> classNames = new ArrayList<>();
+        ClassGraph classGraph = new ClassGraph().acceptPackages(packageName);
+        classGraph = classGraph.enableClassInfo().enableAnnotationInfo();
+        try (ScanResult scanResult = classGraph.scan()) {
+            ClassInfoList classInforList = scanResult.getClassesWithAnnotation(OslcResourceShape.class.getName());
+            for (ClassInfo classInfo : classInforList) {
+                if (classInfo.isAbstract()) {
+                    log.trace("[-] Abstract class: {}", classInfo.getName());
+                } else {
+                    classNames.add(classInfo.getName());
                 }
             }
-            size = candidates.size();
-        } while(++index < size);
-        if (candidates.size() > 1) {
-            Iterator<Class<?>> iterator = candidates.iterator();
-            StringBuilder sb = new StringBuilder("Multiple classes, ");
-            sb.append("not in the same inheritance tree, are annotated ");
-            sb.append("to map the same RDF:type: ");
-            sb.append(iterator.next().getName());
-            while(iterator.hasNext()) {
-                sb.append(", ");
-                sb.append(iterator.next().getName());
+        }
+        return classNames;
+    }
+
+    /**
+     * Reads the {@link #INDEX_LOCATION build-time index} of a package. The
+     * indexes of all the classpath entries holding one are merged.
+     * @param classLoader the class loader to read the index with.
+     * @param packageName the indexed package.
+     * @return the names of the indexed classes, or an empty optional if the
+     * package has no index or it cannot be read.
+     */
+    static Optional<List<String>> readIndex(ClassLoader classLoader, String packageName) {
+        List<String> classNames = new ArrayList<>();
+        boolean indexed = false;
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION + packageName);
+            while (urls.hasMoreElements()) {
+                indexed = true;
+                URL url = urls.nextElement();
+                log.trace("> reading index {}", url);
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            classNames.add(line);
+                        }
+                    }
+                }
             }
-            throw new IllegalStateException(sb.toString());
+        } catch (IOException e) {
+            log.warn("Cannot read the index of package {}, it will be scanned", packageName, e);
+            return Optional.empty();
         }
-        return candidates.get(0);
+        return indexed ? Optional.of(classNames) : Optional.empty();
+    }
+
+    /**
+     * @return the current index of the scanned packages.
+     */
+    static TypeIndex getIndex() {
+        return index;
     }
 
     /**
      * Gets the corresponding most concrete class (if any) of a
      * {@link Resource resource}'s {@link RDF#type}.
+     * <p>
+     * The class of each combination of types is resolved once, until another
+     * package is mapped.
      * @param resource the resource to resolve its type.
      * @param preferredTypes sometimes, the same RDF type is mapped by more than
      * one class, in such cases this parameter indicates the preferred type to
@@ -154,48 +204,29 @@ public class ResourcePackages {
      */
     public static Optional<Class<?>> getClassOf(Resource resource, Class<?>... preferredTypes) {
         log.trace("> resolving class for resource {}", resource.getURI());
+        TypeIndex current = index;
+        Set<String> mappedTypes = new HashSet<>();
         StmtIterator rdfTypes = resource.listProperties(RDF.type);
-        List<Class<?>> candidates = new ArrayList<>();
-        synchronized(ResourcePackages.class) {
-            while(rdfTypes.hasNext()) {
-                Statement statement = rdfTypes.nextStatement();
-                String typeURI = statement.getObject().asResource().getURI();
-                var rdfClasses = TYPES_MAPPINGS.get(typeURI);
-                if (rdfClasses == null) {
-                    log.trace("[-] Unmapped class(es) for RDF:type {}", typeURI);
-                } else if (rdfClasses.size() == 1) {
-                    var candidate = rdfClasses.stream().findFirst().get();
-                    candidates.add(candidate);
-                    log.trace("[+] Candidate class {} found for RDF:type {}", candidate.getName(), typeURI);
-                } else if (preferredTypes.length == 0) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append("'preferredTypes' argument is required when more than one class (");
-                    sb.append(rdfClasses.toString());
-                    sb.append(") are mapped to the same RDF:type (");
-                    sb.append(typeURI);
-                    sb.append(")");
-                    log.debug(sb.toString());
-                    throw new IllegalArgumentException(sb.toString());
-                } else {
-                    for(Class<?> preferredType : preferredTypes) {
-                        if (rdfClasses.contains(preferredType)) {
-                            candidates.add(preferredType);
-                            log.trace("[+] Preferred candidate class {} found for RDF:type {}",
-                                preferredType.getName(), typeURI);
-                            break;
-                        }
-                    }
-                }
+        while (rdfTypes.hasNext()) {
+            RDFNode object = rdfTypes.nextStatement().getObject();
+            String typeURI = object.isURIResource() ? object.asResource().getURI() : null;
+            if (typeURI != null && current.isMapped(typeURI)) {
+                mappedTypes.add(typeURI);
+            } else {
+                log.trace("[-] Unmapped class(es) for RDF:type {}", typeURI);
             }
         }
-        if (candidates.isEmpty()) {
+        if (mappedTypes.isEmpty()) {
             log.debug("< Unmapped class for resource {}", resource.getURI());
             return Optional.empty();
+        }
+        Optional<Class<?>> mappedClass = current.getClassOf(mappedTypes, preferredTypes);
+        if (mappedClass.isPresent()) {
+            log.debug("< Mapped class {} for resource {}", mappedClass.get().getName(), resource.getURI());
         } else {
-            Class<?> mappedClass = (candidates.size() == 1 ? candidates.get(0) : getMostConcreteClassOf(candidates));
-            log.debug("< Mapped class {} for resource {}", mappedClass.getName(), resource.getURI());
-            return Optional.of(mappedClass);
+            log.debug("< Unmapped class for resource {}", resource.getURI());
         }
+        return mappedClass;
     }
 
     /**
@@ -203,8 +234,7 @@ public class ResourcePackages {
      *
      * @since 4.0.0.RC
      */
-    public static void reset() {
-        SCANNED_PACKAGES.clear();
-        TYPES_MAPPINGS.clear();
+    public static synchronized void reset() {
+        index = TypeIndex.EMPTY;
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena.ordfm;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable mapping of {@code RDF:type}s to the classes of the scanned packages.
+ * <p>
+ * {@link ResourcePackages} replaces its index as a whole whenever a package is mapped, so that
+ * lookups need no lock. The most concrete class of each combination of mapped types (and
+ * preferred types) is resolved once and remembered for the lifetime of the index.
+ *
+ * @since 7.0.0
+ */
+final class TypeIndex {
+
+    static final TypeIndex EMPTY = new TypeIndex(Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> packages;
+    private final Map<String, Set<Class<?>>> mappings;
+    private final ConcurrentMap<Key, Optional<Class<?>>> resolved = new ConcurrentHashMap<>();
+
+    private TypeIndex(Set<String> packages, Map<String, Set<Class<?>>> mappings) {
+        this.packages = packages;
+        this.mappings = mappings;
+    }
+
+    /**
+     * @return the scanned packages.
+     */
+    Set<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @return the RDFs-Classes types mapping.
+     */
+    Map<String, Set<Class<?>>> getMappings() {
+        return mappings;
+    }
+
+    boolean isMapped(String rdfType) {
+        return mappings.containsKey(rdfType);
+    }
+
+    /**
+     * Creates a new index holding the mappings of this one and the given ones.
+     * @param packageName the package the classes were found in.
+     * @param classes the classes of the package, by {@code RDF:type}.
+     * @return the new index.
+     */
+    TypeIndex with(String packageName, Map<String, Set<Class<?>>> classes) {
+        Set<String> newPackages = new HashSet<>(packages);
+        newPackages.add(packageName);
+        Map<String, Set<Class<?>>> newMappings = new HashMap<>();
+        mappings.forEach((rdfType, rdfClasses) -> newMappings.put(rdfType, new LinkedHashSet<>(rdfClasses)));
+        classes.forEach((rdfType, rdfClasses) ->
+            newMappings.computeIfAbsent(rdfType, k -> new LinkedHashSet<>()).addAll(rdfClasses));
+        newMappings.replaceAll((rdfType, rdfClasses) -> Collections.unmodifiableSet(rdfClasses));
+        return new TypeIndex(Collections.unmodifiableSet(newPackages),
+            Collections.unmodifiableMap(newMappings));
+    }
+
+    /**
+     * Gets the most concrete class mapped by a set of {@code RDF:type}s.
+     * @param rdfTypes the mapped types of a resource.
+     * @param preferredTypes the classes to pick, in priority order, from the
+     * ones mapped by the same {@code RDF:type}.
+     * @return the most concrete class, if any.
+     * @throws IllegalArgumentException if a type is mapped by more than one
+     * class and {@code preferredTypes} is empty.
+     * @throws IllegalStateException if the candidate classes belong to
+     * different inheritance trees.
+     */
+    Optional<Class<?>> getClassOf(Set<String> rdfTypes, Class<?>... preferredTypes) {
+        if (rdfTypes.size() == 1) {
+            Set<Class<?>> rdfClasses = mappings.get(rdfTypes.iterator().next());
+            if (rdfClasses.size() == 1) {
+                return Optional.of(rdfClasses.iterator().next());
+            }
+        }
+        Key key = new Key(rdfTypes, Arrays.asList(preferredTypes));
+        Optional<Class<?>> mappedClass = resolved.get(key);
+        if (mappedClass == null) {
+            // resolving is idempotent, so concurrent misses may safely resolve the same key twice
+            mappedClass = resolve(rdfTypes, preferredTypes);
+            resolved.putIfAbsent(key, mappedClass);
+        }
+        return mappedClass;
+    }
+
+    private Optional<Class<?>> resolve(Set<String> rdfTypes, Class<?>... preferredTypes) {
+        Set<Class<?>> candidates = new LinkedHashSet<>();
+        for (String rdfType : rdfTypes) {
+            Set<Class<?>> rdfClasses = mappings.get(rdfType);
+            if (rdfClasses.size() == 1) {
+                candidates.add(rdfClasses.iterator().next());
+            } else if (preferredTypes.length == 0) {
+                throw new IllegalArgumentException(
+                    "'preferredTypes' argument is required when more than one class ("
+                        + rdfClasses + ") are mapped to the same RDF:type (" + rdfType + ")");
+            } else {
+                for (Class<?> preferredType : preferredTypes) {
+                    if (rdfClasses.contains(preferredType)) {
+                        candidates.add(preferredType);
+                        break;
+                    }
+                }
+            }
+        }
+        return candidates.isEmpty() ? Optional.empty() : Optional.of(getMostConcreteClassOf(candidates));
+    }
+
+    /**
+     * Finds the most concrete class of a set of candidates classes in a single
+     * pass: since classes have a single superclass, the candidates have a most
+     * concrete class only if each of them is a superclass of the most concrete
+     * one found so far, or a subclass of it.
+     * @param candidates the candidates set of classes to evaluate.
+     * @return the most concrete class.
+     * @throws IllegalStateException if candidates contains at least two classes
+     * belonging to different inheritance trees.
+     */
+    private static Class<?> getMostConcreteClassOf(Collection<Class<?>> candidates) {
+        Class<?> mostConcrete = null;
+        for (Class<?> candidate : candidates) {
+            if (mostConcrete == null || mostConcrete.isAssignableFrom(candidate)) {
+                mostConcrete = candidate;
+            } else if (!candidate.isAssignableFrom(mostConcrete)) {
+                List<String> leaves = candidates.stream()
+                    .filter(c -> candidates.stream().noneMatch(o -> o != c && c.isAssignableFrom(o)))
+                    .map(Class::getName)
+                    .collect(Collectors.toList());
+                throw new IllegalStateException("Multiple classes, not in the same inheritance tree, "
+                    + "are annotated to map the same RDF:type: " + String.join(", ", leaves));
+            }
+        }
+        return mostConcrete;
+    }
+
+    private static final class Key {
+        private final Set<String> rdfTypes;
+        private final List<Class<?>> preferredTypes;
+
+        private Key(Set<String> rdfTypes, List<Class<?>> preferredTypes) {
+            this.rdfTypes = rdfTypes;
+            this.preferredTypes = preferredTypes;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return rdfTypes.equals(other.rdfTypes) && preferredTypes.equals(other.preferredTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * rdfTypes.hashCode() + preferredTypes.hashCode();
+        }
+    }
+}
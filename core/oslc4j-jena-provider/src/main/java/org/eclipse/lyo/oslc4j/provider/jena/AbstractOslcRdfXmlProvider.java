@@ -22,7 +22,9 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.ext.Providers;
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
@@ -39,6 +41,8 @@ import org.apache.jena.rdf.model.RDFWriterI;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.util.FileUtils;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
@@ -78,6 +82,11 @@ public abstract class AbstractOslcRdfXmlProvider {
   @Deprecated
   public static final String OSLC4J_STRICT_DATATYPES = JenaModelHelper.OSLC4J_STRICT_DATATYPES;
 
+  /**
+   * Maximum number of request body bytes logged at TRACE level.
+   */
+  private static final int MAX_LOGGED_BODY_BYTES = 8 * 1024;
+
   private static final Annotation[] ANNOTATIONS_EMPTY_ARRAY = new Annotation[0];
   private static final Class<Error> CLASS_OSLC_ERROR = Error.class;
   private static final ErrorHandler ERROR_HANDLER = new ErrorHandler();
@@ -137,6 +146,18 @@ public abstract class AbstractOslcRdfXmlProvider {
     try {
       Instant start = Instant.now();
 
+      final Lang streamingLang = getStreamingLang(serializationLanguage);
+      if (streamingLang != null) {
+        final StreamRDF stream = StreamRDFWriter.getWriterStream(outputStream, streamingLang);
+        JenaModelHelper.writeJenaModel(
+            descriptionURI, responseInfoURI, responseInfo, objects, properties, stream);
+        Instant finish = Instant.now();
+        log.trace(
+            "writeObjectsTo (streaming) - Execution Duration: {} ms",
+            Duration.between(start, finish).toMillis());
+        return;
+      }
+
       final Model model =
           JenaModelHelper.createJenaModel(
               descriptionURI, responseInfoURI, responseInfo, objects, properties);
@@ -147,6 +168,11 @@ public abstract class AbstractOslcRdfXmlProvider {
         // XML (and Jena) default to UTF-8, but many libs default to ASCII, so need
         // to set this explicitly
         writer.setProperty("showXmlDeclaration", "false");
+        if ((writer instanceof RdfXmlAbbreviatedWriter) && OSLC4JUtils.useStreamingResponses()) {
+          writer.setProperty(
+              RdfXmlAbbreviatedWriter.RDF_PROPERTY_FLUSH_INTERVAL,
+              OSLC4JUtils.getStreamingFlushInterval());
+        }
         String xmlDeclaration = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
         outputStream.write(xmlDeclaration.getBytes(StandardCharsets.UTF_8));
       }
@@ -160,6 +186,28 @@ public abstract class AbstractOslcRdfXmlProvider {
     }
   }
 
+  /**
+   * @return the language to write as a stream of triples, or null if the response model shall be
+   *     built in full first
+   * @see OSLC4JConstants#OSLC4J_STREAMING_RESPONSES
+   */
+  private Lang getStreamingLang(final String serializationLanguage) {
+    // RDF/XML keeps the model-based path: RDFXML-ABBREV needs the whole model to lay out nested
+    // resources and both variants rely on the XML declaration written in writeObjectsTo. The
+    // RDFXML-ABBREV writer flushes its output every few top-level resources instead
+    if (!OSLC4JUtils.useStreamingResponses()
+        || serializationLanguage.equals(FileUtils.langXML)
+        || serializationLanguage.equals(FileUtils.langXMLAbbrev)) {
+      return null;
+    }
+    // JSON-LD has no stream writer in Jena and falls back to the model as well
+    final Lang lang = RDFLanguages.nameToLang(serializationLanguage);
+    if (lang == null || !StreamRDFWriter.registered(lang)) {
+      return null;
+    }
+    return lang;
+  }
+
   private RDFWriterI getRdfWriter(final String serializationLanguage, final Model model) {
     RDFWriterI writer;
     if (serializationLanguage.equals(FileUtils.langXMLAbbrev)) {
@@ -301,30 +349,34 @@ public abstract class AbstractOslcRdfXmlProvider {
     //		RDFReaderI reader = getRdfReader(mediaType, model);
 
     try {
-      // Pass the empty string as the base URI. This allows Jena to
-      // resolve relative URIs commonly used to in reified statements
-      // for OSLC link labels. See this section of the CM specification
-      // for an example:
-      // http://open-services.net/bin/view/Main/CmSpecificationV2?sortcol=table;up=#Labels_for_Relationships
-
-      // TODO: cleanup
-      byte[] data = inputStream.readAllBytes();
-
-      // Convert to String and print
-      String content = new String(data, "UTF-8");
-      System.out.println(content);
-
-      // Create a new InputStream for further consumption
-      InputStream clonedStream = new ByteArrayInputStream(data);
-      // -----------------------
+      final InputStream entityStream;
+      final CapturingInputStream capturingStream;
+      if (log.isTraceEnabled()) {
+        capturingStream = new CapturingInputStream(inputStream, MAX_LOGGED_BODY_BYTES);
+        entityStream = capturingStream;
+      } else {
+        capturingStream = null;
+        entityStream = inputStream;
+      }
 
       var jenaSafeType = mapMimeToSafeJena(mediaType);
       Lang jenaLang = RDFLanguages.contentTypeToLang(jenaSafeType);
       if (jenaLang == null) {
         jenaLang = Lang.RDFXML;
       }
-      RDFDataMgr.read(model, clonedStream, "", jenaLang);
-      //			reader.read(model, inputStream, "");
+      try {
+        // Parse straight from the entity stream, the raw body is never buffered in full.
+        // Pass the empty string as the base URI. This allows Jena to
+        // resolve relative URIs commonly used to in reified statements
+        // for OSLC link labels. See this section of the CM specification
+        // for an example:
+        // http://open-services.net/bin/view/Main/CmSpecificationV2?sortcol=table;up=#Labels_for_Relationships
+        RDFDataMgr.read(model, entityStream, "", jenaLang);
+      } finally {
+        if (capturingStream != null) {
+          log.trace("Request body ({}): {}", jenaLang.getName(), capturingStream.getCaptured());
+        }
+      }
 
       return JenaModelHelper.unmarshal(model, type);
     } catch (final Exception exception) {
@@ -446,4 +498,56 @@ public abstract class AbstractOslcRdfXmlProvider {
                 CLASS_OSLC_ERROR, CLASS_OSLC_ERROR, ANNOTATIONS_EMPTY_ARRAY, mediaType)
             != null);
   }
+
+  /**
+   * Keeps a copy of the first {@code limit} bytes read from the wrapped stream for logging.
+   */
+  static final class CapturingInputStream extends FilterInputStream {
+    private final ByteArrayOutputStream captured;
+    private final int limit;
+    private boolean truncated;
+
+    CapturingInputStream(final InputStream in, final int limit) {
+      super(in);
+      this.limit = limit;
+      this.captured = new ByteArrayOutputStream(Math.min(limit, 1024));
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = super.read();
+      if (b != -1) {
+        if (captured.size() < limit) {
+          captured.write(b);
+        } else {
+          truncated = true;
+        }
+      }
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      final int n = super.read(b, off, len);
+      if (n > 0) {
+        capture(b, off, n);
+      }
+      return n;
+    }
+
+    private void capture(final byte[] b, final int off, final int len) {
+      final int remaining = limit - captured.size();
+      if (len > remaining) {
+        truncated = true;
+      }
+      if (remaining > 0) {
+        captured.write(b, off, Math.min(len, remaining));
+      }
+    }
+
+    String getCaptured() {
+      final String content = captured.toString(StandardCharsets.UTF_8);
+      return truncated ? content + "... [truncated at " + limit + " bytes]" : content;
+    }
+  }
 }
@@ -13,23 +13,26 @@
  */
 package org.eclipse.lyo.oslc4j.provider.jena;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 import java.io.Writer;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.rdf.model.impl.Util;
+import org.apache.jena.shared.WrappedIOException;
 import org.apache.jena.util.CharEncoding;
 import org.apache.jena.util.FileUtils;
 import org.apache.jena.util.iterator.ExtendedIterator;
@@ -48,10 +51,14 @@ import org.apache.jena.vocabulary.RDF;
  * <li>{@link #RDF_PROPERTY_SHOW_XML_DECLARATION}</li>
  * <li>{@link #RDF_PROPERTY_INDENT}</li>
  * <li>{@link #RDF_PROPERTY_TAB}</li>
+ * <li>{@link #RDF_PROPERTY_FLUSH_INTERVAL}</li>
  * </ul>
  * </li>
  * </ul>
  *
+ * <p>The output is written as it is produced, through a buffer that is reused by the following
+ * writes on the same thread.</p>
+ *
  *
  * @author  Patrick Streule
  * @author  Paul Slauenwhite
@@ -68,6 +75,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
   private Boolean showXmlDeclaration = null;
   private int indent = 0;
   private int tab = 2;
+  private int flushInterval = 0;
   private RDFErrorHandler errorHandler = null;
 
   /**
@@ -92,6 +100,13 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
    */
   private static String RDF_PROPERTY_TAB = "tab"; // $NON-NLS-1$
 
+  /**
+   * <p>Number of top-level resources after which the serialized output is flushed, so that it
+   * reaches the client while the rest of the model is serialized (default: 0, flushed at the end
+   * only).</p>
+   */
+  public static final String RDF_PROPERTY_FLUSH_INTERVAL = "flushInterval"; // $NON-NLS-1$
+
   // RDF (elements):
   private static String RDF_ELEMENT_RDF = "RDF"; // $NON-NLS-1$
   private static String RDF_ELEMENT_DESCRIPTION = "Description"; // $NON-NLS-1$
@@ -155,6 +170,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
    * <li>{@link #RDF_PROPERTY_SHOW_XML_DECLARATION}</li>
    * <li>{@link #RDF_PROPERTY_INDENT}</li>
    * <li>{@link #RDF_PROPERTY_TAB}</li>
+   * <li>{@link #RDF_PROPERTY_FLUSH_INTERVAL}</li>
    * </ul>
    *
    * @param propName The (supported) property name.
@@ -190,6 +206,23 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
           tab = Integer.parseInt(((String) (propValue)));
         } catch (NumberFormatException n) {
 
+          if (errorHandler != null) {
+            errorHandler.warning(n);
+          }
+        }
+      }
+    } else if (RDF_PROPERTY_FLUSH_INTERVAL.equals(propName)) {
+
+      oldPropertyValue = String.valueOf(flushInterval);
+
+      if (propValue instanceof Integer) {
+        flushInterval = (Integer) (propValue);
+      } else if (propValue instanceof String) {
+
+        try {
+          flushInterval = Integer.parseInt(((String) (propValue)));
+        } catch (NumberFormatException n) {
+
           if (errorHandler != null) {
             errorHandler.warning(n);
           }
@@ -249,6 +282,15 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
     // Serialize the RDF model:
     XMLWriter xmlWriter = new XMLWriter(writer, model, indent, tab);
 
+    try {
+      write(model, writer, xmlWriter);
+    } finally {
+      xmlWriter.release();
+    }
+  }
+
+  private void write(Model model, Writer writer, XMLWriter xmlWriter) {
+
     // Note: XML declaration is shown when a) encoding is not UTF8/UTF16 (default) or b) configured.
     if ((showXmlDeclaration == null) || (Boolean.TRUE.equals(showXmlDeclaration))) {
 
@@ -271,113 +313,10 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
     // Serialize the RDF model:
     xmlWriter.rootStartTag(RDF.getURI(), RDF_ELEMENT_RDF);
 
-    // Resolve the objects of the model:
-    List<Resource> objects = new ArrayList<>();
-    // Filter the following statements:
-    // 1) A subject of any other statement(s) in the model (reified statement).
-    // 2) A literal resource as the object of the statement.
-    // 3) A subject, predicate, or object as the predicate of the statement.
-    ExtendedIterator<Statement> statementIterator =
-        model
-            .listStatements()
-            .filterKeep(
-                statement -> {
-                  Property predicate = statement.getPredicate();
-
-                  return ((statement.getObject().isResource())
-                      && (!RDF.subject.equals(predicate))
-                      && (!RDF.predicate.equals(predicate))
-                      && (!RDF.object.equals(predicate)));
-                });
-
-    while (statementIterator.hasNext()) {
-
-      // Assumption: All statements have an URI or anonymous resource as the object.
-      Statement stmt = statementIterator.next();
-      logger.finest(
-          "Added model object: "
-              + stmt.getSubject().toString()
-              + " "
-              + stmt.getPredicate().toString()
-              + " "
-              + stmt.getObject().toString());
-      Resource resource = stmt.getObject().asResource();
-
-      // Maintain uniqueness:
-      if (!objects.contains(resource)) {
-        objects.add(resource);
-      }
-    }
-
-    // Resolve the proposed root resources of the model.  These include:
-    // 1. Resources not the object of any other statements
-    // 2. Other non-anonymous resources
-    List<Resource> rootResources = new ArrayList<>();
-    statementIterator = model.listStatements();
-
-    while (statementIterator.hasNext()) {
-
-      Resource subject = statementIterator.next().getSubject();
-
-      if (!(objects.contains(subject) && subject.isAnon())) {
-
-        // Maintain uniqueness:
-        if (!rootResources.contains(subject)) {
-          rootResources.add(subject);
-          logger.finest("Added proposed root: " + subject.getURI());
-        }
-      }
-    }
-
-    // Test the candidate root resources to see if they are the objects of other root resource
-    // candidates.
-    // If a candidate is the object of another root resource candidate, propose it for removal from
-    // root resources.
-    // If all candidates are proposed for removal (i.e. fully cyclic graph), keep them all try to
-    // serialize.
-    Set<Resource> removalCandidates = new HashSet<>();
-    Set<Resource> rootTestAgainst = new HashSet<>();
-    rootTestAgainst.addAll(rootResources);
-    rootTestAgainst.addAll(objects);
-    for (Resource rootCandidate : rootResources) {
-      if (logger.isLoggable(Level.FINEST)) {
-        logger.finest("validating root candidate: " + rootCandidate.toString());
-      }
-      for (Resource rootTest : rootTestAgainst) {
-        if (logger.isLoggable(Level.FINEST)) {
-          logger.finest("testing against resource: " + rootTest.toString());
-        }
-        if (!rootTest.equals(rootCandidate)) {
-          boolean rootCandidateIsObject =
-              model.listStatements(rootTest, null, rootCandidate).hasNext();
-          if (rootCandidateIsObject) {
-            boolean objectIsReification =
-                rootTest.hasProperty(RDF.type, RDF.Statement)
-                    || (rootTest.hasProperty(RDF.subject)
-                        && rootTest.hasProperty(RDF.predicate)
-                        && rootTest.hasProperty(RDF.object));
-            if (!objectIsReification) {
-              // checks if there is a self cyclic reference for the resource.
-              boolean isCyclic = isChild(model, new HashSet<>(), rootCandidate, rootCandidate);
-              if (!isCyclic) {
-                removalCandidates.add(rootCandidate);
-                if (logger.isLoggable(Level.FINEST)) {
-                  logger.finest("removed: " + rootCandidate.toString());
-                }
-              }
-            }
-          }
-        }
-      }
-    }
+    List<Resource> rootResources = findRootResources(model);
 
-    // Take removal candidates out of the rootResource list only if all candidates are not proposed
-    // for removal.
-    if (!(removalCandidates.size() == rootResources.size())) {
-      rootResources.removeAll(removalCandidates);
-    }
-
-    List<Resource> serializedResources = new ArrayList<>();
+    Set<Resource> serializedResources = new HashSet<>();
+    int topLevelCount = 0;
 
     for (Resource rootResource : rootResources) {
 
@@ -419,6 +358,10 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
         serializeStatements(rootResource, xmlWriter, serializedResources, rootResourceTypeURI);
 
         xmlWriter.endTag(rootResourceNameSpace, rootResourceName, true);
+
+        if ((flushInterval > 0) && ((++topLevelCount % flushInterval) == 0)) {
+          xmlWriter.flush();
+        }
       }
     }
 
@@ -451,6 +394,10 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
         serializeStatements(r, xmlWriter, serializedResources, null);
 
         xmlWriter.endTag(RDF.getURI(), RDF_ELEMENT_DESCRIPTION, true);
+
+        if ((flushInterval > 0) && ((++topLevelCount % flushInterval) == 0)) {
+          xmlWriter.flush();
+        }
       }
     }
 
@@ -460,55 +407,191 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
   }
 
   /**
-   * Returns true if there is a path leading from <code>parent</code> to any
-   * of the resources in <code>children</code>.
+   * <p>Resolves the resources serialized as top-level elements, in the order in which they first
+   * appear as subjects.</p>
+   *
+   * <p>These are the subjects of the model, except anonymous resources that are the object of a
+   * statement, and except resources that are the object of a statement of another, non-reified
+   * resource, unless they lie on a reference cycle. If no subject remains, all of them are kept
+   * (i.e. fully cyclic graph).</p>
    *
-   * @param model
-   *            model.
-   * @param visitedResources
-   *            resource already visited during the search.
-   * @param parent
-   *            parent resource.
-   * @param children
-   *            children resources.
-   * @return true if there is a path.
+   * <p>The statements are read once into a reference index, so that this takes linear time in
+   * the number of statements.</p>
    */
-  private boolean isChild(
-      Model model, Set<Resource> visitedResources, Resource parent, Resource... children) {
-    boolean isChild = false;
-    List<Resource> newChildren = new ArrayList<>();
-    outer:
-    for (Resource child : children) {
-      visitedResources.add(child);
-      List<Statement> list = model.listStatements(null, null, child).toList();
-      for (Statement stat : list) {
-        RDFNode subject = stat.getSubject();
-        if (subject.isResource()) {
-          Resource subjectAsResource = subject.asResource();
-          if (subject.equals(parent)) {
-            isChild = true;
-            break outer;
-          } else {
-            if (!visitedResources.contains(subjectAsResource)) {
-              newChildren.add(subjectAsResource);
-            }
+  private static List<Resource> findRootResources(Model model) {
+
+    // Objects of the statements, other than the ones of reified statements:
+    Set<Resource> objects = new HashSet<>();
+    // Subjects in order of appearance, with the resources they reference:
+    Map<Resource, List<Resource>> references = new LinkedHashMap<>();
+    // Resources typed as rdf:Statement, and the rdf:subject/predicate/object they have:
+    Set<Resource> statements = new HashSet<>();
+    Map<Resource, Integer> reificationProperties = new HashMap<>();
+
+    StmtIterator statementIterator = model.listStatements();
+
+    while (statementIterator.hasNext()) {
+
+      Statement statement = statementIterator.next();
+      Resource subject = statement.getSubject();
+      Property predicate = statement.getPredicate();
+      RDFNode object = statement.getObject();
+
+      List<Resource> subjectReferences =
+          references.computeIfAbsent(subject, resource -> new ArrayList<>());
+
+      if (RDF.subject.equals(predicate)) {
+        reificationProperties.merge(subject, 1, (a, b) -> a | b);
+      } else if (RDF.predicate.equals(predicate)) {
+        reificationProperties.merge(subject, 2, (a, b) -> a | b);
+      } else if (RDF.object.equals(predicate)) {
+        reificationProperties.merge(subject, 4, (a, b) -> a | b);
+      } else if (object.isResource()) {
+        objects.add(object.asResource());
+      }
+
+      if (RDF.type.equals(predicate) && RDF.Statement.equals(object)) {
+        statements.add(subject);
+      }
+
+      if (object.isResource()) {
+        subjectReferences.add(object.asResource());
+      }
+    }
+
+    // Resolve the resources referenced by another, non-reified resource:
+    Set<Resource> referenced = new HashSet<>();
+
+    for (Entry<Resource, List<Resource>> entry : references.entrySet()) {
+
+      Resource subject = entry.getKey();
+      boolean isReification =
+          statements.contains(subject)
+              || (reificationProperties.getOrDefault(subject, 0) == 7);
+
+      if (!isReification) {
+        for (Resource object : entry.getValue()) {
+          if (!object.equals(subject)) {
+            referenced.add(object);
           }
         }
       }
     }
-    if (!isChild && newChildren.size() > 0) {
-      Resource[] childrenResources = new Resource[newChildren.size()];
-      isChild =
-          isChild(
-              model, visitedResources, parent, (Resource[]) newChildren.toArray(childrenResources));
+
+    Set<Resource> cyclic = findCyclicResources(references);
+    List<Resource> candidates = new ArrayList<>();
+    List<Resource> rootResources = new ArrayList<>();
+
+    for (Resource subject : references.keySet()) {
+
+      if (!(subject.isAnon() && objects.contains(subject))) {
+
+        candidates.add(subject);
+
+        if (!referenced.contains(subject) || cyclic.contains(subject)) {
+          rootResources.add(subject);
+          logger.finest("Added root: " + subject);
+        }
+      }
+    }
+
+    return rootResources.isEmpty() ? candidates : rootResources;
+  }
+
+  /**
+   * <p>Resolves the resources that lie on a cycle of references, i.e. that reference themselves
+   * directly or through other resources.</p>
+   *
+   * <p>These are the members of the strongly connected components with more than one member, and
+   * the resources referencing themselves. The components are found with Tarjan's algorithm,
+   * iteratively so that long reference chains do not overflow the stack.</p>
+   *
+   * @param references resources referenced by each subject
+   */
+  private static Set<Resource> findCyclicResources(Map<Resource, List<Resource>> references) {
+
+    Map<Resource, Integer> index = new HashMap<>();
+    Map<Resource, Integer> lowLink = new HashMap<>();
+    Deque<Resource> component = new ArrayDeque<>();
+    Set<Resource> inComponent = new HashSet<>();
+    Set<Resource> cyclic = new HashSet<>();
+
+    for (Resource root : references.keySet()) {
+
+      if (index.containsKey(root)) {
+        continue;
+      }
+
+      Deque<Resource> path = new ArrayDeque<>();
+      Deque<Iterator<Resource>> pathIterators = new ArrayDeque<>();
+      Resource next = root;
+
+      while (true) {
+
+        if (next != null) {
+          index.put(next, index.size());
+          lowLink.put(next, index.get(next));
+          component.push(next);
+          inComponent.add(next);
+          path.push(next);
+          pathIterators.push(references.getOrDefault(next, List.of()).iterator());
+          next = null;
+        }
+
+        Resource resource = path.peek();
+        Iterator<Resource> iterator = pathIterators.peek();
+
+        if (iterator.hasNext()) {
+
+          Resource object = iterator.next();
+
+          if (object.equals(resource)) {
+            cyclic.add(resource);
+          }
+
+          if (!index.containsKey(object)) {
+            next = object;
+          } else if (inComponent.contains(object)) {
+            lowLink.put(resource, Math.min(lowLink.get(resource), index.get(object)));
+          }
+        } else {
+
+          path.pop();
+          pathIterators.pop();
+
+          if (lowLink.get(resource).equals(index.get(resource))) {
+
+            List<Resource> members = new ArrayList<>();
+            Resource member;
+
+            do {
+              member = component.pop();
+              inComponent.remove(member);
+              members.add(member);
+            } while (!member.equals(resource));
+
+            if (members.size() > 1) {
+              cyclic.addAll(members);
+            }
+          }
+
+          if (path.isEmpty()) {
+            break;
+          }
+
+          Resource parent = path.peek();
+          lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(resource)));
+        }
+      }
     }
-    return isChild;
+
+    return cyclic;
   }
 
   private void serializeStatements(
       Resource resource,
       XMLWriter xmlWriter,
-      List<Resource> serializedResources,
+      Set<Resource> serializedResources,
       String rootResourceTypeURI) {
 
     StmtIterator statementIterator =
@@ -528,7 +611,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
   private void serializeStatement(
       Statement statement,
       XMLWriter xmlWriter,
-      List<Resource> serializedResources,
+      Set<Resource> serializedResources,
       Set<Statement> visitedStatements,
       String rootResourceTypeURI) {
 
@@ -715,6 +798,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
    *
    * <ul>
    * <li>Indentation using tabs.</li>
+   * <li>Buffered output, reusing the buffer of the current thread.</li>
    * </ul>
    *
    *
@@ -727,7 +811,20 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
    */
   private static class XMLWriter {
 
-    private final PrintWriter printWriter;
+    /**
+     * <p>Number of characters buffered before they are written out.</p>
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final ThreadLocal<StringBuilder> BUFFERS =
+        ThreadLocal.withInitial(() -> new StringBuilder(BUFFER_SIZE));
+
+    private static volatile String spaces = "                                ";
+
+    private final Writer writer;
+    private final StringBuilder buffer;
     private final Map<String, String> namespaceMap;
     private final int indent;
     private final int tab;
@@ -735,10 +832,16 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
     public XMLWriter(Writer writer, Model model, int indent, int tab) {
 
-      if (writer instanceof PrintWriter) {
-        this.printWriter = ((PrintWriter) (writer));
+      this.writer = writer;
+
+      // Take the buffer of the thread, unless another serialization on it has taken it:
+      StringBuilder threadBuffer = BUFFERS.get();
+
+      if (threadBuffer != null) {
+        BUFFERS.set(null);
+        this.buffer = threadBuffer;
       } else {
-        this.printWriter = new PrintWriter(writer);
+        this.buffer = new StringBuilder(BUFFER_SIZE);
       }
 
       // Create the namespace map that maps namespaces to namespace prefixes:
@@ -789,12 +892,12 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
     public void xmlDeclaration(String encoding) {
 
       if (encoding != null) {
-        printWriter.print(MessageFormat.format(XML_DECLARATION_ENCODING, encoding));
+        buffer.append(MessageFormat.format(XML_DECLARATION_ENCODING, encoding));
       } else {
-        printWriter.print(XML_DECLARATION_ENCODING);
+        buffer.append(XML_DECLARATION_ENCODING);
       }
 
-      printWriter.println();
+      println();
     }
 
     public void rootStartTag(String namespaceUri, String localName) {
@@ -808,14 +911,18 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
       // Serialize the namespace prefixes:
       for (Entry<String, String> namespaceEntry : namespaceMap.entrySet()) {
 
-        printWriter.println();
+        println();
 
         tab();
         tab();
 
-        final String buffer =
-            PREFIX_XMLNS + ':' + namespaceEntry.getValue() + "=\"" + namespaceEntry.getKey() + '"';
-        printWriter.print(buffer);
+        buffer
+            .append(PREFIX_XMLNS)
+            .append(':')
+            .append(namespaceEntry.getValue())
+            .append("=\"")
+            .append(namespaceEntry.getKey())
+            .append('"');
       }
 
       closeStartTag(true);
@@ -832,37 +939,41 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
         tab();
       }
 
-      final String buffer = "<" + namespaceMap.get(namespaceUri) + ':' + localName;
-      printWriter.print(buffer);
+      buffer.append('<').append(namespaceMap.get(namespaceUri)).append(':').append(localName);
     }
 
     public void attribute(String namespaceUri, String localName, String value) {
 
-      final String buffer =
-          " " + namespaceMap.get(namespaceUri) + ':' + localName + "=\"" + value + '"';
-      printWriter.print(buffer);
+      buffer
+          .append(' ')
+          .append(namespaceMap.get(namespaceUri))
+          .append(':')
+          .append(localName)
+          .append("=\"")
+          .append(value)
+          .append('"');
     }
 
     public void closeEmptyStartTag() {
 
-      printWriter.print("/>"); // $NON-NLS-1$
+      buffer.append("/>"); // $NON-NLS-1$
 
-      printWriter.println();
+      println();
 
       tabCount--;
     }
 
     public void closeStartTag(boolean isParent) {
 
-      printWriter.print(">"); // $NON-NLS-1$
+      buffer.append('>'); // $NON-NLS-1$
 
       if (isParent) {
-        printWriter.println();
+        println();
       }
     }
 
     public void literal(String literal) {
-      printWriter.print(literal);
+      buffer.append(literal);
     }
 
     public void endTag(String namespaceUri, String localName, boolean isParent) {
@@ -878,31 +989,81 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
         tab();
       }
 
-      final String buffer =
-          "</"
-              + //$NON-NLS-1$
-              namespaceMap.get(namespaceUri)
-              + ':'
-              + localName
-              + '>';
-      printWriter.print(buffer);
+      buffer
+          .append("</") // $NON-NLS-1$
+          .append(namespaceMap.get(namespaceUri))
+          .append(':')
+          .append(localName)
+          .append('>');
 
-      printWriter.println();
+      println();
     }
 
     public void end() {
-      printWriter.flush();
+      flush();
+    }
+
+    /**
+     * <p>Writes out the buffered output and flushes the underlying writer.</p>
+     */
+    public void flush() {
+
+      drain();
+
+      try {
+        writer.flush();
+      } catch (IOException e) {
+        throw new WrappedIOException(e);
+      }
+    }
+
+    /**
+     * <p>Returns the buffer for reuse by the next serialization on this thread.</p>
+     */
+    public void release() {
+
+      buffer.setLength(0);
+
+      // Do not keep the buffer if an exceptionally large literal has grown it:
+      if ((buffer.capacity() <= (4 * BUFFER_SIZE)) && (BUFFERS.get() == null)) {
+        BUFFERS.set(buffer);
+      }
+    }
+
+    private void println() {
+
+      buffer.append(LINE_SEPARATOR);
+
+      if (buffer.length() >= BUFFER_SIZE) {
+        drain();
+      }
+    }
+
+    private void drain() {
+
+      try {
+        writer.append(buffer);
+      } catch (IOException e) {
+        throw new WrappedIOException(e);
+      }
+
+      buffer.setLength(0);
     }
 
     private void tab() {
 
-      char[] spaces = new char[(tab * tabCount) + indent];
+      int count = (tab * tabCount) + indent;
 
-      if (spaces.length > 0) {
+      if (count > 0) {
 
-        Arrays.fill(spaces, ' ');
+        String currentSpaces = spaces;
+
+        if (currentSpaces.length() < count) {
+          currentSpaces = " ".repeat(Math.max(count, 2 * currentSpaces.length()));
+          spaces = currentSpaces;
+        }
 
-        printWriter.print(new String(spaces));
+        buffer.append(currentSpaces, 0, count);
       }
     }
   }
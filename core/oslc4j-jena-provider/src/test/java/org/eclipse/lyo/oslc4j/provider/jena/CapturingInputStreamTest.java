@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+import org.eclipse.lyo.oslc4j.provider.jena.AbstractOslcRdfXmlProvider.CapturingInputStream;
+import org.junit.Test;
+
+public class CapturingInputStreamTest {
+
+  @Test
+  public void testCapturesBodyOfParseError() {
+    final String body =
+        "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">\n"
+            + "  <rdf:Description rdf:about=\"http://example.com/r\">\n"
+            + "    <unclosed>\n"
+            + "  </rdf:Description>\n"
+            + "</rdf:RDF>\n";
+    final CapturingInputStream stream =
+        new CapturingInputStream(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 8 * 1024);
+
+    try {
+      RDFDataMgr.read(ModelFactory.createDefaultModel(), stream, "", Lang.RDFXML);
+      fail();
+    } catch (final RiotException expected) {
+      // the body is malformed
+    }
+
+    // the body is captured up to the error at least, for the request log
+    final String captured = stream.getCaptured();
+    assertTrue(captured, captured.contains("<unclosed>"));
+    assertTrue(captured, body.startsWith(captured));
+  }
+
+  @Test
+  public void testTruncatesSingleByteReads() throws Exception {
+    final CapturingInputStream stream =
+        new CapturingInputStream(
+            new ByteArrayInputStream("abcdefgh".getBytes(StandardCharsets.UTF_8)), 4);
+
+    final StringBuilder read = new StringBuilder();
+    for (int b = stream.read(); b != -1; b = stream.read()) {
+      read.append((char) b);
+    }
+
+    assertEquals("abcdefgh", read.toString());
+    assertEquals("abcd... [truncated at 4 bytes]", stream.getCaptured());
+  }
+}
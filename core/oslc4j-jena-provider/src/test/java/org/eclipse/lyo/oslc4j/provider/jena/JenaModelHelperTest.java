@@ -28,9 +28,12 @@ import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.namespace.QName;
 import org.apache.jena.datatypes.DatatypeFormatException;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.system.StreamRDFLib;
 import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
 import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoArray;
 import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
 import org.eclipse.lyo.oslc4j.provider.jena.helpers.RDFHelper;
 import org.eclipse.lyo.oslc4j.provider.jena.resources.Container;
@@ -69,6 +72,33 @@ public class JenaModelHelperTest {
     assertThat(actualModel).isomorphicWith(expectedModel);
   }
 
+  @Test
+  public void testStreamingMarshalling() throws Exception {
+    final Container container = new Container();
+    container.setAbout(URI.create("urn:test:containerA"));
+    final List<Element> children = List.of(element("A"), element("B"));
+    container.setChildrenL(children);
+    container.setChildrenB(children);
+    final Object[] objects = {container, element("C")};
+    final ResponseInfoArray<Object> responseInfo =
+        new ResponseInfoArray<>(objects, null, 10, "urn:test:next");
+
+    final Model expectedModel =
+        JenaModelHelper.createJenaModel(
+            "urn:test:query", "urn:test:query?page=1", responseInfo, objects, null);
+
+    final Model actualModel = ModelFactory.createDefaultModel();
+    JenaModelHelper.writeJenaModel(
+        "urn:test:query",
+        "urn:test:query?page=1",
+        responseInfo,
+        objects,
+        null,
+        StreamRDFLib.graph(actualModel.getGraph()));
+
+    assertThat(actualModel).isomorphicWith(expectedModel);
+  }
+
   private Element element(final String name) {
     final Element element = new Element();
     element.setAbout(URI.create(String.format("urn:test:%s", name)));
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+import org.eclipse.lyo.oslc4j.core.OslcGlobalNamespaceProvider;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+import org.eclipse.lyo.oslc4j.core.test.customnamespace.CustomNamespaceConstants;
+import org.eclipse.lyo.oslc4j.core.test.customnamespace.CustomNamespaceResource;
+import org.eclipse.lyo.oslc4j.provider.jena.ResourceClassMetadata.PropertyMetadata;
+import org.eclipse.lyo.oslc4j.provider.jena.ResourceClassMetadata.SetterMetadata;
+import org.eclipse.lyo.oslc4j.provider.jena.generated.Widget;
+import org.eclipse.lyo.oslc4j.provider.jena.generated.Widget_OslcAccessors;
+import org.eclipse.lyo.oslc4j.provider.jena.resources.Element;
+import org.junit.Test;
+
+public class ResourceClassMetadataTest {
+
+  @Test
+  public void testMetadataIsCachedPerClass() {
+    assertSame(ResourceClassMetadata.of(Element.class), ResourceClassMetadata.of(Element.class));
+  }
+
+  @Test
+  public void testPropertyMetadata() {
+    final ResourceClassMetadata metadata = ResourceClassMetadata.of(Element.class);
+
+    assertTrue(metadata.isResourceShape());
+    assertEquals("http://locahost:7001/vocabularyElement", metadata.getQualifiedName());
+
+    final List<PropertyMetadata> properties = metadata.getProperties();
+    assertEquals(1, properties.size());
+
+    final PropertyMetadata name = properties.get(0);
+    assertEquals("http://locahost:7001/vocabulary/name", name.getPropertyDefinition());
+    assertEquals("getName", name.getGetter().getName());
+    assertEquals(String.class, name.getReturnType());
+    assertTrue(name.hasValidName());
+    assertFalse(name.isXmlLiteral());
+  }
+
+  @Test
+  public void testAccessors() throws Exception {
+    final Element element = new Element();
+    element.setName("A");
+    final PropertyMetadata name = ResourceClassMetadata.of(Element.class).getProperties().get(0);
+
+    assertEquals("A", name.getValue(element));
+
+    final SetterMetadata setter =
+        new SetterMetadata(Element.class.getMethod("setName", String.class));
+    setter.setValue(element, "B");
+    assertEquals("B", element.getName());
+  }
+
+  @Test
+  public void testReflectiveAccessors() throws Exception {
+    final Element element = new Element();
+    element.setName("A");
+    OSLC4JUtils.setUseMethodHandles(false);
+    try {
+      final PropertyAccessors.Getter getter =
+          PropertyAccessors.getter(Element.class.getMethod("getName"));
+      final PropertyAccessors.Setter setter =
+          PropertyAccessors.setter(Element.class.getMethod("setName", String.class));
+
+      assertEquals("A", getter.get(element));
+      setter.set(element, "B");
+      assertEquals("B", element.getName());
+    } finally {
+      System.clearProperty(OSLC4JConstants.OSLC4J_USE_METHOD_HANDLES);
+    }
+  }
+
+  @Test
+  public void testMethodHandleAccessorsFailLikeReflection() throws Exception {
+    final PropertyAccessors.Getter getter =
+        PropertyAccessors.getter(Element.class.getMethod("getName"));
+    final PropertyAccessors.Setter setter =
+        PropertyAccessors.setter(Element.class.getMethod("setName", String.class));
+
+    try {
+      getter.get("not an element");
+      fail();
+    } catch (final IllegalArgumentException expected) {
+      // not wrapped, since the getter was not called
+    }
+    try {
+      setter.set(new Element(), 1);
+      fail();
+    } catch (final IllegalArgumentException expected) {
+      // not wrapped, since the setter was not called
+    }
+    try {
+      PropertyAccessors.getter(Optional.class.getMethod("get")).get(Optional.empty());
+      fail();
+    } catch (final InvocationTargetException e) {
+      assertTrue(e.getCause() instanceof NoSuchElementException);
+    }
+  }
+
+  @Test
+  public void testSettersAreResolvedOnce() throws Exception {
+    final ResourceClassMetadata metadata = ResourceClassMetadata.of(Element.class);
+    final Map<String, SetterMetadata> setters = metadata.getSetters();
+
+    assertSame(setters, metadata.getSetters());
+    assertEquals(
+        "setName", setters.get("http://locahost:7001/vocabulary/name").getSetter().getName());
+  }
+
+  @Test
+  public void testNonResourceClass() {
+    final ResourceClassMetadata metadata = ResourceClassMetadata.of(String.class);
+
+    assertFalse(metadata.isResourceShape());
+    assertTrue(metadata.getProperties().isEmpty());
+  }
+
+  @Test
+  public void testNamespacePrefixes() {
+    final ResourceClassMetadata metadata = ResourceClassMetadata.of(CustomNamespaceResource.class);
+    final Map<String, String> prefixes = metadata.getNamespacePrefixes();
+
+    assertSame(prefixes, metadata.getNamespacePrefixes());
+    assertEquals(
+        CustomNamespaceConstants.TEST1_URL, prefixes.get(CustomNamespaceConstants.TEST1_PREFIX));
+    assertEquals(
+        CustomNamespaceConstants.TEST2_URL, prefixes.get(CustomNamespaceConstants.TEST2_PREFIX));
+    assertEquals(
+        CustomNamespaceConstants.CUSTOM_URL, prefixes.get(CustomNamespaceConstants.CUSTOM_PREFIX));
+  }
+
+  @Test
+  public void testNamespacePrefixTableIsReusedUntilGlobalPrefixesChange() {
+    final Object[] objects = {new CustomNamespaceResource(), new CustomNamespaceResource()};
+    final Map<String, String> prefixes = NamespacePrefixTable.of(objects, true, true);
+
+    assertSame(prefixes, NamespacePrefixTable.of(objects, true, true));
+    assertTrue(prefixes.containsValue(OslcConstants.OSLC_CORE_NAMESPACE));
+
+    final Map<String, String> global =
+        OslcGlobalNamespaceProvider.getInstance().getPrefixDefinitionMap();
+    global.put(CustomNamespaceConstants.GLOBAL_PREFIX, CustomNamespaceConstants.GLOBAL_URL);
+    try {
+      final Map<String, String> updated = NamespacePrefixTable.of(objects, true, true);
+
+      assertNotSame(prefixes, updated);
+      assertEquals(
+          CustomNamespaceConstants.GLOBAL_URL, updated.get(CustomNamespaceConstants.GLOBAL_PREFIX));
+    } finally {
+      global.remove(CustomNamespaceConstants.GLOBAL_PREFIX);
+    }
+  }
+
+  @Test
+  public void testSetterValueClass() throws Exception {
+    final SetterMetadata parts =
+        ResourceClassMetadata.of(Widget.class)
+            .getSetters()
+            .get("http://locahost:7001/vocabulary/parts");
+
+    assertEquals(Set.class, parts.getParameterClass());
+    assertTrue(parts.isMultiple());
+    assertNull(parts.getReifiedClass());
+    assertEquals(Link.class, parts.getValueClass());
+  }
+
+  @Test
+  public void testGeneratedAccessors() throws Exception {
+    assertTrue(
+        ServiceLoader.load(IOslcResourceAccessors.class).stream()
+            .anyMatch(provider -> provider.type() == Widget_OslcAccessors.class));
+    final IOslcResourceAccessors accessors = PropertyAccessors.generatedAccessors(Widget.class);
+    assertTrue(accessors instanceof Widget_OslcAccessors);
+    final List<String> definitions = accessors.getPropertyDefinitions();
+    assertTrue(accessors.isWritable(definitions.indexOf("http://locahost:7001/vocabulary/name")));
+    assertFalse(accessors.isWritable(definitions.indexOf("http://locahost:7001/vocabulary/code")));
+
+    final Widget widget = new Widget();
+    widget.setAbout(URI.create("http://example.com/widget"));
+    widget.setName("A");
+    widget.setParts(Set.of(new Link(URI.create("http://example.com/part"))));
+    final int calls = Widget.GENERATED_CALLS.get();
+
+    final Model model = JenaModelHelper.createJenaModel(new Object[] {widget});
+    final Widget[] widgets = JenaModelHelper.unmarshal(model, Widget.class);
+
+    assertEquals(1, widgets.length);
+    assertEquals("A", widgets[0].getName());
+    assertEquals(widget.getParts(), widgets[0].getParts());
+    // three reads and two writes, the code having no setter
+    assertEquals(calls + 5, Widget.GENERATED_CALLS.get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGeneratedSetterRejectsValueOfWrongType() throws Exception {
+    ResourceClassMetadata.of(Widget.class)
+        .getSetters()
+        .get("http://locahost:7001/vocabulary/name")
+        .setValue(new Widget(), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGeneratedGetterRejectsBeanOfWrongType() throws Exception {
+    ResourceClassMetadata.of(Widget.class).getProperties().get(0).getValue(new Element());
+  }
+}
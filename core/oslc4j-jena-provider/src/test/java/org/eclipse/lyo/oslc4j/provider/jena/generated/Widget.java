@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena.generated;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.IOslcResourceAccessors;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+
+/**
+ * Resource whose accessors are generated by the OSLC4J annotation processor when compiling the
+ * tests, counting the calls made through them.
+ */
+@OslcNamespace("http://locahost:7001/vocabulary/")
+@OslcResourceShape(title = "WidgetTest")
+public class Widget extends AbstractResource {
+    /** Number of getter and setter calls made by the generated accessors. */
+    public static final AtomicInteger GENERATED_CALLS = new AtomicInteger();
+
+    private static final StackWalker WALKER =
+        StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private String name;
+    private Set<Link> parts = new HashSet<>();
+
+    @OslcPropertyDefinition("http://locahost:7001/vocabulary/name")
+    public String getName() {
+        countCall();
+        return name;
+    }
+
+    public void setName(String name) {
+        countCall();
+        this.name = name;
+    }
+
+    @OslcPropertyDefinition("http://locahost:7001/vocabulary/parts")
+    public Set<Link> getParts() {
+        countCall();
+        return parts;
+    }
+
+    public void setParts(Set<Link> parts) {
+        countCall();
+        this.parts = parts;
+    }
+
+    @OslcPropertyDefinition("http://locahost:7001/vocabulary/code")
+    public String getCode() {
+        countCall();
+        return "W";
+    }
+
+    private static void countCall() {
+        // skips this method and the getter or setter
+        WALKER.walk(frames -> frames.skip(2).findFirst())
+            .filter(frame -> frame.getDeclaringClass().getName()
+                .equals(Widget.class.getName() + IOslcResourceAccessors.CLASS_NAME_SUFFIX))
+            .ifPresent(frame -> GENERATED_CALLS.incrementAndGet());
+    }
+}
@@ -1,5 +1,6 @@
 package org.eclipse.lyo.oslc4j.provider.jena.ordfm;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.jena.rdf.model.Model;
@@ -42,26 +43,26 @@ public class ResourcePackagesTests {
     @Test
     public void testMapPackage() {
         ResourcePackages.mapPackage(Pet.class.getPackage());
-        for (String aPackage : ResourcePackages.SCANNED_PACKAGES) {
+        for (String aPackage : ResourcePackages.getIndex().getPackages()) {
             log.info("Scanned package: {}", aPackage);
         }
 
-        Assert.assertEquals(1, ResourcePackages.SCANNED_PACKAGES.size());
-        Assert.assertEquals(8, ResourcePackages.TYPES_MAPPINGS.keySet().size());
+        Assert.assertEquals(1, ResourcePackages.getIndex().getPackages().size());
+        Assert.assertEquals(8, ResourcePackages.getIndex().getMappings().keySet().size());
     }
 
     @Test
     public void testMapPackageTwice() {
         ResourcePackages.mapPackage(ChildAnimal.class.getPackage());
         ResourcePackages.mapPackage(Pet.class.getPackage());
-        for (String aPackage : ResourcePackages.SCANNED_PACKAGES) {
+        for (String aPackage : ResourcePackages.getIndex().getPackages()) {
             log.info("Scanned package: {}", aPackage);
         }
 
-        Assert.assertEquals(2, ResourcePackages.SCANNED_PACKAGES.size());
-        Assert.assertEquals(8, ResourcePackages.TYPES_MAPPINGS.keySet().size());
+        Assert.assertEquals(2, ResourcePackages.getIndex().getPackages().size());
+        Assert.assertEquals(8, ResourcePackages.getIndex().getMappings().keySet().size());
         // ensure the ChildAnimal class is mapped once
-        Assert.assertEquals(1, ResourcePackages.TYPES_MAPPINGS.entrySet().stream()
+        Assert.assertEquals(1, ResourcePackages.getIndex().getMappings().entrySet().stream()
             .flatMap(it -> it.getValue().stream())
             .filter(it -> it.getCanonicalName().equals(ChildAnimal.class.getCanonicalName()))
             .count());
@@ -127,4 +128,34 @@ public class ResourcePackagesTests {
         Assert.assertEquals(WildDog.class, mappedClass.get());
     }
 
+    @Test
+    public void testReadIndex() {
+        Optional<List<String>> classNames = ResourcePackages.readIndex(
+            getClass().getClassLoader(), ChildAnimal.class.getPackage().getName());
+        Assert.assertEquals(Optional.of(List.of(ChildAnimal.class.getName())), classNames);
+        Assert.assertEquals(false, ResourcePackages.readIndex(
+            getClass().getClassLoader(), Pet.class.getPackage().getName()).isPresent());
+    }
+
+    @Test
+    public void testMapPackageFromIndex() {
+        ResourcePackages.mapPackage(ChildAnimal.class.getPackage());
+        resource.addProperty(RDF.type, ResourceFactory.createResource("http://locahost:7001/vocabulary/ChildAnimal"));
+        Assert.assertEquals(Optional.of(ChildAnimal.class), ResourcePackages.getClassOf(resource));
+    }
+
+    @Test
+    public void testGetClassOf_isResolvedOncePerIndex() {
+        ResourcePackages.mapPackage(Pet.class.getPackage());
+        resource.addProperty(RDF.type, ResourceFactory.createResource("http://locahost:7001/vocabulary/Cat"));
+        resource.addProperty(RDF.type, ResourceFactory.createResource("http://locahost:7001/vocabulary/Animal"));
+        TypeIndex index = ResourcePackages.getIndex();
+        Assert.assertEquals(Optional.of(Cat.class), ResourcePackages.getClassOf(resource));
+        Assert.assertSame(index, ResourcePackages.getIndex());
+        Assert.assertSame(ResourcePackages.getClassOf(resource), ResourcePackages.getClassOf(resource));
+
+        ResourcePackages.mapPackage(ChildAnimal.class.getPackage());
+        Assert.assertNotSame(index, ResourcePackages.getIndex());
+        Assert.assertEquals(Optional.of(Cat.class), ResourcePackages.getClassOf(resource));
+    }
 }
@@ -15,22 +15,30 @@ package org.eclipse.lyo.oslc4j.provider.jena.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.DCTerms;
+import org.apache.jena.vocabulary.RDFS;
 import org.eclipse.lyo.oslc4j.core.model.QueryCapability;
 import org.eclipse.lyo.oslc4j.core.model.ResponseInfo;
 import org.eclipse.lyo.oslc4j.core.model.ResponseInfoCollection;
@@ -57,6 +65,59 @@ public class RdfXmlAbbreviatedWriterTest {
         w.write(m, System.out, null);
     }
 
+    @Test
+    public void testLargeContainerNestsMembers() {
+        Model m = ModelFactory.createDefaultModel();
+        Resource container = m.createResource("http://example.com/container", RDFS.Container);
+        Property member = RDFS.member;
+        for (int i = 0; i < 5000; i++) {
+            Resource r = m.createResource("http://example.com/member/" + i, RDFS.Resource);
+            r.addProperty(DCTerms.title, "Member " + i);
+            r.addProperty(DCTerms.creator, m.createResource().addProperty(RDFS.label, "Creator " + i));
+            container.addProperty(member, r);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new RdfXmlAbbreviatedWriter().write(m, out, null);
+        String xml = out.toString(StandardCharsets.UTF_8);
+
+        Model read = ModelFactory.createDefaultModel();
+        read.read(new ByteArrayInputStream(out.toByteArray()), null);
+        assertTrue("Serialization lost statements", read.isIsomorphicWith(m));
+        // members are nested in the container, each written once
+        assertTrue(xml.indexOf("rdf:about=\"http://example.com/container\"")
+                < xml.indexOf("rdf:about=\"http://example.com/member/0\""));
+        assertEquals(xml.indexOf("\"http://example.com/member/42\""),
+                xml.lastIndexOf("\"http://example.com/member/42\""));
+    }
+
+    @Test
+    public void testFlushInterval() {
+        Model m = ModelFactory.createDefaultModel();
+        for (int i = 0; i < 10; i++) {
+            m.createResource("http://example.com/resource/" + i, RDFS.Resource)
+                    .addProperty(DCTerms.title, "Resource " + i);
+        }
+
+        StringWriter unflushed = new StringWriter();
+        new RdfXmlAbbreviatedWriter().write(m, unflushed, null);
+
+        AtomicInteger flushes = new AtomicInteger();
+        StringWriter flushed = new StringWriter() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        RdfXmlAbbreviatedWriter w = new RdfXmlAbbreviatedWriter();
+        w.setProperty(RdfXmlAbbreviatedWriter.RDF_PROPERTY_FLUSH_INTERVAL, 2);
+        w.write(m, flushed, null);
+
+        // every 2 of the 10 resources, and at the end
+        assertEquals(6, flushes.get());
+        assertEquals(unflushed.toString(), flushed.toString());
+    }
+
 	/**
 	 * Scenario tested with cyclic reference http://server/oslc/pr/collection:
 	 * {@code
@@ -0,0 +1,355 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+
+/**
+ * Asynchronous facade of a {@link Store}, returning {@link CompletableFuture}s instead of
+ * blocking on the triplestore.
+ * <p>
+ * Calls run on an executor, by default one virtual thread per call, and at most
+ * {@code maxConcurrency} of them run against the store at a time; the others wait for a permit
+ * without holding a platform thread. The limit applies to this instance only, unless the
+ * AsyncStore is created for an endpoint with {@link #AsyncStore(Store, String, int)}, in which
+ * case all the AsyncStores of the same endpoint share it. Independent reads, such as reading the
+ * same resource from the named graphs of several components, can be issued together with
+ * {@link #fanOut(Collection, KeyedStoreCall)}, so that they take as long as the slowest of them
+ * rather than the sum of all.
+ * <p>
+ * Futures complete exceptionally with the exception thrown by the store, e.g. a
+ * {@link java.util.NoSuchElementException} from {@link #getResource(URI, URI, Class)}. The store
+ * must be thread-safe, as {@link StoreFactory} stores are.
+ *
+ * @since 7.0.0
+ */
+public class AsyncStore implements AutoCloseable {
+    /**
+     * Default maximum number of calls running against the store at a time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    /**
+     * Limits shared by the AsyncStores created for each endpoint.
+     */
+    private static final Map<String, EndpointLimit> ENDPOINT_LIMITS = new ConcurrentHashMap<>();
+
+    private final Store store;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore permits;
+
+    /**
+     * Runs the calls on virtual threads, at most {@link #DEFAULT_MAX_CONCURRENCY} at a time.
+     */
+    public AsyncStore(final Store store) {
+        this(store, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Runs the calls on virtual threads, at most {@code maxConcurrency} at a time for this
+     * instance.
+     */
+    public AsyncStore(final Store store, final int maxConcurrency) {
+        this(store, Executors.newVirtualThreadPerTaskExecutor(), newPermits(maxConcurrency), true);
+    }
+
+    /**
+     * Runs the calls on virtual threads, at most {@code maxConcurrency} at a time across all the
+     * AsyncStores created for the same endpoint.
+     *
+     * @param endpoint identifies the endpoint the store talks to, e.g. its SPARQL query endpoint
+     *                 URI
+     * @throws IllegalArgumentException if an AsyncStore was created for the endpoint with a
+     *                                  different {@code maxConcurrency}
+     */
+    public AsyncStore(final Store store, final String endpoint, final int maxConcurrency) {
+        this(store, Executors.newVirtualThreadPerTaskExecutor(),
+            endpointPermits(endpoint, maxConcurrency), true);
+    }
+
+    /**
+     * Runs the calls on the given executor, at most {@code maxConcurrency} at a time for this
+     * instance. The executor is not shut down by {@link #close()}.
+     */
+    public AsyncStore(final Store store, final ExecutorService executor, final int maxConcurrency) {
+        this(store, executor, newPermits(maxConcurrency), false);
+    }
+
+    private AsyncStore(final Store store, final ExecutorService executor, final Semaphore permits,
+            final boolean ownsExecutor) {
+        this.store = store;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.permits = permits;
+    }
+
+    private static Semaphore newPermits(final int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        return new Semaphore(maxConcurrency, true);
+    }
+
+    private static Semaphore endpointPermits(final String endpoint, final int maxConcurrency) {
+        final EndpointLimit limit = ENDPOINT_LIMITS.computeIfAbsent(endpoint,
+            k -> new EndpointLimit(maxConcurrency, newPermits(maxConcurrency)));
+        if (limit.maxConcurrency() != maxConcurrency) {
+            throw new IllegalArgumentException("The concurrency of " + endpoint + " is already"
+                + " limited to " + limit.maxConcurrency() + ", not " + maxConcurrency);
+        }
+        return limit.permits();
+    }
+
+    /**
+     * @return the store the calls are made on
+     */
+    public Store getStore() {
+        return store;
+    }
+
+    /**
+     * Runs a call against the store.
+     *
+     * @return a future completed with the result of the call, or exceptionally with what it threw
+     */
+    public <R> CompletableFuture<R> submit(final StoreCall<R> call) {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    // cancelled while queued
+                    return;
+                }
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                if (future.isDone()) {
+                    // cancelled while waiting for a permit
+                    permits.release();
+                    return;
+                }
+                try {
+                    future.complete(call.call(store));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Runs one call per key concurrently, e.g. one per named graph.
+     *
+     * @return a future completed with the results keyed like {@code keys}, in their order, or
+     * exceptionally as soon as one of the calls fails
+     */
+    public <K, R> CompletableFuture<Map<K, R>> fanOut(final Collection<K> keys,
+            final KeyedStoreCall<K, R> call) {
+        final List<K> keyList = new ArrayList<>(keys);
+        final List<CompletableFuture<R>> futures = new ArrayList<>(keyList.size());
+        for (K key : keyList) {
+            futures.add(submit(s -> call.call(s, key)));
+        }
+        final CompletableFuture<Map<K, R>> result = allOf(futures).thenApply(results -> {
+            final Map<K, R> map = new LinkedHashMap<>();
+            for (int i = 0; i < keyList.size(); i++) {
+                map.put(keyList.get(i), results.get(i));
+            }
+            return map;
+        });
+        // do not leave the other calls running after the first failure
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                futures.forEach(f -> f.cancel(false));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return a future completed with the results of the futures, in their order, or
+     * exceptionally as soon as one of them fails
+     */
+    public static <R> CompletableFuture<List<R>> allOf(final List<CompletableFuture<R>> futures) {
+        final CompletableFuture<List<R>> result = new CompletableFuture<>();
+        futures.forEach(f -> f.whenComplete((r, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            }
+        }));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            final List<R> results = new ArrayList<>(futures.size());
+            futures.forEach(f -> results.add(f.join()));
+            result.complete(results);
+        });
+        return result;
+    }
+
+    /**
+     * @see Store#getResource(URI, URI, Class)
+     */
+    public <T extends IResource> CompletableFuture<T> getResource(final URI namedGraphUri,
+            final URI uri, final Class<T> clazz) {
+        return submit(s -> s.getResource(namedGraphUri, uri, clazz));
+    }
+
+    /**
+     * @see Store#getResources(URI, Collection, Class)
+     */
+    public <T extends IResource> CompletableFuture<ResourceBatch<T>> getResources(
+            final URI namedGraphUri, final Collection<URI> uris, final Class<T> clazz) {
+        return submit(s -> s.getResources(namedGraphUri, uris, clazz));
+    }
+
+    /**
+     * @see Store#getResources(URI, Class, String, String, String, int, int)
+     */
+    public <T extends IResource> CompletableFuture<List<T>> getResources(final URI namedGraphUri,
+            final Class<T> clazz, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset) {
+        return submit(s -> s.getResources(namedGraphUri, clazz, prefixes, where, searchTerms,
+            limit, offset));
+    }
+
+    /**
+     * @see Store#getResources(URI, String, String, String, int, int)
+     */
+    public CompletableFuture<Model> getResources(final URI namedGraph, final String prefixes,
+            final String where, final String searchTerms, final int limit, final int offset) {
+        return submit(s -> s.getResources(namedGraph, prefixes, where, searchTerms, limit, offset));
+    }
+
+    /**
+     * @see Store#getJenaModelForSubject(URI, URI)
+     */
+    public CompletableFuture<Model> getJenaModelForSubject(final URI namedGraphUri,
+            final URI subject) {
+        return submit(s -> s.getJenaModelForSubject(namedGraphUri, subject));
+    }
+
+    /**
+     * @see Store#countResources(URI, String, String, String)
+     */
+    public CompletableFuture<Long> countResources(final URI namedGraph, final String prefixes,
+            final String where, final String searchTerms) {
+        return submit(s -> s.countResources(namedGraph, prefixes, where, searchTerms));
+    }
+
+    /**
+     * @see Store#resourceExists(URI, URI)
+     */
+    public CompletableFuture<Boolean> resourceExists(final URI namedGraphUri,
+            final URI resourceUri) {
+        return submit(s -> s.resourceExists(namedGraphUri, resourceUri));
+    }
+
+    /**
+     * @see Store#namedGraphExists(URI)
+     */
+    public CompletableFuture<Boolean> namedGraphExists(final URI namedGraphUri) {
+        return submit(s -> s.namedGraphExists(namedGraphUri));
+    }
+
+    /**
+     * @see Store#insertJenaModel(URI, Model)
+     */
+    public CompletableFuture<Void> insertJenaModel(final URI namedGraphUri, final Model model) {
+        return submit(s -> {
+            s.insertJenaModel(namedGraphUri, model);
+            return null;
+        });
+    }
+
+    /**
+     * @see Store#updateResources(URI, IResource[])
+     */
+    @SafeVarargs
+    public final <T extends IResource> CompletableFuture<Boolean> updateResources(
+            final URI namedGraphUri, final T... resources) {
+        return submit(s -> s.updateResources(namedGraphUri, resources));
+    }
+
+    /**
+     * @see Store#appendResources(URI, Collection)
+     */
+    public <T extends IResource> CompletableFuture<Boolean> appendResources(
+            final URI namedGraphUri, final Collection<T> resources) {
+        return submit(s -> s.appendResources(namedGraphUri, resources));
+    }
+
+    /**
+     * @see Store#deleteResources(URI, URI...)
+     */
+    public CompletableFuture<Void> deleteResources(final URI namedGraphUri, final URI... nodeUris) {
+        return submit(s -> {
+            s.deleteResources(namedGraphUri, nodeUris);
+            return null;
+        });
+    }
+
+    /**
+     * Shuts down the default executor, letting the submitted calls finish. The store is not
+     * closed.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private record EndpointLimit(int maxConcurrency, Semaphore permits) {
+    }
+
+    /**
+     * A call against a store.
+     */
+    @FunctionalInterface
+    public interface StoreCall<R> {
+        R call(Store store) throws Exception;
+    }
+
+    /**
+     * A call against a store for one key of a {@link #fanOut(Collection, KeyedStoreCall)}.
+     */
+    @FunctionalInterface
+    public interface KeyedStoreCall<K, R> {
+        R call(Store store, K key) throws Exception;
+    }
+}
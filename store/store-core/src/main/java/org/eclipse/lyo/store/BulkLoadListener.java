@@ -0,0 +1,37 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.time.Duration;
+
+/**
+ * Receives progress reports of a {@link Store#bulkLoad} operation, once per loaded chunk.
+ * <p>
+ * When chunks are loaded concurrently, the listener is called from the loader threads and must be
+ * thread-safe. Reports may then arrive slightly out of order, but {@code triplesLoaded} always
+ * counts the triples of all chunks completed so far.
+ *
+ * @since 7.0.0
+ */
+@FunctionalInterface
+public interface BulkLoadListener {
+
+    /**
+     * @param triplesLoaded number of triples loaded so far
+     * @param elapsed       time since the start of the load; together with
+     *                      {@code triplesLoaded} it gives the throughput
+     */
+    void onProgress(long triplesLoaded, Duration elapsed);
+}
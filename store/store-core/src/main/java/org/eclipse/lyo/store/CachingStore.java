@@ -0,0 +1,534 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResIterator;
+import org.apache.jena.rdf.model.Resource;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.Properties;
+import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+
+/**
+ * {@link Store} decorator that caches the models of single resources, as read by
+ * {@link #getJenaModelForSubject(URI, URI)}, {@link #getResource(URI, URI, Class)} and
+ * {@link #resourceExists(URI, URI)}, per named graph and subject.
+ * <p>
+ * Entries are evicted in least-recently-used order once the cache holds more than
+ * {@code maximumSize} resources or more than {@code maximumWeight} triples in total, and expire
+ * {@code timeToLive} after they were loaded. All other reads are passed through.
+ * <p>
+ * Writes through this store invalidate the subjects they touch: the subjects of the inserted
+ * model and the deleted subjects. Writes of resources, such as
+ * {@link #insertResources(URI, Object...)}, {@link #updateResources(URI, IResource[])} and
+ * {@link #putResources(URI, Collection)}, as well as {@link #clear(URI)}, invalidate the whole
+ * named graph, because the subjects of inlined resources are only known once the delegate has
+ * marshalled them. Writes that bypass this store only become visible when the entries expire.
+ * <p>
+ * Cached models are copied on the way in and out, so callers may modify them. The store is
+ * thread-safe if the delegate is.
+ *
+ * @since 7.0.0
+ */
+public class CachingStore implements Store {
+    private final Store delegate;
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final long timeToLiveNanos;
+
+    /** In access order, i.e. the first entry is the least recently used one. */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    /** Incremented on every invalidation, so that reads racing with a write are not cached. */
+    private long version = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param delegate      store to read from and write to
+     * @param maximumSize   maximum number of cached resources
+     * @param maximumWeight maximum number of triples of all cached resources
+     * @param timeToLive    time after which an entry expires, or null for no expiry
+     */
+    public CachingStore(final Store delegate, final int maximumSize, final long maximumWeight,
+            final Duration timeToLive) {
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumSize and maximumWeight must be positive");
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.timeToLiveNanos = timeToLive == null ? Long.MAX_VALUE : timeToLive.toNanos();
+    }
+
+    /**
+     * @return number of reads answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of reads passed to the delegate
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of entries removed because of the size or weight limit or expiry; entries
+     * removed by invalidation are not counted
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return number of cached resources
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of triples of all cached resources
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+        version++;
+    }
+
+    @Override
+    public Model getJenaModelForSubject(final URI namedGraphUri, final URI subject)
+            throws NoSuchElementException {
+        final Key key = new Key(namedGraphUri, subject);
+        final long readVersion;
+        synchronized (this) {
+            final Entry entry = lookup(key);
+            if (entry != null && entry.model != null) {
+                hits.increment();
+                return copy(entry.model);
+            }
+            if (entry != null && !entry.exists) {
+                hits.increment();
+                throw new NoSuchElementException("resource '" + subject
+                    + "' is missing from the triplestore at namedGraph '" + namedGraphUri + "'");
+            }
+            misses.increment();
+            readVersion = version;
+        }
+
+        final Model model;
+        try {
+            model = delegate.getJenaModelForSubject(namedGraphUri, subject);
+        } catch (NoSuchElementException e) {
+            cache(key, new Entry(false, null, System.nanoTime()), readVersion);
+            throw e;
+        }
+        cache(key, new Entry(true, copy(model), System.nanoTime()), readVersion);
+        return model;
+    }
+
+    @Override
+    public boolean resourceExists(final URI namedGraphUri, final URI resourceUri) {
+        final Key key = new Key(namedGraphUri, resourceUri);
+        final long readVersion;
+        synchronized (this) {
+            final Entry entry = lookup(key);
+            if (entry != null) {
+                hits.increment();
+                return entry.exists;
+            }
+            misses.increment();
+            readVersion = version;
+        }
+
+        final boolean exists = delegate.resourceExists(namedGraphUri, resourceUri);
+        cache(key, new Entry(exists, null, System.nanoTime()), readVersion);
+        return exists;
+    }
+
+    @Override
+    public <T extends IResource> T getResource(final URI namedGraphUri, final URI uri,
+            final Class<T> clazz)
+            throws NoSuchElementException, StoreAccessException, ModelUnmarshallingException {
+        final Model model = getJenaModelForSubject(namedGraphUri, uri);
+        try {
+            return JenaModelHelper.unmarshal(model.getResource(uri.toString()), clazz);
+        } catch (LyoModelException e) {
+            throw new ModelUnmarshallingException(e);
+        }
+    }
+
+    @Override
+    public void insertJenaModel(final URI namedGraphUri, final Model model) {
+        try {
+            delegate.insertJenaModel(namedGraphUri, model);
+        } finally {
+            invalidate(namedGraphUri, subjectsOf(model));
+        }
+    }
+
+    @Override
+    public boolean insertResources(final URI namedGraphUri, final Object... resources)
+            throws StoreAccessException {
+        try {
+            return delegate.insertResources(namedGraphUri, resources);
+        } finally {
+            invalidateGraph(namedGraphUri);
+        }
+    }
+
+    @Override
+    public <T extends IResource> boolean appendResources(final URI namedGraphUri,
+            final Collection<T> resources) throws StoreAccessException {
+        try {
+            return delegate.appendResources(namedGraphUri, resources);
+        } finally {
+            invalidateGraph(namedGraphUri);
+        }
+    }
+
+    @Override
+    public <T extends IResource> boolean updateResources(final URI namedGraphUri,
+            final T... resources) throws StoreAccessException {
+        try {
+            return delegate.updateResources(namedGraphUri, resources);
+        } finally {
+            invalidateGraph(namedGraphUri);
+        }
+    }
+
+    @Override
+    public void deleteResources(final URI namedGraphUri, final URI... nodeUris) {
+        try {
+            delegate.deleteResources(namedGraphUri, nodeUris);
+        } finally {
+            invalidate(namedGraphUri, List.of(nodeUris));
+        }
+    }
+
+    @Override
+    public void deleteResources(final URI namedGraphUri, final IResource... resources) {
+        final List<URI> subjects = new ArrayList<>(resources.length);
+        for (IResource resource : resources) {
+            subjects.add(resource.getAbout());
+        }
+        try {
+            delegate.deleteResources(namedGraphUri, resources);
+        } finally {
+            invalidate(namedGraphUri, subjects);
+        }
+    }
+
+    @Override
+    public void bulkLoad(final URI namedGraphUri, final Iterator<Triple> triples,
+            final BulkLoadListener listener) throws StoreAccessException {
+        final Set<URI> subjects = new HashSet<>();
+        final Iterator<Triple> recording = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return triples.hasNext();
+            }
+
+            @Override
+            public Triple next() {
+                final Triple triple = triples.next();
+                final Node subject = triple.getSubject();
+                if (subject.isURI()) {
+                    subjects.add(URI.create(subject.getURI()));
+                }
+                return triple;
+            }
+        };
+        try {
+            delegate.bulkLoad(namedGraphUri, recording, listener);
+        } finally {
+            invalidate(namedGraphUri, subjects);
+        }
+    }
+
+    @Override
+    public void bulkLoad(final URI namedGraphUri, final Model model,
+            final BulkLoadListener listener) throws StoreAccessException {
+        try {
+            delegate.bulkLoad(namedGraphUri, model, listener);
+        } finally {
+            invalidate(namedGraphUri, subjectsOf(model));
+        }
+    }
+
+    @Override
+    public <T extends IResource> boolean putResources(final URI namedGraphUri,
+            final Collection<T> resources) throws StoreAccessException {
+        try {
+            return delegate.putResources(namedGraphUri, resources);
+        } finally {
+            invalidateGraph(namedGraphUri);
+        }
+    }
+
+    @Override
+    public void clear(final URI namedGraphUri) {
+        try {
+            delegate.clear(namedGraphUri);
+        } finally {
+            invalidateGraph(namedGraphUri);
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        try {
+            delegate.removeAll();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        delegate.close();
+    }
+
+    @Override
+    public boolean namedGraphExists(final URI namedGraphUri) {
+        return delegate.namedGraphExists(namedGraphUri);
+    }
+
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraphUri,
+            final Class<T> clazz) throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraphUri, clazz);
+    }
+
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraphUri,
+            final Class<T> clazz, final int limit, final int offset)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraphUri, clazz, limit, offset);
+    }
+
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraphUri,
+            final Class<T> clazz, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraphUri, clazz, prefixes, where, searchTerms, limit,
+            offset);
+    }
+
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraphUri,
+            final Class<T> clazz, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset,
+            final List<String> additionalDistinctVars, final SelectBuilder additionalQueryFilter)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraphUri, clazz, prefixes, where, searchTerms, limit,
+            offset, additionalDistinctVars, additionalQueryFilter);
+    }
+
+    @Override
+    public <T extends IResource> ResourceBatch<T> getResources(final URI namedGraphUri,
+            final Collection<URI> uris, final Class<T> clazz)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraphUri, uris, clazz);
+    }
+
+    @Override
+    public <T extends IResource> ResourcePage<T> getResourcePage(final URI namedGraphUri,
+            final Class<T> clazz, final String prefixes, final String where,
+            final String searchTerms, final int limit, final String continuationToken)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResourcePage(namedGraphUri, clazz, prefixes, where, searchTerms, limit,
+            continuationToken);
+    }
+
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraph, final Class<T> clazz,
+            final String prefixes, final String where, final String searchTerms,
+            final OrderByClause orderBy, final Properties select, final int limit, final int offset)
+            throws StoreAccessException, ModelUnmarshallingException {
+        return delegate.getResources(namedGraph, clazz, prefixes, where, searchTerms, orderBy,
+            select, limit, offset);
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms, final OrderByClause orderBy, final Properties select,
+            final int limit, final int offset) {
+        return delegate.getResources(namedGraph, prefixes, where, searchTerms, orderBy, select,
+            limit, offset);
+    }
+
+    @Override
+    public long countResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms) {
+        return delegate.countResources(namedGraph, prefixes, where, searchTerms);
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where,
+            final int limit, final int offset) {
+        return delegate.getResources(namedGraph, prefixes, where, limit, offset);
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset) {
+        return delegate.getResources(namedGraph, prefixes, where, searchTerms, limit, offset);
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset,
+            final List<String> additionalDistinctVars, final SelectBuilder additionalQueryFilter) {
+        return delegate.getResources(namedGraph, prefixes, where, searchTerms, limit, offset,
+            additionalDistinctVars, additionalQueryFilter);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> keySet() {
+        return delegate.keySet();
+    }
+
+    /**
+     * @return the live entry, or null if it is missing or has expired
+     */
+    private Entry lookup(final Key key) {
+        final Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.loadedAt >= timeToLiveNanos) {
+            remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void cache(final Key key, final Entry entry, final long readVersion) {
+        if (readVersion != version || entry.weight > maximumWeight) {
+            return;
+        }
+        remove(key);
+        entries.put(key, entry);
+        weight += entry.weight;
+
+        final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maximumSize || weight > maximumWeight) && iterator.hasNext()) {
+            final Map.Entry<Key, Entry> eldest = iterator.next();
+            weight -= eldest.getValue().weight;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(final Key key) {
+        final Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private synchronized void invalidate(final URI namedGraphUri, final Collection<URI> subjects) {
+        for (URI subject : subjects) {
+            remove(new Key(namedGraphUri, subject));
+        }
+        version++;
+    }
+
+    private synchronized void invalidateGraph(final URI namedGraphUri) {
+        final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().namedGraph().equals(namedGraphUri)) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+            }
+        }
+        version++;
+    }
+
+    private static Set<URI> subjectsOf(final Model model) {
+        final Set<URI> subjects = new HashSet<>();
+        final ResIterator iterator = model.listSubjects();
+        try {
+            while (iterator.hasNext()) {
+                final Resource subject = iterator.next();
+                if (subject.isURIResource()) {
+                    subjects.add(URI.create(subject.getURI()));
+                }
+            }
+        } finally {
+            iterator.close();
+        }
+        return subjects;
+    }
+
+    private static Model copy(final Model model) {
+        return ModelFactory.createDefaultModel().add(model);
+    }
+
+    private record Key(URI namedGraph, URI subject) {
+    }
+
+    /**
+     * A cached resource. {@code model} is null if only the existence of the resource is known.
+     */
+    private static final class Entry {
+        private final boolean exists;
+        private final Model model;
+        private final long loadedAt;
+        private final long weight;
+
+        private Entry(final boolean exists, final Model model, final long loadedAt) {
+            this.exists = exists;
+            this.model = model;
+            this.loadedAt = loadedAt;
+            // existence-only entries count as one triple
+            this.weight = model != null ? Math.max(model.size(), 1) : 1;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+
+/**
+ * Resources fetched by {@link Store#getResources(URI, java.util.Collection, Class)}, keyed by
+ * their URI, along with the requested URIs that were not found.
+ *
+ * @since 7.0.0
+ */
+public class ResourceBatch<T extends IResource> {
+    private final Map<URI, T> resources;
+    private final Set<URI> missing;
+
+    public ResourceBatch(final Map<URI, T> resources, final Set<URI> missing) {
+        this.resources = Collections.unmodifiableMap(resources);
+        this.missing = Collections.unmodifiableSet(missing);
+    }
+
+    /**
+     * @return the resources that were found, in the order they were requested
+     */
+    public Map<URI, T> getResources() {
+        return resources;
+    }
+
+    /**
+     * @return the requested URIs of resources that are missing from the named graph or are not of
+     * the requested type, in the order they were requested
+     */
+    public Set<URI> getMissing() {
+        return missing;
+    }
+
+    /**
+     * @return the resource with the given URI, or null if it was missing or not requested
+     */
+    public T get(final URI uri) {
+        return resources.get(uri);
+    }
+
+    /**
+     * @return whether all requested resources were found
+     */
+    public boolean isComplete() {
+        return missing.isEmpty();
+    }
+}
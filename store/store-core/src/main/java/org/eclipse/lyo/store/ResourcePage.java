@@ -0,0 +1,148 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+
+/**
+ * A page of resources returned by
+ * {@link Store#getResourcePage(java.net.URI, Class, String, String, String, int, String)}.
+ * <p>
+ * The continuation token is opaque and URL-safe. Pass it back to the store to get the next page,
+ * or use {@link #nextPage(String)} to build the {@code oslc:nextPage} URI of a
+ * {@link org.eclipse.lyo.oslc4j.core.model.ResponseInfo}.
+ *
+ * @since 7.0.0
+ */
+public class ResourcePage<T extends IResource> {
+    /**
+     * Query parameter used by {@link #nextPage(String)} to carry the continuation token.
+     */
+    public static final String PAGE_TOKEN_PARAMETER = "pageToken";
+
+    /**
+     * Order of the resources within and across pages: by subject URI, comparing code points like
+     * the SPARQL string order rather than the UTF-16 code units of {@link String#compareTo}.
+     */
+    public static final Comparator<IResource> SUBJECT_ORDER = Comparator.comparing(
+        r -> r.getAbout().toString(), ResourcePage::compareCodePoints);
+
+    private final List<T> resources;
+    private final String continuationToken;
+
+    public ResourcePage(final List<T> resources, final String continuationToken) {
+        this.resources = Collections.unmodifiableList(resources);
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * @return the resources of this page, ordered by subject URI
+     */
+    public List<T> getResources() {
+        return resources;
+    }
+
+    /**
+     * @return the token of the next page, or null if this is the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+
+    /**
+     * @param pageUri URI of the current page, with any previous {@value #PAGE_TOKEN_PARAMETER}
+     *                parameter removed
+     * @return the URI of the next page, or null if this is the last page, matching the
+     * {@code nextPage} argument of {@link org.eclipse.lyo.oslc4j.core.model.ResponseInfo}
+     */
+    public String nextPage(final String pageUri) {
+        if (continuationToken == null) {
+            return null;
+        }
+        final char separator = pageUri.indexOf('?') < 0 ? '?' : '&';
+        return pageUri + separator + PAGE_TOKEN_PARAMETER + "="
+            + URLEncoder.encode(continuationToken, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds a page out of the resources that follow the previous page.
+     *
+     * @param resources the resources after the previous page, in any order, of which at least
+     *                  {@code limit + 1} if there is a next page
+     * @param limit     maximum number of resources on the page
+     * @return the first {@code limit} resources in {@link #SUBJECT_ORDER}, with a continuation
+     * token if there were more
+     */
+    public static <T extends IResource> ResourcePage<T> of(final List<T> resources,
+            final int limit) {
+        final List<T> sorted = new ArrayList<>(resources);
+        sorted.sort(SUBJECT_ORDER);
+        if (sorted.size() <= limit) {
+            return new ResourcePage<>(sorted, null);
+        }
+        final List<T> page = new ArrayList<>(sorted.subList(0, limit));
+        final String token = Base64.getUrlEncoder().withoutPadding().encodeToString(
+            page.get(limit - 1).getAbout().toString().getBytes(StandardCharsets.UTF_8));
+        return new ResourcePage<>(page, token);
+    }
+
+    /**
+     * @param continuationToken token of the previous page, may be null
+     * @return the URI of the last subject of the previous page, or null if there is no token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static String lastSubject(final String continuationToken) {
+        if (continuationToken == null) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(continuationToken),
+                StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed continuation token: " + continuationToken,
+                e);
+        }
+    }
+
+    /**
+     * Compares strings by code point, like the SPARQL string order.
+     */
+    static int compareCodePoints(final String a, final String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            final int codePointA = a.codePointAt(i);
+            final int codePointB = b.codePointAt(j);
+            if (codePointA != codePointB) {
+                return Integer.compare(codePointA, codePointB);
+            }
+            i += Character.charCount(codePointA);
+            j += Character.charCount(codePointB);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+}
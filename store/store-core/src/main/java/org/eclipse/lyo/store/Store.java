@@ -1,9 +1,16 @@
 package org.eclipse.lyo.store;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -23,8 +30,15 @@ import org.apache.jena.arq.querybuilder.SelectBuilder;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.Properties;
 import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.slf4j.LoggerFactory;
 
 /**
  * Store is the main interface for operations on OSLC Resources with the backing
@@ -78,6 +92,47 @@ public interface Store {
     boolean insertResources(URI namedGraphUri, final Object... resources)
             throws StoreAccessException;
 
+    /**
+     * Loads a potentially very large amount of triples into the named graph. Unlike
+     * {@link #insertJenaModel(URI, Model)}, implementations may split the load into several
+     * updates, so a failure can leave the triples partially loaded.
+     * <p>
+     * The default implementation collects the triples into a model and inserts it at once.
+     *
+     * @param namedGraphUri named graph to load into
+     * @param triples       triples to load, consumed once
+     * @param listener      receives progress reports, may be null
+     *
+     * @throws StoreAccessException if the operation can't be performed
+     * @since 7.0.0
+     */
+    default void bulkLoad(URI namedGraphUri, Iterator<Triple> triples, BulkLoadListener listener)
+            throws StoreAccessException {
+        final Instant start = Instant.now();
+        final Model model = ModelFactory.createDefaultModel();
+        triples.forEachRemaining(model.getGraph()::add);
+        insertJenaModel(namedGraphUri, model);
+        if (listener != null) {
+            listener.onProgress(model.size(), Duration.between(start, Instant.now()));
+        }
+    }
+
+    /**
+     * Loads all statements of the model into the named graph.
+     *
+     * @see #bulkLoad(URI, Iterator, BulkLoadListener)
+     * @since 7.0.0
+     */
+    default void bulkLoad(URI namedGraphUri, Model model, BulkLoadListener listener)
+            throws StoreAccessException {
+        final ExtendedIterator<Triple> triples = model.getGraph().find();
+        try {
+            bulkLoad(namedGraphUri, triples, listener);
+        } finally {
+            triples.close();
+        }
+    }
+
     /**
      * Delete all statements whose subject is one of nodeUris
      */
@@ -224,13 +279,146 @@ public interface Store {
             int limit, int offset,
             List<String> additionalDistinctVars, SelectBuilder additionalQueryFilter) throws StoreAccessException, ModelUnmarshallingException;
 
+    /**
+     * Retrieve a page of resources like
+     * {@link #getResources(URI, Class, String, String, String, int, int)}, but with keyset paging:
+     * resources are ordered by subject URI and each page starts after the last subject of the
+     * previous one, so the cost of a page does not grow with its depth.
+     * <p>
+     * Only resources with a URI (not blank nodes) can be paged this way.
+     * <p>
+     * The default implementation fetches all the matching resources and pages them in memory;
+     * stores should override it to select the page in the triplestore.
+     *
+     * @param namedGraphUri     URI of a named graph under which resources were stored
+     * @param clazz             Java class of the stored resources
+     * @param prefixes          prefixes for the prefixed names in {@code where}
+     * @param where             {@code oslc.where} expression, may be null
+     * @param searchTerms       {@code oslc.searchTerms} expression, may be null
+     * @param limit             maximum number of resources on the page, must be positive
+     * @param continuationToken token of the previous page, or null for the first page
+     *
+     * @return the page, with a continuation token unless it is the last page
+     *
+     * @throws IllegalArgumentException if the continuation token is malformed
+     * @since 7.0.0
+     */
+    default <T extends IResource> ResourcePage<T> getResourcePage(URI namedGraphUri,
+            Class<T> clazz, String prefixes, String where, String searchTerms, int limit,
+            String continuationToken) throws StoreAccessException, ModelUnmarshallingException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive, was " + limit);
+        }
+        final String after = ResourcePage.lastSubject(continuationToken);
+        final List<T> resources = new ArrayList<>();
+        for (T resource : getResources(namedGraphUri, clazz, prefixes, where, searchTerms, -1,
+                -1)) {
+            if (resource.getAbout() != null && (after == null || ResourcePage.compareCodePoints(
+                    resource.getAbout().toString(), after) > 0)) {
+                resources.add(resource);
+            }
+        }
+        return ResourcePage.of(resources, limit);
+    }
+
+    /**
+     * Retrieve resources like {@link #getResources(URI, Class, String, String, String, int, int)},
+     * with the {@code oslc.orderBy} and {@code oslc.select} clauses evaluated by the triplestore.
+     * <p>
+     * Resources are sorted on the values of the {@code orderBy} properties, scoped sort terms
+     * following the nested resources. A multi-valued property sorts on its lowest value in
+     * ascending order and on its highest value in descending order. Ties, and all resources if
+     * {@code orderBy} is null, are sorted by subject URI.
+     * <p>
+     * Only the properties listed by {@code select} (and {@code rdf:type}) are fetched from the
+     * triplestore; the other properties of the returned resources are left unset.
+     * <p>
+     * The default implementation runs
+     * {@link #getResources(URI, Class, String, String, String, int, int)} and logs a warning
+     * that {@code orderBy} and {@code select} were ignored, if they are given.
+     *
+     * @param namedGraph  URI of a named graph under which resources were stored, or null to query
+     *                    all named graphs
+     * @param clazz       Java class of the stored resources
+     * @param prefixes    prefixes for the prefixed names in {@code where}
+     * @param where       {@code oslc.where} expression, may be null
+     * @param searchTerms {@code oslc.searchTerms} expression, may be null
+     * @param orderBy     parsed {@code oslc.orderBy} clause, may be null
+     * @param select      parsed {@code oslc.select} clause, may be null to fetch all properties
+     * @param limit       paging limit
+     * @param offset      paging offset
+     *
+     * @return the resources, in the requested order
+     *
+     * @since 7.0.0
+     */
+    default <T extends IResource> List<T> getResources(URI namedGraph, Class<T> clazz,
+            String prefixes, String where, String searchTerms, OrderByClause orderBy,
+            Properties select, int limit, int offset)
+            throws StoreAccessException, ModelUnmarshallingException {
+        warnIgnoredClauses(orderBy, select);
+        return getResources(namedGraph, clazz, prefixes, where, searchTerms, limit, offset);
+    }
+
+    /**
+     * Retrieve a Jena model like {@link #getResources(URI, String, String, String, int, int)},
+     * with the {@code oslc.orderBy} and {@code oslc.select} clauses evaluated by the triplestore.
+     * <p>
+     * See {@link #getResources(URI, Class, String, String, String, OrderByClause, Properties, int,
+     * int)}; as a model is unordered, {@code orderBy} only determines which resources fall into
+     * the page.
+     * <p>
+     * The default implementation runs {@link #getResources(URI, String, String, String, int, int)}
+     * and logs a warning that {@code orderBy} and {@code select} were ignored, if they are given.
+     *
+     * @since 7.0.0
+     */
+    default Model getResources(URI namedGraph, String prefixes, String where, String searchTerms,
+            OrderByClause orderBy, Properties select, int limit, int offset) {
+        warnIgnoredClauses(orderBy, select);
+        return getResources(namedGraph, prefixes, where, searchTerms, limit, offset);
+    }
+
+    private void warnIgnoredClauses(OrderByClause orderBy, Properties select) {
+        if (orderBy != null || select != null) {
+            LoggerFactory.getLogger(Store.class).warn("{} does not evaluate oslc.orderBy and"
+                + " oslc.select; the resources are returned in its default order and with all"
+                + " their properties", getClass().getName());
+        }
+    }
+
+    /**
+     * Counts the resources that {@link #getResources(URI, String, String, String, int, int)} would
+     * return without a limit, without fetching them, e.g. for the total count of a paged query
+     * response.
+     * <p>
+     * The default implementation fetches the resources and counts their subject URIs; stores
+     * should override it to count them in the triplestore.
+     *
+     * @param namedGraph  URI of a named graph under which resources were stored, or null to count
+     *                    in all named graphs
+     * @param prefixes    prefixes for the prefixed names in {@code where}
+     * @param where       {@code oslc.where} expression, may be null
+     * @param searchTerms {@code oslc.searchTerms} expression, may be null
+     *
+     * @return the number of distinct matching resources
+     *
+     * @since 7.0.0
+     */
+    default long countResources(URI namedGraph, String prefixes, String where,
+            String searchTerms) {
+        // the model also holds the blank nodes of the resources
+        return getResources(namedGraph, prefixes, where, searchTerms, -1, -1).listSubjects()
+            .filterKeep(RDFNode::isURIResource).toList().size();
+    }
+
     /**
      * Retrieve a Jena model that satisfies the given where parameter as defined in the OSLC Query
      * language
      * (<a href="https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html</a>)
      * If the {@code namedGraph} is null, the query is applied on all {@code namedGraph} in the triplestore.
-     * The method currently only provides support for terms of type Comparisons, where the operator
-     * is {@code 'EQUALS'}, and the operand is either a {@link String} or a {@link URI}.
+     * All comparison operators, {@code in} terms and nested properties are supported; the whole
+     * expression is evaluated by the triplestore.
      *
      * @param namedGraph    namedGraphUri URI of a named graph under which resources were stored
      * @param prefixes      defines the prefixes for prefixed names that appear in the oslc.where
@@ -250,8 +438,8 @@ public interface Store {
      * Retrieve a Jena model that satisfies the given where parameter as defined in the OSLC Query
      * language (<a href="https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html</a>)
      * If the {@code namedGraph} is null, the query is applied on all {@code namedGraph} in the triplestore.
-     * The method currently only provides support for terms of type Comparisons, where the operator
-     * is {@code 'EQUALS'}, and the operand is either a {@link String} or a {@link URI}.
+     * All comparison operators, {@code in} terms and nested properties are supported; the whole
+     * expression is evaluated by the triplestore.
      *
      * @param namedGraph    namedGraphUri URI of a named graph under which resources were stored
      * @param prefixes      defines the prefixes for prefixed names that appear in the {@code oslc.where}
@@ -305,6 +493,38 @@ public interface Store {
     <T extends IResource> T getResource(URI namedGraphUri, URI uri, Class<T> clazz)
             throws NoSuchElementException, StoreAccessException, ModelUnmarshallingException;
 
+    /**
+     * Retrieves several resources of the given type from the named graph at once.
+     * <p>
+     * The default implementation calls {@link #getResource(URI, URI, Class)} for each URI.
+     *
+     * @param namedGraphUri URI of a named graph under which resources were stored
+     * @param uris          URIs of the resources; duplicates are fetched once
+     * @param clazz         Java class of the stored resources
+     *
+     * @return the resources found, keyed by URI, and the URIs that were missing
+     *
+     * @throws StoreAccessException        if there was a problem with the triplestore (or the
+     *                                     dataset, more broadly).
+     * @throws ModelUnmarshallingException if the classes cannot be instantiated or another error
+     *                                     occurred when working with Jena model.
+     * @since 7.0.0
+     */
+    default <T extends IResource> ResourceBatch<T> getResources(URI namedGraphUri,
+            Collection<URI> uris, Class<T> clazz)
+            throws StoreAccessException, ModelUnmarshallingException {
+        final Map<URI, T> resources = new LinkedHashMap<>();
+        final Set<URI> missing = new LinkedHashSet<>();
+        for (URI uri : new LinkedHashSet<>(uris)) {
+            try {
+                resources.put(uri, getResource(namedGraphUri, uri, clazz));
+            } catch (NoSuchElementException e) {
+                missing.add(uri);
+            }
+        }
+        return new ResourceBatch<>(resources, missing);
+    }
+
     /**
      * Insert Jena models representations of OSLC {@link IResource} instances into the
      * named graph.
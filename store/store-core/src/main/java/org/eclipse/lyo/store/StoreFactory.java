@@ -14,7 +14,14 @@ package org.eclipse.lyo.store;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.apache.jena.query.Dataset;
 import org.apache.jena.tdb.TDBFactory;
+import org.eclipse.lyo.store.internals.DatasetBuilder;
+import org.eclipse.lyo.store.internals.JenaTextSearch;
 import org.eclipse.lyo.store.internals.SparqlStoreImpl;
 import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
 
@@ -44,6 +51,80 @@ public class StoreFactory {
         return new SparqlStoreImpl(new DatasetQueryExecutorImpl(TDBFactory.createDataset()));
     }
 
+    /**
+     * Initialise a Store backed by an in-memory TDB2 dataset.
+     *
+     * @since 7.0.0
+     */
+    public static Store tdb2InMem() {
+        return new SparqlStoreImpl(
+            new DatasetQueryExecutorImpl(DatasetBuilder.buildInMemoryTdb2(false)));
+    }
+
+    /**
+     * Initialise a Store backed by a persistent TDB2 dataset in the given directory (created if
+     * it doesn't exist). Bulk loads into the store use the TDB2 bulk loader.
+     *
+     * @param directory          directory of the dataset
+     * @param unionDefaultGraph  whether the default graph of queries is the union of all named
+     *                           graphs, for this dataset only
+     * @param compactionInterval interval at which the dataset is compacted in the background to
+     *                           reclaim the space of deleted triples, or null to never compact it
+     * @return Store implementation that keeps the triples in a TDB2 dataset on disk.
+     *
+     * @throws IOException if the dataset can't be initialised in the given directory
+     * @since 7.0.0
+     */
+    public static Store tdb2(final Path directory, final boolean unionDefaultGraph,
+            final Duration compactionInterval) throws IOException {
+        final DatasetQueryExecutorImpl queryExecutor = new DatasetQueryExecutorImpl(
+            DatasetBuilder.buildPersistentTdb2(directory, unionDefaultGraph));
+        if (compactionInterval != null) {
+            queryExecutor.scheduleCompaction(compactionInterval);
+        }
+        return new SparqlStoreImpl(queryExecutor);
+    }
+
+    /**
+     * Initialise a Store backed by a TDB2 dataset with a Lucene text index, which matches
+     * {@code oslc.searchTerms} by relevance instead of scanning all literals. The values of
+     * {@link DatasetBuilder#DEFAULT_TEXT_PREDICATES} are indexed as they are written.
+     *
+     * @param directory      directory of the dataset, or null for an in-memory dataset
+     * @param indexDirectory directory of the text index, or null for an in-memory index
+     * @return Store implementation that keeps the triples in a text-indexed TDB2 dataset.
+     *
+     * @throws IOException if the dataset or the index can't be initialised in the given directories
+     * @since 7.0.0
+     */
+    public static Store tdb2TextIndexed(final Path directory, final Path indexDirectory)
+            throws IOException {
+        return tdb2TextIndexed(directory, indexDirectory, JenaTextSearch.DEFAULT_HIT_LIMIT);
+    }
+
+    /**
+     * Initialise a Store backed by a TDB2 dataset with a Lucene text index, like
+     * {@link #tdb2TextIndexed(Path, Path)}, which returns at most the given number of hits for
+     * the {@code oslc.searchTerms} of a query.
+     *
+     * @param directory      directory of the dataset, or null for an in-memory dataset
+     * @param indexDirectory directory of the text index, or null for an in-memory index
+     * @param hitLimit       maximum number of hits of the text index per query, see
+     *                       {@link JenaTextSearch}
+     * @return Store implementation that keeps the triples in a text-indexed TDB2 dataset.
+     *
+     * @throws IOException if the dataset or the index can't be initialised in the given directories
+     * @since 7.0.0
+     */
+    public static Store tdb2TextIndexed(final Path directory, final Path indexDirectory,
+            final int hitLimit) throws IOException {
+        final JenaTextSearch textSearch = new JenaTextSearch(hitLimit);
+        final Dataset dataset = directory == null ? DatasetBuilder.buildInMemoryTdb2(false)
+            : DatasetBuilder.buildPersistentTdb2(directory, false);
+        return new SparqlStoreImpl(new DatasetQueryExecutorImpl(DatasetBuilder.buildTextIndexed(
+            dataset, indexDirectory, DatasetBuilder.DEFAULT_TEXT_PREDICATES)), textSearch);
+    }
+
     /**
      * Initialise a SPARQL-compatible Store implementation with authentication via username and
      * password
@@ -1,8 +1,23 @@
 package org.eclipse.lyo.store;
 
 import java.net.URI;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /*
  * Copyright (c) 2020 Contributors to the Eclipse Foundation
@@ -18,71 +33,524 @@ import java.util.concurrent.BlockingQueue;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
-import org.apache.jena.query.Dataset;
-import org.apache.jena.tdb.TDBFactory;
+import org.eclipse.lyo.store.internals.DatasetBuilder;
 import org.eclipse.lyo.store.internals.SparqlStoreImpl;
 import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class StorePool {
+/**
+ * A pool of {@link Store} instances.
+ * <p>
+ * Stores are leased with {@link #acquire()}, preferably in a try-with-resources statement:
+ * <pre>
+ * try (StorePool.Lease lease = pool.acquire()) {
+ *     lease.getStore().getResources(...);
+ * }
+ * </pre>
+ * An acquisition waits at most {@link #setAcquireTimeout(Duration) the acquire timeout} for a
+ * store to become available and fails with a {@link StoreAccessException} otherwise.
+ * <p>
+ * The pool starts with {@code minSize} stores and creates more on demand, up to
+ * {@code maxSize}. Stores above {@code minSize} that stay idle longer than
+ * {@link #setIdleTimeout(Duration) the idle timeout} are discarded. Leases held longer than
+ * {@link #setLeakDetectionThreshold(Duration) the leak detection threshold} are logged along
+ * with the stack trace of their acquisition. Both checks run in the background every
+ * {@link #MAINTENANCE_INTERVAL}.
+ * <p>
+ * The pool metrics are available through {@link StorePoolMXBean}.
+ */
+public class StorePool implements StorePoolMXBean, AutoCloseable {
     public final static URI DEFAULT_GRAPH_JENA = URI.create("urn:x-arq:DefaultGraph");
 
-    private URI defaultNamedGraphUri;
-    private BlockingQueue<Store> storePool;
+    /**
+     * @since 7.0.0
+     */
+    public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+    /**
+     * @since 7.0.0
+     */
+    public static final Duration DEFAULT_LEAK_DETECTION_THRESHOLD = Duration.ofMinutes(1);
+    /**
+     * @since 7.0.0
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+    /**
+     * @since 7.0.0
+     */
+    public static final Duration MAINTENANCE_INTERVAL = Duration.ofSeconds(1);
+
     private static final Logger log = LoggerFactory.getLogger(StorePool.class);
 
+    private final URI defaultNamedGraphUri;
+    private final int minSize;
+    private final int maxSize;
+    private final Supplier<Store> storeFactory;
+    private final Consumer<Store> storeDisposer;
+    private final Runnable onClose;
+
+    /** One permit per store that may still be leased, i.e. {@code maxSize} minus active ones. */
+    private final Semaphore permits;
+    /** Most recently released first, so that the stores at the tail are the ones to discard. */
+    private final ConcurrentLinkedDeque<IdleStore> idleStores = new ConcurrentLinkedDeque<>();
+    private final Map<Store, Checkout> activeStores =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ScheduledExecutorService maintenance;
 
+    private volatile Duration acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+    private volatile Duration leakDetectionThreshold = DEFAULT_LEAK_DETECTION_THRESHOLD;
+    private volatile Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * A fixed-size pool of stores backed by a remote SPARQL endpoint.
+     */
     public StorePool (int poolSize, URI defaultNamedGraphUri, URI sparqlQueryEndpoint, URI sparqlUpdateEndpoint, String userName, String password) {
-        this.defaultNamedGraphUri = defaultNamedGraphUri;
-        this.storePool = new ArrayBlockingQueue<>(poolSize);
-        for (int i = 0; i < poolSize; i++) {
-            Store s = null;
-            if( userName != null && password != null ){
-                s = StoreFactory.sparql(sparqlQueryEndpoint.toString(), sparqlUpdateEndpoint.toString(), userName, password);
-            }else{
-                s = StoreFactory.sparql(sparqlQueryEndpoint.toString(), sparqlUpdateEndpoint.toString());
+        this(poolSize, poolSize, defaultNamedGraphUri, sparqlQueryEndpoint, sparqlUpdateEndpoint,
+            userName, password);
+    }
+
+    /**
+     * A pool of stores backed by a remote SPARQL endpoint that grows from {@code minSize} to
+     * {@code maxSize} stores with demand.
+     *
+     * @since 7.0.0
+     */
+    public StorePool(int minSize, int maxSize, URI defaultNamedGraphUri, URI sparqlQueryEndpoint,
+            URI sparqlUpdateEndpoint, String userName, String password) {
+        this(minSize, maxSize, defaultNamedGraphUri, () -> {
+            if (userName != null && password != null) {
+                return StoreFactory.sparql(sparqlQueryEndpoint.toString(),
+                    sparqlUpdateEndpoint.toString(), userName, password);
             }
-            storePool.add(s);
-        }
+            return StoreFactory.sparql(sparqlQueryEndpoint.toString(),
+                sparqlUpdateEndpoint.toString());
+        });
     }
 
     /**
-     * A pool of in-memory Stores
+     * A fixed-size pool of in-memory Stores
      * @param poolSize
      * @param defaultNamedGraphUri
      */
     public StorePool(int poolSize, URI defaultNamedGraphUri) {
+        this(poolSize, poolSize, defaultNamedGraphUri);
+    }
+
+    /**
+     * A pool of in-memory stores sharing one TDB2 dataset that grows from {@code minSize} to
+     * {@code maxSize} stores with demand. The dataset is closed with the pool.
+     *
+     * @since 7.0.0
+     */
+    public StorePool(int minSize, int maxSize, URI defaultNamedGraphUri) {
+        this(minSize, maxSize, defaultNamedGraphUri, MAINTENANCE_INTERVAL);
+    }
+
+    /**
+     * @param maintenanceInterval delay between background maintenance runs, or
+     *                            {@link Duration#ZERO} to only run it through
+     *                            {@link #runMaintenance()}
+     */
+    StorePool(int minSize, int maxSize, URI defaultNamedGraphUri, Duration maintenanceInterval) {
+        this(minSize, maxSize, defaultNamedGraphUri,
+            new DatasetQueryExecutorImpl(DatasetBuilder.buildInMemoryTdb2(false)),
+            maintenanceInterval);
+    }
+
+    private StorePool(int minSize, int maxSize, URI defaultNamedGraphUri,
+            DatasetQueryExecutorImpl queryExecutor, Duration maintenanceInterval) {
+        // the reason StoreFactory#sparqlInMem is not used here because we want to reuse the dataset;
+        // for the same reason, discarded stores are not closed
+        this(minSize, maxSize, defaultNamedGraphUri, () -> new SparqlStoreImpl(queryExecutor),
+            store -> {}, queryExecutor::release, maintenanceInterval);
+    }
+
+    /**
+     * A pool of stores created by the given factory that grows from {@code minSize} to
+     * {@code maxSize} stores with demand. Discarded stores are closed.
+     *
+     * @since 7.0.0
+     */
+    public StorePool(int minSize, int maxSize, URI defaultNamedGraphUri,
+            Supplier<Store> storeFactory) {
+        this(minSize, maxSize, defaultNamedGraphUri, storeFactory, Store::close, () -> {},
+            MAINTENANCE_INTERVAL);
+    }
+
+    private StorePool(int minSize, int maxSize, URI defaultNamedGraphUri,
+            Supplier<Store> storeFactory, Consumer<Store> storeDisposer, Runnable onClose,
+            Duration maintenanceInterval) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool size must satisfy 0 <= minSize <= maxSize"
+                + " and maxSize > 0, got " + minSize + " and " + maxSize);
+        }
         this.defaultNamedGraphUri = defaultNamedGraphUri;
-        this.storePool = new ArrayBlockingQueue<>(poolSize);
-        Dataset dataset = TDBFactory.createDataset();
-        DatasetQueryExecutorImpl queryExecutor = new DatasetQueryExecutorImpl(dataset);
-        for (int i = 0; i < poolSize; i++) {
-            // the reason StoreFactory#sparqlInMem is not used here because we want to reuse the dataset
-            storePool.add(new SparqlStoreImpl(queryExecutor));
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.storeFactory = storeFactory;
+        this.storeDisposer = storeDisposer;
+        this.onClose = onClose;
+        this.permits = new Semaphore(maxSize, true);
+
+        final long now = System.nanoTime();
+        for (int i = 0; i < minSize; i++) {
+            idleStores.add(new IdleStore(createStore(), now));
+        }
+
+        if (maintenanceInterval.isZero()) {
+            maintenance = null;
+            return;
         }
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "lyo-store-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(this::runMaintenance, maintenanceInterval.toMillis(),
+            maintenanceInterval.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     public URI getDefaultNamedGraphUri() {
         return defaultNamedGraphUri;
     }
 
-    public Store getStore() {
+    /**
+     * Leases a store, waiting at most the acquire timeout for one to become available.
+     *
+     * @throws StoreAccessException if no store became available in time, the thread was
+     *                              interrupted or the pool is closed
+     * @since 7.0.0
+     */
+    public Lease acquire() throws StoreAccessException {
+        return acquire(acquireTimeout);
+    }
+
+    /**
+     * Leases a store, waiting at most {@code timeout} for one to become available.
+     *
+     * @throws StoreAccessException if no store became available in time, the thread was
+     *                              interrupted or the pool is closed
+     * @since 7.0.0
+     */
+    public Lease acquire(Duration timeout) throws StoreAccessException {
+        return lease(timeout);
+    }
+
+    /**
+     * @param timeout maximum time to wait for a store, or null to wait as long as it takes
+     */
+    private Lease lease(Duration timeout) throws StoreAccessException {
+        if (closed.get()) {
+            throw new StoreAccessException("The store pool is closed");
+        }
+        final long start = System.nanoTime();
         try {
-            return storePool.take();
+            if (timeout == null) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                timeoutCount.increment();
+                throw new StoreAccessException("No store became available within "
+                    + timeout.toMillis() + " ms; " + getActiveCount() + " of " + maxSize
+                    + " stores are leased");
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();  // set interrupt flag
+            throw new StoreAccessException("Interrupted while waiting for a store", e);
+        }
+
+        final Store store;
+        try {
+            final IdleStore idle = idleStores.pollFirst();
+            store = idle != null ? idle.store() : createStore();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        final long acquiredAt = System.nanoTime();
+        final long wait = acquiredAt - start;
+        acquireCount.increment();
+        totalWaitNanos.add(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        // the stack trace is only worth its cost if a leak may be reported
+        activeStores.put(store, new Checkout(Thread.currentThread().getName(), acquiredAt,
+            leakDetectionThreshold.isPositive() ? new Exception("Store acquired here") : null));
+        return new Lease(store);
+    }
+
+    /**
+     * Leases a store, waiting as long as it takes for one to become available, regardless of the
+     * acquire timeout. The store must be given back with {@link #releaseStore(Store)}.
+     *
+     * @return the store, or null if the thread was interrupted or the pool is closed
+     * @deprecated use {@link #acquire()}, which reports why no store could be leased
+     */
+    @Deprecated
+    public Store getStore() {
+        try {
+            return lease(null).getStore();
+        } catch (StoreAccessException e) {
             log.error("Failed to get a store from the pool", e);
             return null;
         }
     }
 
+    /**
+     * Gives a leased store back to the pool.
+     */
     public void releaseStore(Store store) {
+        final Checkout checkout = activeStores.remove(store);
+        if (checkout == null) {
+            log.warn("Ignoring the release of a store that is not leased from this pool");
+            return;
+        }
+        if (checkout.leakReported) {
+            log.info("Store leased by thread '{}' was released after {} ms", checkout.thread,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - checkout.acquiredAt));
+        }
+        if (closed.get()) {
+            discard(store);
+        } else {
+            idleStores.addFirst(new IdleStore(store, System.nanoTime()));
+        }
+        permits.release();
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    public Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * @param leakDetectionThreshold time after which a lease is reported as a possible leak, or
+     *                               {@link Duration#ZERO} to disable leak detection; the leases
+     *                               acquired while it is disabled are reported without the stack
+     *                               trace of their acquisition
+     * @since 7.0.0
+     */
+    public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Reports the leases held longer than the leak detection threshold and discards the stores
+     * above the minimum size that have been idle longer than the idle timeout.
+     */
+    void runMaintenance() {
         try {
-            storePool.put(store);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();  // set interrupt flag
-            log.error("Failed to get a store from the pool", e);
+            final long now = System.nanoTime();
+            detectLeaks(now);
+            shrink(now);
+        } catch (RuntimeException e) {
+            log.error("Store pool maintenance failed", e);
+        }
+    }
+
+    private void detectLeaks(long now) {
+        final long threshold = leakDetectionThreshold.toNanos();
+        if (threshold <= 0) {
+            return;
+        }
+        final List<Checkout> checkouts;
+        synchronized (activeStores) {
+            checkouts = new ArrayList<>(activeStores.values());
+        }
+        for (Checkout checkout : checkouts) {
+            if (!checkout.leakReported && now - checkout.acquiredAt > threshold) {
+                checkout.leakReported = true;
+                leakCount.increment();
+                log.warn("Store leased by thread '{}' has not been released for {} ms; possible leak",
+                    checkout.thread, TimeUnit.NANOSECONDS.toMillis(now - checkout.acquiredAt),
+                    checkout.acquisition);
+            }
+        }
+    }
+
+    private void shrink(long now) {
+        final long timeout = idleTimeout.toNanos();
+        IdleStore eldest;
+        while (totalCount.get() > minSize && (eldest = idleStores.peekLast()) != null
+                && now - eldest.idleSince() > timeout) {
+            // a concurrent acquisition may have taken it meanwhile
+            if (idleStores.removeLastOccurrence(eldest)) {
+                discard(eldest.store());
+            }
+        }
+    }
+
+    /**
+     * Discards the idle stores and stops the maintenance. Leased stores are discarded when they
+     * are released.
+     *
+     * @since 7.0.0
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        IdleStore idle;
+        while ((idle = idleStores.pollFirst()) != null) {
+            discard(idle.store());
+        }
+        onClose.run();
+    }
+
+    private Store createStore() {
+        final Store store = storeFactory.get();
+        totalCount.incrementAndGet();
+        return store;
+    }
+
+    private void discard(Store store) {
+        totalCount.decrementAndGet();
+        try {
+            storeDisposer.accept(store);
+        } catch (RuntimeException e) {
+            log.warn("Failed to close a discarded store", e);
+        }
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeStores.size();
+    }
+
+    @Override
+    public int getIdleCount() {
+        return idleStores.size();
+    }
+
+    @Override
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+
+    @Override
+    public int getPendingCount() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public int getMinSize() {
+        return minSize;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    @Override
+    public long getLeakCount() {
+        return leakCount.sum();
+    }
+
+    @Override
+    public long getTotalWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum());
+    }
+
+    @Override
+    public long getMaxWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    /**
+     * A leased store, given back to the pool when the lease is closed.
+     *
+     * @since 7.0.0
+     */
+    public final class Lease implements AutoCloseable {
+        private final Store store;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Store store) {
+            this.store = store;
+        }
+
+        public Store getStore() {
+            if (released.get()) {
+                throw new IllegalStateException("The lease has been closed");
+            }
+            return store;
+        }
+
+        /**
+         * Gives the store back to the pool; further calls have no effect.
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                releaseStore(store);
+            }
+        }
+    }
+
+    private record IdleStore(Store store, long idleSince) {
+    }
+
+    private static final class Checkout {
+        private final String thread;
+        private final long acquiredAt;
+        /** Null if leak detection was disabled at the time. */
+        private final Exception acquisition;
+        private volatile boolean leakReported;
+
+        private Checkout(String thread, long acquiredAt, Exception acquisition) {
+            this.thread = thread;
+            this.acquiredAt = acquiredAt;
+            this.acquisition = acquisition;
         }
     }
 }
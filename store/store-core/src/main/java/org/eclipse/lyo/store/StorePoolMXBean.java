@@ -0,0 +1,76 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+/**
+ * Metrics of a {@link StorePool}, which can be exported over JMX by registering the pool with
+ * an MBean server, e.g.
+ * <pre>
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(pool,
+ *     new ObjectName("org.eclipse.lyo.store:type=StorePool,name=adaptor"));
+ * </pre>
+ *
+ * @since 7.0.0
+ */
+public interface StorePoolMXBean {
+    /**
+     * @return number of stores currently leased
+     */
+    int getActiveCount();
+
+    /**
+     * @return number of stores waiting in the pool to be leased
+     */
+    int getIdleCount();
+
+    /**
+     * @return number of stores created by the pool and not yet discarded
+     */
+    int getTotalCount();
+
+    /**
+     * @return number of threads currently waiting for a store
+     */
+    int getPendingCount();
+
+    int getMinSize();
+
+    int getMaxSize();
+
+    /**
+     * @return number of successful acquisitions since the pool was created
+     */
+    long getAcquireCount();
+
+    /**
+     * @return number of acquisitions that timed out
+     */
+    long getTimeoutCount();
+
+    /**
+     * @return number of leases that were held longer than the leak detection threshold
+     */
+    long getLeakCount();
+
+    /**
+     * @return time spent by all successful acquisitions waiting for a store, in milliseconds
+     */
+    long getTotalWaitTimeMillis();
+
+    /**
+     * @return longest time a successful acquisition waited for a store, in milliseconds
+     */
+    long getMaxWaitTimeMillis();
+}
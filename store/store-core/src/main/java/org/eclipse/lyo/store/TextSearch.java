@@ -0,0 +1,46 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.List;
+
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.sparql.core.Var;
+
+/**
+ * Matches resources against the terms of an {@code oslc.searchTerms} clause in a SPARQL query.
+ * <p>
+ * The store calls it to fill a subquery that selects the matching subjects and sums their scores
+ * into their {@code oslc:score}, by which the results are then ranked. Implementations can use the
+ * full-text extension of the triplestore, e.g.
+ * {@link org.eclipse.lyo.store.internals.JenaTextSearch} for a Jena text index, in-process or
+ * behind Fuseki. The default, {@link org.eclipse.lyo.store.internals.ContainsTextSearch}, works
+ * on any endpoint but scans all literals.
+ *
+ * @since 7.0.0
+ */
+public interface TextSearch {
+
+    /**
+     * Adds the patterns matching the terms to the query.
+     *
+     * @param query   query to add the patterns to
+     * @param subject variable to bind to the matching resources
+     * @param score   variable to bind to the positive score of each match; a resource may match
+     *                several times, in which case the scores are summed up
+     * @param terms   search terms, each matched on its own
+     */
+    void addPatterns(SelectBuilder query, Var subject, Var score, List<String> terms);
+}
@@ -0,0 +1,37 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+/**
+ * Thrown when reading resources would fetch more triples than the configured limit.
+ *
+ * @see org.eclipse.lyo.oslc4j.core.OSLC4JConstants#LYO_STORE_TRIPLE_LIMIT
+ * @since 7.0.0
+ */
+public class TripleLimitExceededException extends RuntimeException {
+    private final int limit;
+
+    public TripleLimitExceededException(final int limit) {
+        super("The query result exceeds the limit of " + limit + " triples");
+        this.limit = limit;
+    }
+
+    /**
+     * @return the limit that was exceeded
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
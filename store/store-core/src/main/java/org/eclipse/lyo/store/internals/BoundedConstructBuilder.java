@@ -0,0 +1,169 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Query;
+import org.apache.jena.sparql.core.BasicPattern;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.expr.E_IsBlank;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.apache.jena.sparql.syntax.Element;
+import org.apache.jena.sparql.syntax.ElementBind;
+import org.apache.jena.sparql.syntax.ElementFilter;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.sparql.syntax.ElementNamedGraph;
+import org.apache.jena.sparql.syntax.ElementPathBlock;
+import org.apache.jena.sparql.syntax.ElementSubQuery;
+import org.apache.jena.sparql.syntax.ElementUnion;
+import org.apache.jena.sparql.syntax.Template;
+
+/**
+ * Builds the CONSTRUCT query the store reads resources with, in place of a DESCRIBE whose result
+ * depends on the endpoint.
+ * <p>
+ * The query is a UNION of branches that each bind one triple to {@code ?t ?p ?o}, joined with
+ * the pattern binding the subjects, if any:
+ * <pre>
+ * CONSTRUCT { ?t ?p ?o }
+ * WHERE {
+ *   { SELECT DISTINCT ?t ?p ?o
+ *     WHERE { GRAPH ?g { subjects { branch } UNION { branch } ... } }
+ *     LIMIT limit }
+ * }
+ * </pre>
+ * Since every solution of the subquery is one distinct triple, its {@code LIMIT} is a triple
+ * limit: the caller asks for one triple more than it accepts to detect an excess, or orders the
+ * triples to truncate the result deterministically.
+ *
+ * @since 7.0.0
+ */
+class BoundedConstructBuilder {
+    static final Var T = Var.alloc("t");
+    static final Var P = Var.alloc("p");
+    static final Var O = Var.alloc("o");
+
+    private static final String BLANK_VAR_PREFIX = "b";
+
+    private final Element subjects;
+    private final ElementUnion union = new ElementUnion();
+
+    /**
+     * @param subjects pattern binding the subjects the branches start from, e.g. a {@code VALUES}
+     *                 block; may be null if the branches bind their subjects themselves
+     */
+    BoundedConstructBuilder(final Element subjects) {
+        this.subjects = subjects;
+    }
+
+    /**
+     * Adds a branch fetching the triples {@code subject predicate ?o}.
+     *
+     * @param path      triples leading from the subjects to {@code subject}, may be empty
+     * @param subject   node whose triples are fetched
+     * @param predicate predicate of the triples, or {@link #P} for all of them
+     */
+    void addBranch(final List<Triple> path, final Node subject, final Node predicate) {
+        addBranch(path, new ArrayList<>(), subject, predicate);
+    }
+
+    /**
+     * Adds branches fetching all triples of {@code root} and of the blank nodes reachable from it
+     * through at most {@code depth} blank nodes.
+     */
+    void addBlankNodeClosure(final Var root, final int depth) {
+        final List<Triple> path = new ArrayList<>();
+        final List<Element> filters = new ArrayList<>();
+        Var subject = root;
+        addBranch(path, filters, subject, P);
+        for (int level = 0; level < depth; level++) {
+            final Var blank = Var.alloc(BLANK_VAR_PREFIX + level);
+            path.add(Triple.create(subject, Var.alloc(BLANK_VAR_PREFIX + level + "p"), blank));
+            filters.add(new ElementFilter(new E_IsBlank(new ExprVar(blank))));
+            subject = blank;
+            addBranch(path, filters, subject, P);
+        }
+    }
+
+    private void addBranch(final List<Triple> path, final List<Element> filters,
+            final Node subject, final Node predicate) {
+        final ElementGroup branch = new ElementGroup();
+        final ElementPathBlock triples = new ElementPathBlock();
+        path.forEach(triples::addTriple);
+        triples.addTriple(Triple.create(subject, predicate, O));
+        branch.addElement(triples);
+        filters.forEach(branch::addElement);
+        if (!T.equals(subject)) {
+            branch.addElement(new ElementBind(T, subject.isVariable()
+                ? new ExprVar(subject) : NodeValue.makeNode(subject)));
+        }
+        if (!P.equals(predicate)) {
+            branch.addElement(new ElementBind(P, predicate.isVariable()
+                ? new ExprVar(predicate) : NodeValue.makeNode(predicate)));
+        }
+        union.addElement(branch);
+    }
+
+    /**
+     * @param graph   named graph to read from, or a variable to read from all of them
+     * @param limit   maximum number of triples, or 0 for no limit
+     * @param ordered whether to order the triples before applying the limit
+     *
+     * @return the CONSTRUCT query
+     */
+    Query build(final Node graph, final int limit, final boolean ordered) {
+        // the subjects are bound once, outside of the UNION
+        final ElementGroup branches = new ElementGroup();
+        if (subjects != null) {
+            branches.addElement(subjects);
+        }
+        branches.addElement(union);
+        final ElementGroup graphPattern = new ElementGroup();
+        graphPattern.addElement(new ElementNamedGraph(graph, branches));
+
+        final Query select = new Query();
+        select.setQuerySelectType();
+        select.setDistinct(true);
+        select.addResultVar(T);
+        select.addResultVar(P);
+        select.addResultVar(O);
+        select.setQueryPattern(graphPattern);
+        if (limit > 0) {
+            if (ordered) {
+                select.addOrderBy(T, Query.ORDER_ASCENDING);
+                select.addOrderBy(P, Query.ORDER_ASCENDING);
+                select.addOrderBy(O, Query.ORDER_ASCENDING);
+            }
+            select.setLimit(limit);
+        }
+
+        final ElementGroup pattern = new ElementGroup();
+        pattern.addElement(new ElementSubQuery(select));
+
+        final BasicPattern template = new BasicPattern();
+        template.add(Triple.create(T, P, O));
+
+        final Query construct = new Query();
+        construct.setQueryConstructType();
+        construct.setConstructTemplate(new Template(template));
+        construct.setQueryPattern(pattern);
+        return construct;
+    }
+}
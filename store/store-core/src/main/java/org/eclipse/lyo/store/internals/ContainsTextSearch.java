@@ -0,0 +1,59 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.jena.arq.querybuilder.ExprFactory;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.eclipse.lyo.store.TextSearch;
+
+/**
+ * {@link TextSearch} that works on any SPARQL endpoint by matching the terms as case-insensitive
+ * substrings of literal values:
+ * <pre>
+ * { ?s ?searchProperty ?searchValue
+ *   FILTER(isLiteral(?searchValue) &amp;&amp; CONTAINS(LCASE(STR(?searchValue)), "term"))
+ *   BIND(1 AS ?score) }
+ * UNION { ... }
+ * </pre>
+ * A resource thus scores the number of its values that contain a term, per term. As every
+ * literal of the named graph is scanned, prefer an endpoint-specific implementation for large
+ * datasets.
+ *
+ * @since 7.0.0
+ */
+public class ContainsTextSearch implements TextSearch {
+    private static final Var PROPERTY = Var.alloc("searchProperty");
+    private static final Var VALUE = Var.alloc("searchValue");
+
+    @Override
+    public void addPatterns(final SelectBuilder query, final Var subject, final Var score,
+            final List<String> terms) {
+        final ExprFactory factory = new ExprFactory();
+        for (String term : terms) {
+            final SelectBuilder branch = new SelectBuilder()
+                .addWhere(subject, PROPERTY, VALUE)
+                .addFilter(factory.and(factory.isLiteral(VALUE),
+                    factory.strcontains(factory.lcase(factory.str(VALUE)),
+                        NodeValue.makeString(term.toLowerCase(Locale.ROOT)))))
+                .addBind(NodeValue.makeInteger(1), score);
+            query.addUnion(branch);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.eclipse.lyo.store.internals;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 
 /*
  * Copyright (c) 2020 Contributors to the Eclipse Foundation
@@ -18,15 +20,27 @@ import java.nio.file.Path;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
-import org.apache.jena.query.ARQ;
 import org.apache.jena.query.Dataset;
+import org.apache.jena.query.text.EntityDefinition;
+import org.apache.jena.query.text.TextDatasetFactory;
+import org.apache.jena.query.text.TextIndexConfig;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.tdb.TDB;
 import org.apache.jena.tdb.TDBFactory;
+import org.apache.jena.tdb2.TDB2;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.vocabulary.DCTerms;
+import org.apache.jena.vocabulary.RDFS;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Contains factory methods to initialise a Jena TDB Dataset instance.
+ * Contains factory methods to initialise a Jena TDB or TDB2 Dataset instance.
  *
  * @author Andrew Berezovskyi (andriib@kth.se)
  * @version $version-stub$
@@ -52,12 +66,94 @@ public class DatasetBuilder {
             Dataset dataset = TDBFactory.createDataset(path.toString());
             // see https://jena.apache.org/documentation/tdb/datasets.html
             // (http://archive.is/2F7EA)
-            // TODO per dataset only?
-            ARQ.getContext().set(TDB.symUnionDefaultGraph, true);
+            dataset.getContext().set(TDB.symUnionDefaultGraph, true);
             return dataset;
         } catch (final IOException e) {
             LOGGER.error(String.valueOf(e));
             throw e;
         }
     }
+
+    /**
+     * Initialises a persistent Jena TDB2 Dataset instance in a given subdirectory (created if
+     * doesn't exist).
+     *
+     * @param unionDefaultGraph whether the default graph of queries is the union of all named
+     *                          graphs, for this dataset only
+     *
+     * @return An instance of a TDB2 Dataset
+     *
+     * @throws IOException if a Dataset can't be initialised in the given
+     *                     directory (check write permissions).
+     * @since 7.0.0
+     */
+    public static Dataset buildPersistentTdb2(final Path path, final boolean unionDefaultGraph)
+            throws IOException {
+        try {
+            Files.createDirectories(path);
+            final Dataset dataset = TDB2Factory.connectDataset(path.toString());
+            dataset.getContext().set(TDB2.symUnionDefaultGraph, unionDefaultGraph);
+            return dataset;
+        } catch (final IOException e) {
+            LOGGER.error(String.valueOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Initialises an in-memory Jena TDB2 Dataset instance.
+     *
+     * @param unionDefaultGraph whether the default graph of queries is the union of all named
+     *                          graphs, for this dataset only
+     *
+     * @since 7.0.0
+     */
+    public static Dataset buildInMemoryTdb2(final boolean unionDefaultGraph) {
+        final Dataset dataset = TDB2Factory.createDataset();
+        dataset.getContext().set(TDB2.symUnionDefaultGraph, unionDefaultGraph);
+        return dataset;
+    }
+
+    /**
+     * Predicates indexed by {@link #buildTextIndexed(Dataset, Path, Collection)} by default.
+     *
+     * @since 7.0.0
+     */
+    public static final List<Property> DEFAULT_TEXT_PREDICATES = List.of(DCTerms.title,
+        DCTerms.description, DCTerms.identifier, DCTerms.subject, RDFS.label,
+        ResourceFactory.createProperty(OslcConstants.OSLC_CORE_NAMESPACE, "shortTitle"));
+
+    /**
+     * Wraps a dataset with a Lucene text index of the values of the given predicates, for use with
+     * {@link JenaTextSearch}. The index keeps the named graph of each value, so that text queries
+     * within a {@code GRAPH} pattern only match that graph. Triples already in the dataset are not
+     * indexed.
+     *
+     * @param dataset        dataset to index
+     * @param indexDirectory directory of the index (created if doesn't exist), or null for an
+     *                       in-memory index
+     * @param predicates     predicates whose literal values are indexed, all in one field
+     *
+     * @return the indexed dataset, to be used instead of {@code dataset}
+     *
+     * @throws IOException if the index can't be opened in the given directory
+     * @since 7.0.0
+     */
+    public static Dataset buildTextIndexed(final Dataset dataset, final Path indexDirectory,
+            final Collection<Property> predicates) throws IOException {
+        final EntityDefinition entityDefinition = new EntityDefinition("uri", "text");
+        entityDefinition.setGraphField("graph");
+        for (Property predicate : predicates) {
+            entityDefinition.set("text", predicate.asNode());
+        }
+        final Directory directory;
+        if (indexDirectory == null) {
+            directory = new ByteBuffersDirectory();
+        } else {
+            Files.createDirectories(indexDirectory);
+            directory = FSDirectory.open(indexDirectory);
+        }
+        return TextDatasetFactory.createLucene(dataset, directory,
+            new TextIndexConfig(entityDefinition));
+    }
 }
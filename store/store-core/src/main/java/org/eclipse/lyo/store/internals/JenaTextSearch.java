@@ -0,0 +1,99 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.sparql.core.Var;
+import org.eclipse.lyo.store.TextSearch;
+
+/**
+ * {@link TextSearch} backed by a Jena text index, e.g. one built with
+ * {@link DatasetBuilder#buildTextIndexed(org.apache.jena.query.Dataset, java.nio.file.Path,
+ * java.util.Collection)} or configured on a Fuseki dataset:
+ * <pre>
+ * (?s ?score) text:query "\"term\" OR \"other term\""
+ * </pre>
+ * Each term is searched as a phrase in the default field of the index, and the Lucene relevance
+ * is the score.
+ * <p>
+ * The index returns at most {@link #getHitLimit()} hits per query, the best scored first. The
+ * limit is passed explicitly rather than left to the default of jena-text, so that a query whose
+ * terms match more resources does not silently lose the lower scored ones beyond it. The hits are
+ * taken before the where clause, the named graph and the paging of the store query are applied,
+ * so the limit is not derived from the page size; raise it if a search may match more resources.
+ *
+ * @since 7.0.0
+ */
+public class JenaTextSearch implements TextSearch {
+    /**
+     * Property function of the Jena text extension.
+     */
+    public static final String TEXT_QUERY = "http://jena.apache.org/text#query";
+
+    /**
+     * Number of hits returned by the index per query unless configured otherwise, the same as
+     * the default of jena-text.
+     */
+    public static final int DEFAULT_HIT_LIMIT = 10_000;
+
+    private final int hitLimit;
+
+    /**
+     * Searches with a limit of {@link #DEFAULT_HIT_LIMIT} hits.
+     */
+    public JenaTextSearch() {
+        this(DEFAULT_HIT_LIMIT);
+    }
+
+    /**
+     * @param hitLimit maximum number of hits returned by the index per query
+     *
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public JenaTextSearch(final int hitLimit) {
+        if (hitLimit < 1) {
+            throw new IllegalArgumentException("hitLimit must be positive, got " + hitLimit);
+        }
+        this.hitLimit = hitLimit;
+    }
+
+    /**
+     * @return maximum number of hits returned by the index per query
+     */
+    public int getHitLimit() {
+        return hitLimit;
+    }
+
+    @Override
+    public void addPatterns(final SelectBuilder query, final Var subject, final Var score,
+            final List<String> terms) {
+        query.addWhere(query.list(subject, score), NodeFactory.createURI(TEXT_QUERY),
+            query.list(NodeFactory.createLiteralString(toLuceneQuery(terms)), hitLimit));
+    }
+
+    /**
+     * @return the terms as quoted phrases joined with OR, so that the Lucene query syntax of the
+     * terms themselves is not interpreted
+     */
+    static String toLuceneQuery(final List<String> terms) {
+        return terms.stream()
+            .map(term -> '"' + term.replace("\\", "\\\\").replace("\"", "\\\"") + '"')
+            .collect(Collectors.joining(" OR "));
+    }
+}
@@ -0,0 +1,108 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Query;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.aggregate.AggregatorFactory;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.sparql.syntax.ElementOptional;
+import org.apache.jena.sparql.syntax.ElementPathBlock;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.ScopedSortTerm;
+import org.eclipse.lyo.core.query.SimpleSortTerm;
+import org.eclipse.lyo.core.query.SortTerm;
+import org.eclipse.lyo.core.query.SortTerms;
+
+/**
+ * Compiles a parsed {@code oslc.orderBy} clause into the sort keys of a query that selects one
+ * row per subject, i.e. one grouped by the subject variable.
+ * <p>
+ * Each simple sort term {@code +p} adds {@code OPTIONAL { ?s p ?sort }} to the pattern and sorts
+ * on {@code MIN(?sort)}, or on {@code MAX(?sort)} for {@code -p}, so that a resource with several
+ * values appears once. A scoped sort term {@code p{+q}} follows {@code p} first:
+ * {@code OPTIONAL { ?s p ?scope . ?scope q ?sort }}. Resources without a value sort first in
+ * ascending order, as unbound values do in SPARQL.
+ *
+ * @since 7.0.0
+ */
+class OrderByCompiler {
+    private static final String SORT_VAR_PREFIX = "sort";
+    private static final String KEY_VAR_PREFIX = "key";
+    private static final String SCOPE_VAR_PREFIX = "scope";
+
+    private final Query query;
+    private final ElementGroup pattern;
+    private int varCount = 0;
+
+    /**
+     * @param query   grouped query to add the sort keys to
+     * @param pattern group pattern of the query to add the optional patterns to
+     */
+    OrderByCompiler(final Query query, final ElementGroup pattern) {
+        this.query = query;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Adds the sort keys of the clause to the query.
+     *
+     * @param orderBy parsed order by clause
+     * @param subject variable of the resources being sorted
+     *
+     * @throws IllegalArgumentException if a prefix of the clause is not declared
+     */
+    void compile(final SortTerms orderBy, final Var subject) {
+        compileTerms(orderBy, subject, new ArrayList<>());
+    }
+
+    private void compileTerms(final SortTerms terms, final Var subject, final List<Triple> path) {
+        for (SortTerm term : terms.children()) {
+            final int id = varCount++;
+            if (term.type() == SortTerm.Type.SCOPED) {
+                final Var scope = Var.alloc(SCOPE_VAR_PREFIX + id);
+                final List<Triple> scopedPath = new ArrayList<>(path);
+                scopedPath.add(Triple.create(subject, predicate(term.identifier()), scope));
+                compileTerms(((ScopedSortTerm) term).sortTerms(), scope, scopedPath);
+            } else {
+                final Var sort = Var.alloc(SORT_VAR_PREFIX + id);
+                final ElementPathBlock triples = new ElementPathBlock();
+                path.forEach(triples::addTriple);
+                triples.addTriple(Triple.create(subject, predicate(term.identifier()), sort));
+                final ElementGroup optional = new ElementGroup();
+                optional.addElement(triples);
+                pattern.addElement(new ElementOptional(optional));
+
+                final boolean ascending = ((SimpleSortTerm) term).ascending();
+                final Var key = Var.alloc(KEY_VAR_PREFIX + id);
+                query.addResultVar(key, query.allocAggregate(ascending
+                    ? AggregatorFactory.createMin(false, new ExprVar(sort))
+                    : AggregatorFactory.createMax(false, new ExprVar(sort))));
+                query.addOrderBy(key, ascending ? Query.ORDER_ASCENDING : Query.ORDER_DESCENDING);
+            }
+        }
+    }
+
+    private static Node predicate(final PName identifier) {
+        return NodeFactory.createURI(WhereClauseCompiler.resolve(identifier));
+    }
+}
@@ -0,0 +1,89 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.core.query.NestedProperty;
+import org.eclipse.lyo.core.query.Properties;
+import org.eclipse.lyo.core.query.Property;
+
+/**
+ * Compiles a parsed {@code oslc.select} clause into the branches of a
+ * {@link BoundedConstructBuilder} query that returns only the selected properties.
+ * <p>
+ * Every selected property is one branch, e.g. {@code oslc.select=dcterms:title,
+ * dcterms:creator{foaf:name}} becomes
+ * <pre>
+ * { ?s dcterms:title ?o }
+ * UNION { ?s dcterms:creator ?o }
+ * UNION { ?s dcterms:creator ?select0 . ?select0 foaf:name ?o }
+ * </pre>
+ * (with {@code ?t} and {@code ?p} bound accordingly), so that properties with several values do
+ * not multiply each other's rows. The wildcard {@code *} selects all properties of its subject.
+ * {@code rdf:type} is always selected, as resources are unmarshalled by their type.
+ *
+ * @since 7.0.0
+ */
+class SelectClauseCompiler {
+    private static final String VAR_PREFIX = "select";
+
+    private final BoundedConstructBuilder query;
+    private int varCount = 0;
+
+    /**
+     * @param query query to add the branches to
+     */
+    SelectClauseCompiler(final BoundedConstructBuilder query) {
+        this.query = query;
+    }
+
+    /**
+     * Adds a branch per selected property.
+     *
+     * @param select  parsed select clause
+     * @param subject variable of the selected resources
+     *
+     * @throws IllegalArgumentException if a prefix of the clause is not declared
+     */
+    void compile(final Properties select, final Var subject) {
+        query.addBranch(new ArrayList<>(), subject, RDF.type.asNode());
+        compileProperties(select, subject, new ArrayList<>());
+    }
+
+    private void compileProperties(final Properties properties, final Var subject,
+            final List<Triple> path) {
+        for (Property property : properties.children()) {
+            final Node predicate = property.isWildcard() ? BoundedConstructBuilder.P
+                : NodeFactory.createURI(WhereClauseCompiler.resolve(property.identifier()));
+            query.addBranch(path, subject, predicate);
+
+            if (property.type() == Property.Type.NESTED_PROPERTY) {
+                final Var object = Var.alloc(VAR_PREFIX + varCount++);
+                final Node pathPredicate = property.isWildcard()
+                    ? Var.alloc(VAR_PREFIX + varCount++) : predicate;
+                final List<Triple> nestedPath = new ArrayList<>(path);
+                nestedPath.add(Triple.create(subject, pathPredicate, object));
+                compileProperties((NestedProperty) property, object, nestedPath);
+            }
+        }
+    }
+}
@@ -6,15 +6,27 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import javax.xml.datatype.DatatypeConfigurationException;
@@ -33,49 +45,71 @@ import javax.xml.datatype.DatatypeConfigurationException;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
-import org.apache.jena.arq.querybuilder.DescribeBuilder;
 import org.apache.jena.arq.querybuilder.ExprFactory;
 import org.apache.jena.arq.querybuilder.Order;
 import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.atlas.iterator.Iter;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.query.ParameterizedSparqlString;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.QuerySolutionMap;
+import org.apache.jena.query.ResultSet;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.rdf.model.impl.ResourceImpl;
 import org.apache.jena.riot.RiotException;
-import org.apache.jena.sparql.expr.E_Regex;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.engine.binding.Binding;
+import org.apache.jena.sparql.engine.binding.BindingFactory;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.apache.jena.sparql.expr.aggregate.AggregatorFactory;
 import org.apache.jena.sparql.modify.request.QuadDataAcc;
+import org.apache.jena.sparql.modify.request.UpdateClear;
 import org.apache.jena.sparql.modify.request.UpdateDataInsert;
+import org.apache.jena.sparql.modify.request.UpdateModify;
+import org.apache.jena.sparql.syntax.Element;
+import org.apache.jena.sparql.syntax.ElementData;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.sparql.syntax.ElementNamedGraph;
+import org.apache.jena.sparql.syntax.ElementPathBlock;
 import org.apache.jena.update.UpdateProcessor;
-import org.eclipse.lyo.core.query.ComparisonTerm;
-import org.eclipse.lyo.core.query.ComparisonTerm.Operator;
-import org.eclipse.lyo.core.query.DecimalValue;
-import org.eclipse.lyo.core.query.PName;
+import org.apache.jena.update.UpdateRequest;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.core.query.OrderByClause;
 import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.Properties;
 import org.eclipse.lyo.core.query.QueryUtils;
-import org.eclipse.lyo.core.query.SimpleTerm;
-import org.eclipse.lyo.core.query.SimpleTerm.Type;
-import org.eclipse.lyo.core.query.StringValue;
-import org.eclipse.lyo.core.query.UriRefValue;
-import org.eclipse.lyo.core.query.Value;
 import org.eclipse.lyo.core.query.WhereClause;
 import org.eclipse.lyo.core.util.StringUtils;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
 import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
 import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.eclipse.lyo.store.BulkLoadListener;
 import org.eclipse.lyo.store.ModelUnmarshallingException;
+import org.eclipse.lyo.store.ResourceBatch;
+import org.eclipse.lyo.store.ResourcePage;
 import org.eclipse.lyo.store.Store;
 import org.eclipse.lyo.store.StoreAccessException;
+import org.eclipse.lyo.store.TextSearch;
+import org.eclipse.lyo.store.TripleLimitExceededException;
+import org.eclipse.lyo.store.internals.query.DatasetLoader;
 import org.eclipse.lyo.store.internals.query.JenaQueryExecutor;
 import org.eclipse.lyo.store.internals.query.SparqlQueryExecutorBasicAuthImpl;
 import org.eclipse.lyo.store.internals.query.SparqlQueryExecutorImpl;
@@ -92,11 +126,41 @@ import org.slf4j.LoggerFactory;
  */
 public class SparqlStoreImpl implements Store {
     /**
-     * Could be used to prevent extremely large results
+     * Could be used to prevent extremely large results.
+     *
+     * @deprecated unused, the triple limit is set through
+     * {@link org.eclipse.lyo.oslc4j.core.OSLC4JConstants#LYO_STORE_TRIPLE_LIMIT}
      */
+    @Deprecated
     public static final int TRIPLE_LIMIT = 10001;
     private static final Logger log = LoggerFactory.getLogger(SparqlStoreImpl.class);
+    /**
+     * Property carrying the relevance of a resource returned for {@code oslc.searchTerms}.
+     */
+    public static final Property OSLC_SCORE = ResourceFactory.createProperty(
+        OslcConstants.OSLC_CORE_NAMESPACE, "score");
+    private static final Var SCORE = Var.alloc("score");
+    private static final Var SEARCH_SCORE = Var.alloc("searchScore");
+    /**
+     * Blank node depth of the first query when {@link OSLC4JUtils#getLyoStoreBlankNodeDepth()} is
+     * not set.
+     */
+    private static final int UNBOUNDED_BLANK_NODE_START_DEPTH = 4;
     private final JenaQueryExecutor queryExecutor;
+    private final TextSearch textSearch;
+    /**
+     * Results of {@link #countResources(URI, String, String, String)} by query, see
+     * {@link OSLC4JUtils#getLyoStoreCountCacheTtl()}. Cleared by the writes of this store.
+     */
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+    /**
+     * Number of cached counts above which the expired ones are removed, lest queries that are
+     * never repeated fill the cache.
+     */
+    private static final int COUNT_CACHE_SWEEP_SIZE = 1000;
+
+    private record CachedCount(long count, long expiresAt) {
+    }
 
     /**
      * Initialises the Store with the endpoints for query and update. Must be available over HTTP
@@ -134,58 +198,213 @@ public class SparqlStoreImpl implements Store {
      * @param queryExecutor Instance of the {@link JenaQueryExecutor} that can run queries and updates.
      */
     public SparqlStoreImpl(final JenaQueryExecutor queryExecutor) {
+        this(queryExecutor, new ContainsTextSearch());
+    }
+
+    /**
+     * Initialises the Store with the custom {@link JenaQueryExecutor} and the way
+     * {@code oslc.searchTerms} are matched by the triplestore.
+     *
+     * @param queryExecutor Instance of the {@link JenaQueryExecutor} that can run queries and updates.
+     * @param textSearch    full-text search of the triplestore
+     * @since 7.0.0
+     */
+    public SparqlStoreImpl(final JenaQueryExecutor queryExecutor, final TextSearch textSearch) {
         this.queryExecutor = queryExecutor;
+        this.textSearch = textSearch;
     }
 
     @Override
     public void insertJenaModel(final URI namedGraph, final Model model) {
-        final QuadDataAcc quadAccumulator = new QuadDataAcc();
-        quadAccumulator.setGraph(NodeFactory.createURI(String.valueOf(namedGraph)));
-        final StmtIterator statementIterator = model.listStatements();
-        while (statementIterator.hasNext()) {
-            final Statement statement = statementIterator.nextStatement();
-            final Triple triple = statement.asTriple();
-            quadAccumulator.addTriple(triple);
-        }
-        queryExecutor.beginWrite();
-        try {
-            final UpdateDataInsert dataInsertUpdate = new UpdateDataInsert(quadAccumulator);
-            final UpdateProcessor up = queryExecutor.prepareSparqlUpdate(dataInsertUpdate);
-            up.execute();
-            queryExecutor.commit();
-        } finally {
-            queryExecutor.end();
-        }
+        executeUpdate(new UpdateRequest(buildInsertUpdate(graphNode(namedGraph), model)));
     }
 
     @Override
     public boolean insertResources(final URI namedGraph, final Object... resources)
             throws StoreAccessException {
+        insertJenaModel(namedGraph, createJenaModel(resources));
+        return true;
+    }
+
+    /**
+     * Loads the triples in chunks of {@link OSLC4JUtils#getLyoStoreInsertChunkSize()}.
+     * <p>
+     * If the query executor is a {@link DatasetLoader}, e.g. for a TDB dataset, the triples are
+     * added through the native dataset API within one write transaction. Otherwise, each chunk is
+     * sent as a separate {@code INSERT DATA} update, with up to
+     * {@link OSLC4JUtils#getLyoStoreInsertConcurrency()} updates in flight at a time. Loading stops
+     * at the first failed chunk; chunks that were already sent remain loaded. Note that a remote
+     * endpoint treats the blank nodes of each chunk as distinct, so the statements about a blank
+     * node should not be split across chunks; {@link #bulkLoad(URI, Model, BulkLoadListener)}
+     * takes care of it.
+     */
+    @Override
+    public void bulkLoad(final URI namedGraph, final Iterator<Triple> triples,
+            final BulkLoadListener listener) throws StoreAccessException {
+        if (queryExecutor instanceof DatasetLoader loader) {
+            try {
+                loader.load(graphNode(namedGraph), triples,
+                    OSLC4JUtils.getLyoStoreInsertChunkSize(), progress(listener));
+            } finally {
+                countCache.clear();
+            }
+            return;
+        }
+        insertInChunks(namedGraph, Iter.map(triples, List::of), listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the triples are sent as {@code INSERT DATA} updates, the statements connected through
+     * blank nodes are kept in the same chunk, which may then exceed
+     * {@link OSLC4JUtils#getLyoStoreInsertChunkSize()}.
+     */
+    @Override
+    public void bulkLoad(final URI namedGraph, final Model model, final BulkLoadListener listener)
+            throws StoreAccessException {
+        if (queryExecutor instanceof DatasetLoader) {
+            Store.super.bulkLoad(namedGraph, model, listener);
+            return;
+        }
+        insertInChunks(namedGraph, groupByBlankNodes(model.getGraph()).iterator(), listener);
+    }
+
+    private static LongConsumer progress(final BulkLoadListener listener) {
+        final Instant start = Instant.now();
+        return loaded -> {
+            if (listener != null) {
+                listener.onProgress(loaded, Duration.between(start, Instant.now()));
+            }
+        };
+    }
+
+    /**
+     * Sends the triples as concurrent {@code INSERT DATA} updates.
+     *
+     * @param groups the triples, grouped so that a group is never split across updates
+     */
+    private void insertInChunks(final URI namedGraph, final Iterator<List<Triple>> groups,
+            final BulkLoadListener listener) throws StoreAccessException {
+        final Node graph = graphNode(namedGraph);
+        final int chunkSize = OSLC4JUtils.getLyoStoreInsertChunkSize();
+        final Instant start = Instant.now();
+        final LongConsumer progress = progress(listener);
+
+        final int concurrency = OSLC4JUtils.getLyoStoreInsertConcurrency();
+        // a virtual thread per chunk costs next to nothing, so there is no pool to keep around
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        // bounds the number of chunks held in memory and of updates to those in flight
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final AtomicLong loaded = new AtomicLong();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<Triple> pending = null;
         try {
-            final Model model = JenaModelHelper.createJenaModel(resources);
-            insertJenaModel(namedGraph, model);
-            return true;
-        } catch (DatatypeConfigurationException | IllegalAccessException |
-                OslcCoreApplicationException | InvocationTargetException e) {
-            throw new StoreAccessException(e);
+            while ((pending != null || groups.hasNext()) && failure.get() == null) {
+                final QuadDataAcc chunk = new QuadDataAcc();
+                chunk.setGraph(graph);
+                int chunkTriples = 0;
+                do {
+                    if (pending == null) {
+                        pending = groups.next();
+                    }
+                    if (chunkTriples > 0 && chunkTriples + pending.size() > chunkSize) {
+                        break;
+                    }
+                    pending.forEach(chunk::addTriple);
+                    chunkTriples += pending.size();
+                    pending = null;
+                } while (chunkTriples < chunkSize && groups.hasNext());
+                final int size = chunkTriples;
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            executeUpdate(new UpdateRequest(new UpdateDataInsert(chunk)));
+                            progress.accept(loaded.addAndGet(size));
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // wait for the chunks still in flight
+            inFlight.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoreAccessException("Bulk load into " + namedGraph + " was interrupted", e);
+        } finally {
+            executor.shutdown();
+        }
+        if (failure.get() != null) {
+            throw new StoreAccessException("Bulk load into " + namedGraph + " failed after "
+                + loaded.get() + " triples", failure.get());
+        }
+        log.debug("Bulk-loaded {} triples into {} in {} ms", loaded.get(), namedGraph,
+            Duration.between(start, Instant.now()).toMillis());
+    }
+
+    /**
+     * Groups the triples of a graph so that the triples connected through blank nodes are in the
+     * same group. Each triple without blank nodes forms a group of its own.
+     */
+    private static List<List<Triple>> groupByBlankNodes(final Graph graph) {
+        final Map<Node, Node> parents = new HashMap<>();
+        graph.find().forEachRemaining(triple -> {
+            if (triple.getSubject().isBlank() && triple.getObject().isBlank()) {
+                final Node subjectRoot = findRoot(parents, triple.getSubject());
+                final Node objectRoot = findRoot(parents, triple.getObject());
+                if (!subjectRoot.equals(objectRoot)) {
+                    parents.put(objectRoot, subjectRoot);
+                }
+            }
+        });
+
+        final List<List<Triple>> groups = new ArrayList<>();
+        final Map<Node, List<Triple>> closures = new LinkedHashMap<>();
+        graph.find().forEachRemaining(triple -> {
+            final Node blankNode = triple.getSubject().isBlank() ? triple.getSubject()
+                : triple.getObject().isBlank() ? triple.getObject() : null;
+            if (blankNode == null) {
+                groups.add(List.of(triple));
+            } else {
+                closures.computeIfAbsent(findRoot(parents, blankNode), k -> new ArrayList<>())
+                    .add(triple);
+            }
+        });
+        groups.addAll(closures.values());
+        return groups;
+    }
+
+    private static Node findRoot(final Map<Node, Node> parents, final Node node) {
+        Node root = node;
+        for (Node parent = parents.get(root); parent != null; parent = parents.get(root)) {
+            root = parent;
+        }
+        if (!root.equals(node)) {
+            // compresses the path, so that the next lookups are direct
+            parents.put(node, root);
         }
+        return root;
     }
 
-    //this is highly inefficient. I need to replace with a single query that removes all nodes.
+    /**
+     * Removes all triples of the given subjects from the named graph.
+     * <p>
+     * Subjects are removed in chunks of {@link OSLC4JUtils#getLyoStoreDeleteChunkSize()}, each
+     * chunk being a SPARQL update operation that binds the subjects through a {@code VALUES}
+     * block. All chunks are sent as one update request and executed within one write transaction.
+     */
     @Override
     public void deleteResources(final URI namedGraphUri, final URI... subjectUris) {
-        final QuerySolutionMap map = new QuerySolutionMap();
-        for (URI uris : subjectUris) {
-            map.clear();
-            map.add("graph", new ResourceImpl(String.valueOf(namedGraphUri)));
-            map.add("subject", new ResourceImpl(String.valueOf(uris)));
-            final ParameterizedSparqlString sparqlString = new ParameterizedSparqlString(
-                "WITH ?graph DELETE  { ?s ?p ?v } WHERE {?s ?p ?v . FILTER(?s = ?subject)}",
-                map);
-            final String query = sparqlString.toString();
-            final UpdateProcessor updateProcessor = queryExecutor.prepareSparqlUpdate(query);
-            updateProcessor.execute();
+        if (subjectUris.length == 0) {
+            return;
         }
+        final UpdateRequest request = new UpdateRequest();
+        addDeleteUpdates(request, graphNode(namedGraphUri), subjectUris);
+        executeUpdate(request);
     }
 
     @Override
@@ -297,9 +516,396 @@ public class SparqlStoreImpl implements Store {
 
         _prefixes = (StringUtils.isNullOrEmpty(_prefixes) ? "" : _prefixes + ",") + oslcQueryPrefixes(clazz);
         _where = (StringUtils.isNullOrEmpty(_where) ? "" : _where + " and ") + oslcQueryWhere(clazz);
-        Model model = getResources(namedGraph, _prefixes, _where, searchTerms, limit, offset, additionalDistinctVars,
-            additionalQueryFilter);
-        return getResourcesFromModel(model, clazz);
+        // the scores are kept out of the model, lest they be unmarshalled as extended properties
+        final Map<Node, Node> scores = new HashMap<>();
+        final Model model = queryResources(namedGraph, _prefixes, _where, searchTerms, limit,
+            offset, additionalDistinctVars, additionalQueryFilter, null, true, scores);
+        final List<T> resources = getResourcesFromModel(model, clazz);
+        if (!scores.isEmpty()) {
+            sortByScore(scores, resources);
+        }
+        return resources;
+    }
+
+    /**
+     * Sorts the resources by descending search score; the sort is stable.
+     */
+    private static <T extends IResource> void sortByScore(final Map<Node, Node> scores,
+            final List<T> resources) {
+        final Map<String, Double> values = new HashMap<>();
+        scores.forEach((subject, score) -> {
+            if (score.isLiteral() && score.getLiteralValue() instanceof Number number) {
+                values.put(subject.getURI(), number.doubleValue());
+            }
+        });
+        resources.sort(Comparator.comparing(
+            (T r) -> values.getOrDefault(r.getAbout().toString(), 0.0)).reversed());
+    }
+
+    /**
+     * Selects {@code limit + 1} subjects after the one encoded in the token, so that the presence
+     * of a next page is known without an additional query.
+     */
+    @Override
+    public <T extends IResource> ResourcePage<T> getResourcePage(final URI namedGraph,
+            final Class<T> clazz, final String prefixes, final String where,
+            final String searchTerms, final int limit, final String continuationToken)
+            throws StoreAccessException, ModelUnmarshallingException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive, was " + limit);
+        }
+        final String after = ResourcePage.lastSubject(continuationToken);
+
+        final String _prefixes = (StringUtils.isNullOrEmpty(prefixes) ? "" : prefixes + ",")
+            + oslcQueryPrefixes(clazz);
+        final String _where = (StringUtils.isNullOrEmpty(where) ? "" : where + " and ")
+            + oslcQueryWhere(clazz);
+        final Model model = queryResources(namedGraph, _prefixes, _where, searchTerms,
+            limit + 1, 0, null, null, after, false, null);
+
+        // same order as the STR(?s) filter
+        return ResourcePage.of(getResourcesFromModel(model, clazz), limit);
+    }
+
+    /**
+     * Runs two queries: a SELECT of the ordered page of subjects, then a CONSTRUCT of these
+     * subjects only.
+     */
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraph, final Class<T> clazz,
+            final String prefixes, final String where, final String searchTerms,
+            final OrderByClause orderBy, final Properties select, final int limit, final int offset)
+            throws StoreAccessException, ModelUnmarshallingException {
+        final String _prefixes = (StringUtils.isNullOrEmpty(prefixes) ? "" : prefixes + ",")
+            + oslcQueryPrefixes(clazz);
+        final String _where = (StringUtils.isNullOrEmpty(where) ? "" : where + " and ")
+            + oslcQueryWhere(clazz);
+        checkNamedGraph(namedGraph);
+        final List<Node> subjects = selectSubjects(namedGraph, _prefixes, _where, searchTerms,
+            orderBy, limit, offset, null);
+        final Model model = constructResources(namedGraph, subjects, select);
+
+        final Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            positions.put(subjects.get(i).getURI(), i);
+        }
+        final List<T> resources = new ArrayList<>(getResourcesFromModel(model, clazz));
+        resources.sort(Comparator.comparing(r -> positions.getOrDefault(r.getAbout().toString(),
+            Integer.MAX_VALUE)));
+        return resources;
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms, final OrderByClause orderBy, final Properties select,
+            final int limit, final int offset) {
+        checkNamedGraph(namedGraph);
+        final Map<Node, Node> scores = new HashMap<>();
+        final Model model = constructResources(namedGraph, selectSubjects(namedGraph, prefixes,
+            where, searchTerms, orderBy, limit, offset, scores), select);
+        addScores(model, scores);
+        return model;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@link org.eclipse.lyo.oslc4j.core.OSLC4JConstants#LYO_STORE_COUNT_CACHE_TTL} is set,
+     * the count of each query is reused for that long or until this store writes, so it may miss
+     * the writes of other clients in the meantime.
+     */
+    @Override
+    public long countResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms) {
+        checkNamedGraph(namedGraph);
+        final SelectBuilder resourcePatterns = new SelectBuilder();
+        addResourcePatterns(resourcePatterns, prefixes, where, searchTerms);
+        final ExprFactory factory = new ExprFactory();
+        resourcePatterns.addFilter(factory.isIRI("?s"));
+        final ElementGroup pattern = new ElementGroup();
+        pattern.addElement(resourcePatterns.build().getQueryPattern());
+
+        final Var count = Var.alloc("count");
+        final Query query = new Query();
+        query.setQuerySelectType();
+        query.addResultVar(count, query.allocAggregate(
+            AggregatorFactory.createCountExpr(true, new ExprVar(Var.alloc("s")))));
+        query.setQueryPattern(inGraph(namedGraph, pattern));
+        final String queryString = query.toString();
+
+        final long ttl = OSLC4JUtils.getLyoStoreCountCacheTtl();
+        final long now = System.currentTimeMillis();
+        if (ttl > 0) {
+            final CachedCount cached = countCache.get(queryString);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return cached.count();
+                }
+                countCache.remove(queryString, cached);
+            }
+        }
+
+        long result = 0;
+        queryExecutor.beginRead();
+        try {
+            log.trace("SPARQL Count query for oslc.where='{}':\n{}", where, queryString);
+            final ResultSet results = queryExecutor.prepareSparqlQuery(queryString).execSelect();
+            if (results.hasNext()) {
+                final QuerySolution solution = results.next();
+                if (solution.contains(count.getVarName())) {
+                    result = solution.getLiteral(count.getVarName()).getLong();
+                }
+            }
+        } finally {
+            queryExecutor.end();
+        }
+
+        if (ttl > 0) {
+            if (countCache.size() >= COUNT_CACHE_SWEEP_SIZE) {
+                countCache.values().removeIf(cached -> cached.expiresAt() <= now);
+            }
+            countCache.put(queryString, new CachedCount(result, now + ttl));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the {@link #OSLC_SCORE} of the resources to the model.
+     */
+    private static void addScores(final Model model, final Map<Node, Node> scores) {
+        scores.forEach((subject, score) -> model.add(model.wrapAsResource(subject), OSLC_SCORE,
+            model.asRDFNode(score)));
+    }
+
+    /**
+     * Makes sure the designated named graph exists, if it is specified. Otherwise, the search
+     * occurs across all named graphs.
+     */
+    private void checkNamedGraph(final URI namedGraph) {
+        if (namedGraph != null && !namedGraphExists(namedGraph)) {
+            throw new IllegalArgumentException("Named graph" + namedGraph + " was missing from the triplestore");
+        }
+    }
+
+    /**
+     * Selects the URIs of the matching resources, one row per resource, in the order of their
+     * search score, if there are search terms, then of the {@code orderBy} clause and then of the
+     * subject.
+     *
+     * @param scores if not null, receives the search score of each resource
+     */
+    private List<Node> selectSubjects(final URI namedGraph, final String prefixes,
+            final String where, final String searchTerms, final OrderByClause orderBy,
+            final int limit, final int offset, final Map<Node, Node> scores) {
+        final SelectBuilder resourcePatterns = new SelectBuilder();
+        final boolean searching = addResourcePatterns(resourcePatterns, prefixes, where,
+            searchTerms);
+        final ElementGroup pattern = new ElementGroup();
+        pattern.addElement(resourcePatterns.build().getQueryPattern());
+
+        final Var s = Var.alloc("s");
+        final Var rank = Var.alloc("rank");
+        final Query query = new Query();
+        query.setQuerySelectType();
+        query.addResultVar(s);
+        query.addGroupBy(s);
+        if (searching) {
+            // the score is the same in all rows of a subject
+            query.addResultVar(rank, query.allocAggregate(
+                AggregatorFactory.createMax(false, new ExprVar(SCORE))));
+            query.addOrderBy(rank, Query.ORDER_DESCENDING);
+        }
+        if (orderBy != null) {
+            new OrderByCompiler(query, pattern).compile(orderBy, s);
+        }
+        query.addOrderBy(s, Query.ORDER_ASCENDING);
+        if (limit > 0) {
+            query.setLimit(limit);
+        }
+        if (offset > 0) {
+            query.setOffset(offset);
+        }
+        query.setQueryPattern(inGraph(namedGraph, pattern));
+
+        final String queryString = query.toString();
+        final List<Node> subjects = new ArrayList<>();
+        queryExecutor.beginRead();
+        try {
+            log.trace("SPARQL Select query for oslc.where='{}':\n{}", where, queryString);
+            final ResultSet results = queryExecutor.prepareSparqlQuery(queryString).execSelect();
+            while (results.hasNext()) {
+                final QuerySolution solution = results.next();
+                final Node subject = solution.get("s").asNode();
+                if (subject.isURI()) {
+                    subjects.add(subject);
+                    if (searching && scores != null && solution.contains("rank")) {
+                        scores.put(subject, solution.get("rank").asNode());
+                    }
+                }
+            }
+        } finally {
+            queryExecutor.end();
+        }
+        return subjects;
+    }
+
+    /**
+     * Fetches the selected properties of the subjects, or all their triples and those of their
+     * blank nodes if {@code select} is null, with one CONSTRUCT query per chunk of
+     * {@link OSLC4JUtils#getLyoStoreReadChunkSize()} subjects. The triple limit applies to the
+     * combined result.
+     */
+    private Model constructResources(final URI namedGraph, final List<Node> subjects,
+            final Properties select) {
+        final int tripleLimit = OSLC4JUtils.getLyoStoreTripleLimit();
+        final int chunkSize = OSLC4JUtils.getLyoStoreReadChunkSize();
+        final Model model = ModelFactory.createDefaultModel();
+        for (int from = 0; from < subjects.size(); from += chunkSize) {
+            if (tripleLimit > 0 && model.size() >= tripleLimit) {
+                // the result was truncated, otherwise the limit would have failed the query
+                break;
+            }
+            model.add(constructChunk(namedGraph,
+                subjects.subList(from, Math.min(from + chunkSize, subjects.size())), select,
+                model.size()));
+        }
+        return model;
+    }
+
+    /**
+     * Fetches the resources of one chunk of subjects. Without a select clause, the blank nodes
+     * are followed up to {@link OSLC4JUtils#getLyoStoreBlankNodeDepth()}; if it is not set, the
+     * query is repeated with twice the depth as long as some blank nodes were not fetched.
+     *
+     * @param fetched number of triples already fetched by the previous chunks
+     */
+    private Model constructChunk(final URI namedGraph, final List<Node> subjects,
+            final Properties select, final long fetched) {
+        final Var s = Var.alloc("s");
+        final ElementData values = new ElementData();
+        values.add(s);
+        for (Node subject : subjects) {
+            values.add(BindingFactory.binding(s, subject));
+        }
+
+        if (select != null) {
+            final BoundedConstructBuilder query = new BoundedConstructBuilder(values);
+            new SelectClauseCompiler(query).compile(select, s);
+            return construct(query, namedGraph, fetched);
+        }
+
+        final int maxDepth = OSLC4JUtils.getLyoStoreBlankNodeDepth();
+        int depth = maxDepth < 0 ? UNBOUNDED_BLANK_NODE_START_DEPTH : maxDepth;
+        Model previous = null;
+        while (true) {
+            final BoundedConstructBuilder query = new BoundedConstructBuilder(values);
+            query.addBlankNodeClosure(s, depth);
+            final Model model = construct(query, namedGraph, fetched);
+            // a deeper query that fetches nothing more only met blank nodes without triples, and
+            // a truncated result misses blank nodes because of the triple limit
+            if (!hasUnfetchedBlankNodes(model) || (previous != null
+                    && previous.size() == model.size()) || isTruncated(model, fetched)) {
+                return model;
+            }
+            if (maxDepth >= 0) {
+                log.warn("Blank nodes nested deeper than {} levels were not fetched; set {} to"
+                    + " fetch them", depth, OSLC4JConstants.LYO_STORE_BLANK_NODE_DEPTH);
+                return model;
+            }
+            previous = model;
+            depth *= 2;
+        }
+    }
+
+    /**
+     * @return whether some blank nodes are the object of a triple, but the subject of none
+     */
+    private static boolean hasUnfetchedBlankNodes(final Model model) {
+        final Graph graph = model.getGraph();
+        final ExtendedIterator<Triple> triples = graph.find();
+        try {
+            while (triples.hasNext()) {
+                final Node object = triples.next().getObject();
+                if (object.isBlank() && !graph.contains(object, Node.ANY, Node.ANY)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            triples.close();
+        }
+    }
+
+    private static boolean isTruncated(final Model model, final long fetched) {
+        final int tripleLimit = OSLC4JUtils.getLyoStoreTripleLimit();
+        return OSLC4JUtils.isLyoStoreTripleLimitTruncate() && tripleLimit > 0
+            && fetched + model.size() >= tripleLimit;
+    }
+
+    /**
+     * Runs the query, enforcing {@link OSLC4JUtils#getLyoStoreTripleLimit()}.
+     *
+     * @param fetched number of triples already fetched by the previous queries of the same read,
+     *                which count towards the limit
+     *
+     * @throws TripleLimitExceededException if the result exceeds the limit and truncation is not
+     *                                      enabled
+     */
+    private Model construct(final BoundedConstructBuilder builder, final URI namedGraph,
+            final long fetched) {
+        final int tripleLimit = OSLC4JUtils.getLyoStoreTripleLimit();
+        final boolean truncate = OSLC4JUtils.isLyoStoreTripleLimitTruncate();
+        final int remaining = tripleLimit > 0 ? (int) Math.max(tripleLimit - fetched, 0) : 0;
+        final Node graph = namedGraph != null ? graphNode(namedGraph) : Var.alloc("g");
+        // One triple more than the limit tells whether it was exceeded
+        final Query query = builder.build(graph, truncate || tripleLimit == 0 ? remaining
+            : remaining + 1, truncate);
+
+        final String queryString = query.toString();
+        final Model model;
+        queryExecutor.beginRead();
+        try {
+            final QueryExecution queryExecution = queryExecutor.prepareSparqlQuery(queryString);
+            try {
+                log.trace("SPARQL Construct query:\n{}", queryString);
+                Instant start = Instant.now();
+                model = queryExecution.execConstruct();
+                Instant finish = Instant.now();
+                log.trace("SPARQL Query Execution Duration: {} ms", Duration.between(start, finish).toMillis());
+            } catch (RiotException e) {
+                //a request that returns an empty set seems to cause an exception when using Marklogic.
+                if ((e.getCause() == null) && (e.getMessage().equals("[line: 2, col: 2 ] Out of place: [DOT]"))) {
+                    return ModelFactory.createDefaultModel();
+                }
+                // Otherwise, there is a proper exception that we need to deal with!
+                throw e;
+            }
+        } finally {
+            queryExecutor.end();
+        }
+
+        if (tripleLimit > 0 && model.size() >= remaining) {
+            if (!truncate) {
+                if (model.size() > remaining) {
+                    throw new TripleLimitExceededException(tripleLimit);
+                }
+            } else {
+                log.warn("Query result reached the limit of {} triples and may have been truncated",
+                    tripleLimit);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * @return {@code { GRAPH <namedGraph> { pattern } }}, or {@code { GRAPH ?g { pattern } }} if
+     * the named graph is null
+     */
+    private static ElementGroup inGraph(final URI namedGraph, final Element pattern) {
+        final ElementGroup group = new ElementGroup();
+        group.addElement(new ElementNamedGraph(
+            namedGraph != null ? graphNode(namedGraph) : Var.alloc("g"), pattern));
+        return group;
     }
 
     @Override
@@ -319,52 +925,67 @@ public class SparqlStoreImpl implements Store {
     public Model getResources(final URI namedGraph, final String prefixes, final String where, final String searchTerms,
                               final int limit, final int offset, List<String> additionalDistinctVars,
                               SelectBuilder additionalQueryFilter) {
+        final Map<Node, Node> scores = new HashMap<>();
+        final Model model = queryResources(namedGraph, prefixes, where, searchTerms, limit, offset,
+            additionalDistinctVars, additionalQueryFilter, null, true, scores);
+        addScores(model, scores);
+        return model;
+    }
 
-        if (namedGraph != null) {
-            //Make sure the designated namedGraph exists, if it is specified.
-            //Otherwise, the search occurs across all named graphs.
-            if (!namedGraphExists(namedGraph)) {
-                throw new IllegalArgumentException("Named graph" + namedGraph + " was missing from the triplestore");
-            }
-        }
+    /**
+     * @param after  if not null, only subjects whose URI sorts after this one are selected
+     * @param ranked whether to select the subjects with the highest search score first, rather
+     *               than in the order of their URI
+     * @param scores if not null, receives the search score of the subjects matching search terms
+     */
+    private Model queryResources(final URI namedGraph, final String prefixes, final String where,
+            final String searchTerms, final int limit, final int offset,
+            final List<String> additionalDistinctVars, final SelectBuilder additionalQueryFilter,
+            final String after, final boolean ranked, final Map<Node, Node> scores) {
+
+        checkNamedGraph(namedGraph);
 
+        final boolean searching = !StringUtils.isNullOrEmpty(searchTerms);
         SelectBuilder sparqlWhereQuery = constructSparqlWhere (prefixes, where, searchTerms, limit, offset,
-            additionalDistinctVars, additionalQueryFilter);
-        DescribeBuilder describeBuilder = new DescribeBuilder();
-        describeBuilder.addVar("s")
+            additionalDistinctVars, additionalQueryFilter, after, ranked);
+        SelectBuilder subjectsBuilder = new SelectBuilder();
+        subjectsBuilder.setDistinct(true)
+        .addVar("s")
         .addGraph((namedGraph != null) ? new ResourceImpl(String.valueOf(namedGraph)) : "?g", sparqlWhereQuery);
+        if (searching) {
+            subjectsBuilder.addVar(SCORE);
+        }
 
         if (null != additionalDistinctVars) {
             for (String additionalDistinctVar : additionalDistinctVars) {
-                describeBuilder.addVar(additionalDistinctVar);
+                subjectsBuilder.addVar(additionalDistinctVar);
             }
         }
 
-        Query describeQuery = describeBuilder.build() ;
-        String describeQueryString = describeQuery.toString();
-        Model execDescribe;
+        // The subjects and the resources inlined through the additional variables
+        final Set<Node> subjects = new LinkedHashSet<>();
+        final Query subjectsQuery = subjectsBuilder.build();
+        final String subjectsQueryString = subjectsQuery.toString();
         queryExecutor.beginRead();
         try {
-            final QueryExecution queryExecution = queryExecutor.prepareSparqlQuery(describeQueryString);
-
-            try {
-                log.trace("SPARQL Describe query for oslc.where='{}':\n{}", where, describeQueryString);
-                Instant start = Instant.now();
-                execDescribe = queryExecution.execDescribe();
-                Instant finish = Instant.now();
-                log.trace("GetResources - SPARQL Query Execution Duration: {} ms", Duration.between(start, finish).toMillis());
-            } catch (RiotException e) {
-                //a request that returns an empty set seems to cause an exception when using Marklogic.
-                if ((e.getCause() == null) && (e.getMessage().equals("[line: 2, col: 2 ] Out of place: [DOT]"))) {
-                    return ModelFactory.createDefaultModel();
+            log.trace("SPARQL Select query for oslc.where='{}':\n{}", where, subjectsQueryString);
+            final ResultSet results = queryExecutor.prepareSparqlQuery(subjectsQueryString).execSelect();
+            while (results.hasNext()) {
+                final Binding binding = results.nextBinding();
+                for (Var var : subjectsQuery.getProjectVars()) {
+                    final Node node = binding.get(var);
+                    if (node != null && node.isURI()) {
+                        subjects.add(node);
+                    }
+                }
+                if (scores != null && searching && binding.contains(SCORE)) {
+                    scores.put(binding.get(Var.alloc("s")), binding.get(SCORE));
                 }
-                // Otherwise, there is a proper exception that we need to deal with!
-                throw e;
             }
         } finally {
             queryExecutor.end();
         }
-        return execDescribe;
+        return constructResources(namedGraph, new ArrayList<>(subjects), null);
     }
 
     @Override
@@ -382,21 +1003,81 @@ public class SparqlStoreImpl implements Store {
         return modelResources.get(0);
     }
 
+    /**
+     * Fetches the resources with one CONSTRUCT query per chunk of
+     * {@link OSLC4JUtils#getLyoStoreReadChunkSize()} URIs, binding the subjects with a
+     * {@code VALUES} block, and unmarshals the combined model at once. The triple limit applies to
+     * the combined model.
+     */
+    @Override
+    public <T extends IResource> ResourceBatch<T> getResources(final URI namedGraphUri,
+            final Collection<URI> uris, final Class<T> clazz)
+            throws StoreAccessException, ModelUnmarshallingException {
+        final List<Node> subjects = new ArrayList<>();
+        for (URI uri : new LinkedHashSet<>(uris)) {
+            subjects.add(NodeFactory.createURI(uri.toString()));
+        }
+
+        final Model model = constructResources(namedGraphUri, subjects, null);
+
+        final Map<String, T> found = new HashMap<>();
+        for (T resource : getResourcesFromModel(model, clazz)) {
+            found.put(resource.getAbout().toString(), resource);
+        }
+        final Map<URI, T> resources = new LinkedHashMap<>();
+        final Set<URI> missing = new LinkedHashSet<>();
+        for (Node subject : subjects) {
+            final URI uri = URI.create(subject.getURI());
+            final T resource = found.get(subject.getURI());
+            if (resource != null) {
+                resources.put(uri, resource);
+            } else {
+                missing.add(uri);
+            }
+        }
+        return new ResourceBatch<>(resources, missing);
+    }
+
+    /**
+     * Replaces the resources in the named graph.
+     * <p>
+     * The removal of the old statements and the insertion of the new ones are sent as one update
+     * request and executed within one write transaction, so readers never observe the resources
+     * missing.
+     */
     @Override
     public <T extends IResource> boolean updateResources(final URI namedGraphUri,
             final T... resources) throws StoreAccessException {
+        final Model model = createJenaModel(resources);
+        final URI[] subjectUris = new URI[resources.length];
+        for (int i = 0; i < resources.length; i++) {
+            subjectUris[i] = resources[i].getAbout();
+        }
+        final Node graph = graphNode(namedGraphUri);
+        final UpdateRequest request = new UpdateRequest();
         //No need to check if the resource exists. just delete it - if it is there.
-        deleteResources(namedGraphUri, resources);
-        return insertResources(namedGraphUri, resources);
+        addDeleteUpdates(request, graph, subjectUris);
+        request.add(buildInsertUpdate(graph, model));
+        executeUpdate(request);
+        return true;
     }
 
+    /**
+     * Replaces the contents of the named graph.
+     * <p>
+     * The graph is cleared and refilled by one update request executed within one write
+     * transaction.
+     */
     @Override
     public <T extends IResource> boolean putResources(final URI uri,
             final Collection<T> resources) throws StoreAccessException {
-        if (namedGraphExists(uri)) {
-            clear(uri);
-        }
-        return insertResources(uri, resources.toArray());
+        final Model model = createJenaModel(resources.toArray());
+        final Node graph = graphNode(uri);
+        final UpdateRequest request = new UpdateRequest();
+        request.add(new UpdateClear(graph, true));
+        request.add(buildInsertUpdate(graph, model));
+        executeUpdate(request);
+        return true;
     }
 
     @Override
@@ -417,6 +1098,7 @@ public class SparqlStoreImpl implements Store {
             queryExecutor.commit();
         } finally {
             queryExecutor.end();
+            countCache.clear();
         }
     }
 
@@ -429,6 +1111,7 @@ public class SparqlStoreImpl implements Store {
     @Override
     public void removeAll() {
         queryExecutor.prepareSparqlUpdate("CLEAR ALL").execute();
+        countCache.clear();
     }
 
     @Override
@@ -438,7 +1121,7 @@ public class SparqlStoreImpl implements Store {
     }
 
     private <T extends IResource> String oslcQueryPrefixes(final Class<T> clazz) {
-        return "rdf=" + "<" + org.apache.jena.vocabulary.RDF.uri + ">";
+        return "rdf=" + "<" + RDF.uri + ">";
     }
 
     private <T extends IResource> String oslcQueryWhere(final Class<T> clazz) {
@@ -483,132 +1166,131 @@ public class SparqlStoreImpl implements Store {
         return URI.create(oslcNamespace.value() + name);
     }
 
-    private QuerySolutionMap getGraphMap(final URI namedGraph) {
-        final QuerySolutionMap map = new QuerySolutionMap();
-        map.add("g", new ResourceImpl(String.valueOf(namedGraph)));
-        return map;
+    private static Model createJenaModel(final Object[] resources) throws StoreAccessException {
+        try {
+            return JenaModelHelper.createJenaModel(resources);
+        } catch (DatatypeConfigurationException | IllegalAccessException |
+                OslcCoreApplicationException | InvocationTargetException e) {
+            throw new StoreAccessException(e);
+        }
     }
 
-    private Model modelFromQueryFlat(final URI namedGraph) {
-        // TODO avoid CONSTRUCT query
-        final QuerySolutionMap map = getGraphMap(namedGraph);
-        final String queryTemplate = "DESCRIBE ?s WHERE { GRAPH ?g { ?s "
-                                     + "?p "
-                                     + "?o } }";
-        final ParameterizedSparqlString query = new ParameterizedSparqlString(queryTemplate, map);
+    private static Node graphNode(final URI namedGraph) {
+        return NodeFactory.createURI(String.valueOf(namedGraph));
+    }
 
-        queryExecutor.beginRead();
+    /**
+     * Executes all operations of the request at once, within a write transaction.
+     */
+    private void executeUpdate(final UpdateRequest request) {
+        queryExecutor.beginWrite();
         try {
-            final QueryExecution queryExecution = queryExecutor.prepareSparqlQuery(query.toString());
-            return queryExecution.execDescribe();
+            final UpdateProcessor up = queryExecutor.prepareSparqlUpdate(request);
+            up.execute();
+            queryExecutor.commit();
         } finally {
             queryExecutor.end();
+            countCache.clear();
         }
     }
 
-    private Model modelFromQueryByUri(final URI namedGraph, final URI uri) {
-        final QuerySolutionMap map = getGraphMap(namedGraph);
-        map.add("s", new ResourceImpl(String.valueOf(uri)));
-        final String queryTemplate = "DESCRIBE ?s WHERE { GRAPH ?g { ?s ?p ?o . } }";
-        final ParameterizedSparqlString query = new ParameterizedSparqlString(queryTemplate, map);
+    private static UpdateDataInsert buildInsertUpdate(final Node graph, final Model model) {
+        final QuadDataAcc quadAccumulator = new QuadDataAcc();
+        quadAccumulator.setGraph(graph);
+        final StmtIterator statementIterator = model.listStatements();
+        while (statementIterator.hasNext()) {
+            final Statement statement = statementIterator.nextStatement();
+            final Triple triple = statement.asTriple();
+            quadAccumulator.addTriple(triple);
+        }
+        return new UpdateDataInsert(quadAccumulator);
+    }
 
-        Model execDescribe;
-        queryExecutor.beginRead();
-        try {
-            String queryString = query.toString();
-            final QueryExecution queryExecution = queryExecutor.prepareSparqlQuery(queryString);
-            try {
-                log.trace("SPARQL Describe query for uri='{}': \n{}", uri, queryString);
-                Instant start = Instant.now();
-                execDescribe = queryExecution.execDescribe();
-                Instant finish = Instant.now();
-                log.trace("GetResource - SPARQL Query Execution Duration: {} ms", Duration.between(start, finish).toMillis());
-            } catch (RiotException e) {
-                //a request that returns an empty set seems to cause an exception when using Marklogic.
-                if ((e.getCause() == null) && (e.getMessage().equals("[line: 2, col: 2 ] Out of place: [DOT]"))) {
-                    return ModelFactory.createDefaultModel();
-                }
-                // Otherwise, there is a proper exception that we need to deal with!
-                throw e;
-            }
-        } finally {
-            queryExecutor.end();
+    /**
+     * Adds one delete operation per chunk of {@link OSLC4JUtils#getLyoStoreDeleteChunkSize()}
+     * subjects to the request.
+     */
+    private static void addDeleteUpdates(final UpdateRequest request, final Node graph,
+            final URI[] subjectUris) {
+        final int chunkSize = OSLC4JUtils.getLyoStoreDeleteChunkSize();
+        for (int from = 0; from < subjectUris.length; from += chunkSize) {
+            final int to = Math.min(from + chunkSize, subjectUris.length);
+            request.add(buildDeleteUpdate(graph, Arrays.asList(subjectUris).subList(from, to)));
         }
-        return execDescribe;
+    }
 
+    /**
+     * Builds {@code DELETE { GRAPH ?g { ?s ?p ?o } } WHERE { GRAPH ?g { VALUES ?s { ... } ?s ?p ?o } }}
+     * for the given subjects.
+     */
+    private static UpdateModify buildDeleteUpdate(final Node graph, final List<URI> subjectUris) {
+        final Var s = Var.alloc("s");
+        final Var p = Var.alloc("p");
+        final Var o = Var.alloc("o");
+
+        final ElementData values = new ElementData();
+        values.add(s);
+        for (URI subjectUri : subjectUris) {
+            values.add(BindingFactory.binding(s, NodeFactory.createURI(String.valueOf(subjectUri))));
+        }
+        final ElementPathBlock triples = new ElementPathBlock();
+        triples.addTriple(Triple.create(s, p, o));
+
+        final ElementGroup pattern = new ElementGroup();
+        pattern.addElement(values);
+        pattern.addElement(triples);
+
+        final UpdateModify deleteUpdate = new UpdateModify();
+        deleteUpdate.getDeleteAcc().addQuad(new Quad(graph, s, p, o));
+        deleteUpdate.setElement(new ElementNamedGraph(graph, pattern));
+        return deleteUpdate;
     }
 
-    private Model modelFromQueryFlatPaged(final URI namedGraph, final URI type, final int limit,
-            final int offset) {
-        // TODO avoid CONSTRUCT query
-        final Model m = ModelFactory.createDefaultModel();
-        final Resource typeResource = m.createResource(type.toString());
+    private QuerySolutionMap getGraphMap(final URI namedGraph) {
+        final QuerySolutionMap map = new QuerySolutionMap();
+        map.add("g", new ResourceImpl(String.valueOf(namedGraph)));
+        return map;
+    }
 
-        final QuerySolutionMap map = getGraphMap(namedGraph);
-        map.add("t", typeResource);
-        final String queryTemplate = "PREFIX rdf: <http://www"
-                                     + ".w3.org/1999/02/22-rdf-syntax-ns#>\n"
-                                     + "DESCRIBE ?s\n"
-                                     + "WHERE {\n"
-                                     + "  GRAPH ?g {\n"
-                                     + "    ?s ?p ?o\n"
-                                     + "    {\n"
-                                     + "      SELECT DISTINCT ?s\n"
-                                     + "      WHERE {\n"
-                                     + "        ?s ?p ?o .\n"
-                                     + "        ?s rdf:type ?t.\n"
-                                     + "   }\n"
-                                     + "      ORDER BY ASC(?s)\n"
-                                     + "      LIMIT ?l\n"
-                                     + "      OFFSET "
-                                     + "?f\n"
-                                     + "}\n"
-                                     + "}\n"
-                                     + "}\n";
-
-        // TODO: 15.02.17 add global triple limit just in case
-        //                + "\n" + "LIMIT " + TRIPLE_LIMIT + "\n" + "\n" + "\n";
-
-        final ParameterizedSparqlString query = new ParameterizedSparqlString(queryTemplate, map);
-        query.setLiteral("l", limit);
-        query.setLiteral("f", offset);
+    private Model modelFromQueryFlat(final URI namedGraph) {
+        final BoundedConstructBuilder query = new BoundedConstructBuilder(null);
+        query.addBranch(Collections.emptyList(), BoundedConstructBuilder.T, BoundedConstructBuilder.P);
+        return construct(query, namedGraph, 0);
+    }
 
-        queryExecutor.beginRead();
-        try {
-            final QueryExecution queryExecution = queryExecutor.prepareSparqlQuery(query.toString());
-            return queryExecution.execDescribe();
-        } finally {
-            queryExecutor.end();
-        }
+    private Model modelFromQueryByUri(final URI namedGraph, final URI uri) {
+        return constructResources(namedGraph,
+            List.of(NodeFactory.createURI(String.valueOf(uri))), null);
+    }
+
+    private Model modelFromQueryFlatPaged(final URI namedGraph, final URI type, final int limit,
+            final int offset) {
+        final List<Node> subjects = selectSubjects(namedGraph, "rdf=<" + RDF.uri + ">",
+            "rdf:type=<" + type + ">", null, null, limit, offset, null);
+        return constructResources(namedGraph, subjects, null);
     }
 
     /**
-     * This method currently only provides support for terms of type {@link Type#COMPARISON}, where the operator is
-     * 'EQUALS', and the operand is either a {@link String} or a {@link URI}.
+     * The where expression is compiled into SPARQL by {@link WhereClauseCompiler}. With search
+     * terms, the query also selects the {@code ?score} of each subject.
+     *
+     * @param ranked whether to order the subjects by descending search score first; otherwise,
+     *               the subjects are ordered as strings, for keyset pages
      */
     private SelectBuilder constructSparqlWhere(final String prefixes, final String where, final String searchTerms,
                                                final int limit, final int offset, List<String> additionalDistinctVars,
-                                               SelectBuilder additionalQueryFilter) {
+                                               SelectBuilder additionalQueryFilter, final String after,
+                                               final boolean ranked) {
 
         SelectBuilder distinctResourcesQuery = new SelectBuilder();
-
-        //Setup prefixes
-        Map<String, String> prefixesMap = new HashMap<>();
-        try {
-            if (!StringUtils.isNullOrEmpty(prefixes)) {
-                prefixesMap = QueryUtils.parsePrefixes(prefixes);
-                for (Entry<String, String> prefix : prefixesMap.entrySet()) {
-                    distinctResourcesQuery.addPrefix(prefix.getKey(), prefix.getValue());
-                }
-            }
-        } catch (ParseException e) {
-            throw new IllegalArgumentException("prefixesExpression could not be parsed", e);
-        }
-
         distinctResourcesQuery
         .addVar( "s" )
-        .setDistinct(true)
-        .addWhere( "?s", "?p", "?o");
+        .setDistinct(true);
+        final boolean searching = addResourcePatterns(distinctResourcesQuery, prefixes, where,
+            searchTerms);
+        if (searching) {
+            distinctResourcesQuery.addVar(SCORE);
+        }
 
         if (null != additionalDistinctVars) {
             for (String additionalDistinctVar : additionalDistinctVars) {
@@ -619,67 +1301,21 @@ public class SparqlStoreImpl implements Store {
             distinctResourcesQuery.addWhere(additionalQueryFilter);
         }
 
-        //Setup where
-        WhereClause whereClause = null;
-        try {
-            if (!StringUtils.isNullOrEmpty(where)) {
-                whereClause = QueryUtils.parseWhere(where, prefixesMap);
-                List<SimpleTerm> parseChildren = whereClause.children();
-                for (SimpleTerm simpleTerm : parseChildren) {
-                    Type termType = simpleTerm.type();
-                    PName property = simpleTerm.property();
-
-                    if (!termType.equals(Type.COMPARISON)) {
-                        throw new UnsupportedOperationException("only support for terms of type Comparisons");
-                    }
-                    ComparisonTerm aComparisonTerm = (ComparisonTerm) simpleTerm;
-                    if (!aComparisonTerm.operator().equals(Operator.EQUALS)) {
-                        throw new UnsupportedOperationException(
-                            "only support for terms of type Comparisons, where the operator is 'EQUALS'");
-                    }
-
-                    Value comparisonOperand = aComparisonTerm.operand();
-                    Value.Type operandType = comparisonOperand.type();
-                    String predicate;
-                    if (property.local.equals("*")) {
-                        predicate = "?p";
-                    } else {
-                        predicate = property.toString();
-                    }
-
-                    switch (operandType) {
-                        case DECIMAL:
-                            DecimalValue decimalOperand = (DecimalValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, decimalOperand.value());
-                            break;
-                        case STRING:
-                            StringValue stringOperand = (StringValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, "\"" + stringOperand.value() + "\"");
-                            break;
-                        case URI_REF:
-                            UriRefValue uriOperand = (UriRefValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, new ResourceImpl(uriOperand.value()));
-                            break;
-                        default:
-                            throw new UnsupportedOperationException("only support for terms of type Comparisons," +
-                                " where the operator is 'EQUALS', and the operand is either a String, an Integer or a URI");
-                    }
-                }
-            }
-        } catch (ParseException e) {
-            throw new IllegalArgumentException("whereExpression could not be parsed", e);
-        }
-
-        //Setup searchTerms
-        //Add a sparql filter "FILTER regex(?o, "<searchTerms>", "i")" to the distinctResourcesQuery
-        if (!StringUtils.isNullOrEmpty(searchTerms)) {
+        //Setup keyset paging
+        //Add a sparql filter "FILTER(isIRI(?s) && STR(?s) > "<after>")"; the order is mandatory then
+        if (after != null) {
             ExprFactory factory = new ExprFactory();
-            E_Regex regex = factory.regex(factory.str("?o"), searchTerms, "i");
-            distinctResourcesQuery.addFilter(regex);
+            distinctResourcesQuery.addFilter(factory.and(factory.isIRI("?s"),
+                factory.gt(factory.str("?s"), NodeValue.makeString(after))));
         }
 
-
-        if ((limit > 0 || offset > 0) && (! OSLC4JUtils.isLyoStorePagingUnsafe())) {
+        if (searching && ranked) {
+            distinctResourcesQuery.addOrderBy(SCORE, Order.DESCENDING);
+        }
+        if (!ranked) {
+            // keyset pages follow the string order of the STR(?s) filter
+            distinctResourcesQuery.addOrderBy(new ExprFactory().str("?s"), Order.ASCENDING);
+        } else if (after != null || ((limit > 0 || offset > 0) && (! OSLC4JUtils.isLyoStorePagingUnsafe()))) {
             distinctResourcesQuery.addOrderBy("?s", Order.ASCENDING);
         }
 
@@ -693,8 +1329,73 @@ public class SparqlStoreImpl implements Store {
         SelectBuilder constructSelectQuery = new SelectBuilder();
         constructSelectQuery.addVar( "s p o" )
             .addSubQuery(distinctResourcesQuery);
+        if (searching) {
+            constructSelectQuery.addVar(SCORE);
+        }
 
         return constructSelectQuery;
     }
 
+    /**
+     * Adds the {@code ?s ?p ?o} pattern of the resources and the filters of the where and search
+     * terms expressions to the query. The search terms are matched by a subquery that binds the
+     * summed up {@code ?score} of each subject, see {@link TextSearch}.
+     *
+     * @return whether there are search terms, i.e. whether {@code ?score} is bound
+     */
+    private boolean addResourcePatterns(final SelectBuilder query, final String prefixes,
+            final String where, final String searchTerms) {
+        //Setup prefixes
+        Map<String, String> prefixesMap = new HashMap<>();
+        try {
+            if (!StringUtils.isNullOrEmpty(prefixes)) {
+                prefixesMap = QueryUtils.parsePrefixes(prefixes);
+                for (Entry<String, String> prefix : prefixesMap.entrySet()) {
+                    query.addPrefix(prefix.getKey(), prefix.getValue());
+                }
+            }
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("prefixesExpression could not be parsed", e);
+        }
+
+        query.addWhere( "?s", "?p", "?o");
+
+        //Setup where
+        try {
+            if (!StringUtils.isNullOrEmpty(where)) {
+                WhereClause whereClause = QueryUtils.parseWhere(where, prefixesMap);
+                new WhereClauseCompiler(query).compile(whereClause, Var.alloc("s"));
+            }
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("whereExpression could not be parsed", e);
+        }
+
+        //Setup searchTerms
+        if (StringUtils.isNullOrEmpty(searchTerms)) {
+            return false;
+        }
+        final SelectBuilder search = new SelectBuilder()
+            .addVar("?s")
+            .addVar("sum(" + SEARCH_SCORE + ")", SCORE)
+            .addGroupBy("?s");
+        textSearch.addPatterns(search, Var.alloc("s"), SEARCH_SCORE, parseSearchTerms(searchTerms));
+        query.addSubQuery(search);
+        return true;
+    }
+
+    /**
+     * @return the terms of an {@code oslc.searchTerms} expression, e.g. {@code "a","b c"}; an
+     * expression that is not a list of quoted strings is a single term
+     */
+    static List<String> parseSearchTerms(final String searchTerms) {
+        try {
+            return QueryUtils.parseSearchTerms(searchTerms).stream()
+                .map(term -> term.replace("\\\"", "\"").replace("\\\\", "\\"))
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.toList());
+        } catch (ParseException | RuntimeException e) {
+            return List.of(searchTerms.trim());
+        }
+    }
+
 }
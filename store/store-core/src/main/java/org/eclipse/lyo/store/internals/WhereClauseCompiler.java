@@ -0,0 +1,271 @@
+package org.eclipse.lyo.store.internals;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.expr.E_Equals;
+import org.apache.jena.sparql.expr.E_GreaterThan;
+import org.apache.jena.sparql.expr.E_GreaterThanOrEqual;
+import org.apache.jena.sparql.expr.E_LessThan;
+import org.apache.jena.sparql.expr.E_LessThanOrEqual;
+import org.apache.jena.sparql.expr.E_NotExists;
+import org.apache.jena.sparql.expr.E_OneOf;
+import org.apache.jena.sparql.expr.Expr;
+import org.apache.jena.sparql.expr.ExprList;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.apache.jena.sparql.syntax.ElementFilter;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.sparql.syntax.ElementPathBlock;
+import org.eclipse.lyo.core.query.BooleanValue;
+import org.eclipse.lyo.core.query.ComparisonTerm;
+import org.eclipse.lyo.core.query.CompoundTerm;
+import org.eclipse.lyo.core.query.DecimalValue;
+import org.eclipse.lyo.core.query.InTerm;
+import org.eclipse.lyo.core.query.LangedStringValue;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.StringValue;
+import org.eclipse.lyo.core.query.TypedValue;
+import org.eclipse.lyo.core.query.UriRefValue;
+import org.eclipse.lyo.core.query.Value;
+import org.eclipse.lyo.core.query.WhereClause;
+
+/**
+ * Compiles a parsed {@code oslc.where} clause into graph patterns and FILTERs of a SPARQL query,
+ * so that the triplestore does the filtering.
+ * <p>
+ * The terms are mapped as follows, {@code ?s} being the subject of the term:
+ * <ul>
+ * <li>{@code p=v} becomes the triple pattern {@code ?s p v} for IRIs, strings, language-tagged
+ * strings and booleans. Numbers and other typed literals are compared by value instead, i.e.
+ * {@code ?s p ?v FILTER(?v = v)}, so that {@code 3} matches an {@code xsd:int} 3.</li>
+ * <li>{@code p<v}, {@code p>v}, {@code p<=v} and {@code p>=v} become {@code ?s p ?v FILTER(?v < v)}
+ * and so on.</li>
+ * <li>{@code p!=v} becomes {@code FILTER NOT EXISTS { ?s p ?v FILTER(?v = v) }}, i.e. it also
+ * matches resources without any value for {@code p}.</li>
+ * <li>{@code p in [v1,v2]} becomes {@code ?s p ?v { SELECT ?v { VALUES ?v { v1 v2 } } }}, or
+ * {@code FILTER(?v IN (v1, v2))} when a value has to be compared by value.</li>
+ * <li>{@code p{...}} becomes {@code ?s p ?v} and the nested terms are compiled with {@code ?v}
+ * as their subject.</li>
+ * <li>The wildcard property {@code *} becomes a fresh predicate variable.</li>
+ * </ul>
+ * Terms are joined with a logical AND, as {@code oslc.where} has no disjunction.
+ * <p>
+ * Instances are not thread-safe; use one per query.
+ *
+ * @since 7.0.0
+ */
+class WhereClauseCompiler {
+    private static final String VAR_PREFIX = "where";
+
+    private final SelectBuilder query;
+    private int varCount = 0;
+
+    /**
+     * @param query query to add the patterns and filters to
+     */
+    WhereClauseCompiler(final SelectBuilder query) {
+        this.query = query;
+    }
+
+    /**
+     * Adds the patterns and filters of the where clause to the query.
+     *
+     * @param whereClause parsed where clause
+     * @param subject     variable of the resources being filtered
+     *
+     * @throws IllegalArgumentException if a prefix of the clause is not declared
+     */
+    void compile(final WhereClause whereClause, final Var subject) {
+        compileTerms(whereClause.children(), subject);
+    }
+
+    private void compileTerms(final List<SimpleTerm> terms, final Var subject) {
+        for (SimpleTerm term : terms) {
+            switch (term.type()) {
+                case COMPARISON:
+                    compileComparison((ComparisonTerm) term, subject);
+                    break;
+                case IN_TERM:
+                    compileIn((InTerm) term, subject);
+                    break;
+                case NESTED:
+                    final Var nested = newVar();
+                    query.addWhere(subject, predicate(term.property()), nested);
+                    compileTerms(((CompoundTerm) term).children(), nested);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected term in where clause: " + term);
+            }
+        }
+    }
+
+    private void compileComparison(final ComparisonTerm term, final Var subject) {
+        final Node predicate = predicate(term.property());
+        final Value operand = term.operand();
+        final Node value = toNode(operand);
+
+        switch (term.operator()) {
+            case EQUALS:
+                if (isMatchedByTerm(operand)) {
+                    query.addWhere(subject, predicate, value);
+                } else {
+                    final Var object = newVar();
+                    query.addWhere(subject, predicate, object);
+                    query.addFilter(new E_Equals(new ExprVar(object), NodeValue.makeNode(value)));
+                }
+                break;
+            case NOT_EQUALS:
+                final Var excluded = newVar();
+                final ElementPathBlock triple = new ElementPathBlock();
+                triple.addTriple(Triple.create(subject, predicate, excluded));
+                final ElementGroup pattern = new ElementGroup();
+                pattern.addElement(triple);
+                pattern.addElement(new ElementFilter(
+                    new E_Equals(new ExprVar(excluded), NodeValue.makeNode(value))));
+                query.addFilter(new E_NotExists(pattern));
+                break;
+            default:
+                final Var compared = newVar();
+                query.addWhere(subject, predicate, compared);
+                query.addFilter(compare(term.operator(), new ExprVar(compared), NodeValue.makeNode(value)));
+                break;
+        }
+    }
+
+    private static Expr compare(final ComparisonTerm.Operator operator, final Expr left, final Expr right) {
+        switch (operator) {
+            case LESS_THAN:
+                return new E_LessThan(left, right);
+            case GREATER_THAN:
+                return new E_GreaterThan(left, right);
+            case LESS_EQUALS:
+                return new E_LessThanOrEqual(left, right);
+            case GREATER_EQUALS:
+                return new E_GreaterThanOrEqual(left, right);
+            default:
+                throw new IllegalArgumentException("Unexpected operator: " + operator);
+        }
+    }
+
+    private void compileIn(final InTerm term, final Var subject) {
+        final Var object = newVar();
+        query.addWhere(subject, predicate(term.property()), object);
+
+        boolean matchedByTerm = true;
+        final List<Node> values = new ArrayList<>();
+        for (Value value : term.values()) {
+            matchedByTerm &= isMatchedByTerm(value);
+            values.add(toNode(value));
+        }
+
+        if (matchedByTerm) {
+            // A VALUES block of its own: the builder's shared VALUES table would pair up the rows
+            // of the variables of different terms instead of matching each against its list.
+            query.addSubQuery(new SelectBuilder()
+                .addVar(object)
+                .addWhereValueVar(object, values.toArray()));
+        } else {
+            final ExprList list = new ExprList();
+            for (Node value : values) {
+                list.add(NodeValue.makeNode(value));
+            }
+            query.addFilter(new E_OneOf(new ExprVar(object), list));
+        }
+    }
+
+    private Node predicate(final PName property) {
+        if ("*".equals(property.local)) {
+            return newVar();
+        }
+        return NodeFactory.createURI(resolve(property));
+    }
+
+    /**
+     * Whether a value equals the stored one only if it is the same RDF term, which lets the store
+     * match it with a triple pattern.
+     */
+    private static boolean isMatchedByTerm(final Value value) {
+        switch (value.type()) {
+            case URI_REF:
+            case STRING:
+            case LANGED_STRING:
+            case BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Node toNode(final Value value) {
+        switch (value.type()) {
+            case URI_REF:
+                return NodeFactory.createURI(((UriRefValue) value).value());
+            case BOOLEAN:
+                return NodeFactory.createLiteralDT(String.valueOf(((BooleanValue) value).value()),
+                    XSDDatatype.XSDboolean);
+            case DECIMAL:
+                final String number = ((DecimalValue) value).value();
+                return NodeFactory.createLiteralDT(number,
+                    number.contains(".") ? XSDDatatype.XSDdecimal : XSDDatatype.XSDinteger);
+            case STRING:
+                return NodeFactory.createLiteralString(unescape(((StringValue) value).value()));
+            case LANGED_STRING:
+                final LangedStringValue langedString = (LangedStringValue) value;
+                return NodeFactory.createLiteralLang(unescape(langedString.value()),
+                    langedString.langTag());
+            case TYPED_STRING:
+                final TypedValue typedValue = (TypedValue) value;
+                return NodeFactory.createLiteralDT(unescape(typedValue.value()),
+                    TypeMapper.getInstance().getSafeTypeByName(resolve(typedValue.prefixedName())));
+            default:
+                throw new IllegalArgumentException("Unexpected value in where clause: " + value);
+        }
+    }
+
+    /**
+     * @return the full URI of a prefixed name
+     *
+     * @throws IllegalArgumentException if the prefix is not declared
+     */
+    static String resolve(final PName name) {
+        if (name.namespace == null) {
+            throw new IllegalArgumentException("Prefix '" + name.prefix + "' of '" + name
+                + "' is not declared in the prefixes expression");
+        }
+        return name.namespace + name.local;
+    }
+
+    /**
+     * The query parser strips the quotes of string values but keeps their escapes.
+     */
+    private static String unescape(final String value) {
+        return value.replace("\\\"", "\"").replace("\\\\", "\\");
+    }
+
+    private Var newVar() {
+        return Var.alloc(VAR_PREFIX + varCount++);
+    }
+}
@@ -0,0 +1,40 @@
+package org.eclipse.lyo.store.internals.query;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.util.Iterator;
+import java.util.function.LongConsumer;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+
+/**
+ * Implemented by a {@link JenaQueryExecutor} that can load triples through the native API of
+ * its dataset instead of SPARQL updates.
+ *
+ * @since 7.0.0
+ */
+public interface DatasetLoader {
+
+    /**
+     * Adds the triples to a named graph within a single write transaction.
+     *
+     * @param graph     named graph to load into
+     * @param triples   triples to load, consumed once
+     * @param chunkSize number of triples between two progress reports
+     * @param progress  receives the number of triples loaded so far
+     */
+    void load(Node graph, Iterator<Triple> triples, int chunkSize, LongConsumer progress);
+}
@@ -14,12 +14,28 @@ package org.eclipse.lyo.store.internals.query;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryExecutionFactory;
 import org.apache.jena.query.ReadWrite;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.core.DatasetGraph;
 import org.apache.jena.tdb.TDB;
 import org.apache.jena.tdb.TDBFactory;
+import org.apache.jena.tdb2.DatabaseMgr;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.tdb2.loader.DataLoader;
+import org.apache.jena.tdb2.loader.LoaderFactory;
+import org.apache.jena.tdb2.loader.base.LoaderOps;
 import org.apache.jena.update.Update;
 import org.apache.jena.update.UpdateExecutionFactory;
 import org.apache.jena.update.UpdateFactory;
@@ -38,10 +54,11 @@ import org.slf4j.LoggerFactory;
  * @version $version-stub$
  * @since 0.14.0
  */
-public class DatasetQueryExecutorImpl implements JenaQueryExecutor {
+public class DatasetQueryExecutorImpl implements JenaQueryExecutor, DatasetLoader {
     private static final Logger log = LoggerFactory.getLogger(DatasetQueryExecutorImpl.class);
     private final Dataset dataset;
     private volatile boolean released = false;
+    private ScheduledExecutorService compaction;
 
     /**
      * Use {@link StoreFactory} instead.
@@ -81,9 +98,131 @@ public class DatasetQueryExecutorImpl implements JenaQueryExecutor {
         return prepareSparqlUpdate(UpdateFactory.create(query));
     }
 
+    /**
+     * Adds the triples straight to the {@link DatasetGraph}, which avoids serializing and parsing
+     * {@code INSERT DATA} updates. A TDB2 dataset is loaded with the TDB2 bulk loader, which
+     * manages its own write transaction.
+     */
+    @Override
+    public void load(final Node graph, final Iterator<Triple> triples, final int chunkSize,
+            final LongConsumer progress) {
+        if(released) {
+            throw new IllegalStateException("Cannot execute queries after releasing the connection");
+        }
+        if (TDB2Factory.isTDB2(dataset)) {
+            bulkLoad(graph, triples, chunkSize, progress);
+            return;
+        }
+        final DatasetGraph datasetGraph = dataset.asDatasetGraph();
+        beginWrite();
+        try {
+            long loaded = 0;
+            while (triples.hasNext()) {
+                final Triple triple = triples.next();
+                datasetGraph.add(graph, triple.getSubject(), triple.getPredicate(), triple.getObject());
+                if (++loaded % chunkSize == 0) {
+                    progress.accept(loaded);
+                }
+            }
+            commit();
+            if (loaded % chunkSize != 0) {
+                progress.accept(loaded);
+            }
+        } finally {
+            end();
+        }
+    }
+
+    private void bulkLoad(final Node graph, final Iterator<Triple> triples, final int chunkSize,
+            final LongConsumer progress) {
+        final DataLoader loader = LoaderFactory.createLoader(dataset.asDatasetGraph(), graph,
+            LoaderOps.nullOutput());
+        loader.startBulk();
+        try {
+            final StreamRDF stream = loader.stream();
+            long loaded = 0;
+            while (triples.hasNext()) {
+                stream.triple(triples.next());
+                if (++loaded % chunkSize == 0) {
+                    progress.accept(loaded);
+                }
+            }
+            loader.finishBulk();
+            if (loaded % chunkSize != 0) {
+                progress.accept(loaded);
+            }
+        } catch (RuntimeException e) {
+            loader.finishException(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Compacts a persistent TDB2 dataset into a new generation and deletes the old one, which
+     * reclaims the space left by deleted and updated triples. Waits for the running transactions
+     * to finish.
+     *
+     * @throws IllegalStateException if the dataset is not a TDB2 dataset
+     * @since 7.0.0
+     */
+    public void compact() {
+        if (!TDB2Factory.isTDB2(dataset)) {
+            throw new IllegalStateException("Only TDB2 datasets can be compacted");
+        }
+        final long start = System.nanoTime();
+        DatabaseMgr.compact(dataset.asDatasetGraph(), true);
+        log.info("Compacted the TDB2 dataset in {} ms",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Runs {@link #compact()} in the background every {@code interval}, until the executor is
+     * released. Failed compactions are logged.
+     *
+     * @throws IllegalStateException if the dataset is not a TDB2 dataset or compaction is already
+     *                               scheduled
+     * @since 7.0.0
+     */
+    public synchronized void scheduleCompaction(final Duration interval) {
+        if (!TDB2Factory.isTDB2(dataset)) {
+            throw new IllegalStateException("Only TDB2 datasets can be compacted");
+        }
+        if (compaction != null) {
+            throw new IllegalStateException("Compaction is already scheduled");
+        }
+        compaction = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "lyo-store-tdb2-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compaction.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (RuntimeException e) {
+                log.error("Failed to compact the TDB2 dataset", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits for a running compaction to finish before closing the dataset.
+     */
     @Override
     public void release() {
-        TDB.sync(dataset);
+        synchronized (this) {
+            if (compaction != null) {
+                compaction.shutdown();
+                try {
+                    compaction.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                compaction = null;
+            }
+        }
+        if (TDBFactory.isTDB1(dataset)) {
+            TDB.sync(dataset);
+        }
         released = true;
         dataset.close();
     }
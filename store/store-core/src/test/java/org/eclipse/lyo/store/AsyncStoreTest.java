@@ -0,0 +1,131 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.junit.jupiter.api.Test;
+
+public class AsyncStoreTest {
+
+    @Test
+    public void testFanOutAcrossGraphs() throws Exception {
+        final List<URI> graphs = List.of(URI.create("urn:test:a"), URI.create("urn:test:b"),
+                URI.create("urn:test:c"));
+        final URI about = URI.create("urn:test:provider");
+        try (AsyncStore store = new AsyncStore(StoreFactory.sparqlInMem())) {
+            for (URI graph : graphs) {
+                final ServiceProvider provider = new ServiceProvider();
+                provider.setAbout(about);
+                provider.setTitle("Provider in " + graph);
+                store.appendResources(graph, List.of(provider)).join();
+            }
+
+            final Map<URI, ServiceProvider> providers = store.fanOut(graphs,
+                    (s, graph) -> s.getResource(graph, about, ServiceProvider.class)).join();
+
+            assertThat(providers).containsOnlyKeys(graphs);
+            assertThat(providers.get(graphs.get(1)).getTitle()).isEqualTo("Provider in urn:test:b");
+        }
+    }
+
+    @Test
+    public void testFailureCompletesExceptionally() {
+        try (AsyncStore store = new AsyncStore(StoreFactory.sparqlInMem())) {
+            final CompletableFuture<ServiceProvider> future = store.getResource(
+                    URI.create("urn:test:missing"), URI.create("urn:test:provider"),
+                    ServiceProvider.class);
+
+            assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    public void testFailureCancelsQueuedCalls() throws Exception {
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger ran = new AtomicInteger();
+        try (AsyncStore store = new AsyncStore(StoreFactory.sparqlInMem(), 1)) {
+            final CompletableFuture<Map<Integer, Integer>> result = store.fanOut(
+                    List.of(1, 2, 3, 4, 5), (s, i) -> {
+                        if (started.getAndIncrement() == 0) {
+                            // let the other calls queue up on the permit
+                            Thread.sleep(50);
+                            throw new IllegalStateException("first call fails");
+                        }
+                        ran.incrementAndGet();
+                        return i;
+                    });
+
+            assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            // give the cancelled calls time to pass the permit
+            Thread.sleep(100);
+            assertThat(ran.get()).isZero();
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        try (AsyncStore store = new AsyncStore(StoreFactory.sparqlInMem(), 2)) {
+            final Map<Integer, Integer> results = store.fanOut(List.of(1, 2, 3, 4, 5, 6),
+                    (s, i) -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(20);
+                        running.decrementAndGet();
+                        return i * i;
+                    }).join();
+
+            assertThat(results.values()).containsExactly(1, 4, 9, 16, 25, 36);
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerEndpoint() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AsyncStore.StoreCall<Integer> call = s -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return 0;
+        };
+        try (AsyncStore first = new AsyncStore(StoreFactory.sparqlInMem(), "urn:test:endpoint", 2);
+             AsyncStore second = new AsyncStore(StoreFactory.sparqlInMem(), "urn:test:endpoint",
+                     2)) {
+            final List<CompletableFuture<Integer>> futures = List.of(first.submit(call),
+                    second.submit(call), first.submit(call), second.submit(call),
+                    first.submit(call), second.submit(call));
+            AsyncStore.allOf(futures).join();
+
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+            assertThatThrownBy(() -> new AsyncStore(StoreFactory.sparqlInMem(),
+                    "urn:test:endpoint", 3)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
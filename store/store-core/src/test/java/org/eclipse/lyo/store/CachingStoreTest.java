@@ -0,0 +1,171 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.lyo.store.resources.Requirement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the store tests through a {@link CachingStore} and checks its caching behaviour.
+ */
+public class CachingStoreTest extends StoreTestBase<CachingStore> {
+    private static final URI GRAPH = URI.create("urn:test:cache");
+
+    private CachingStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new CachingStore(StoreFactory.sparqlInMem(), 100, 10_000, null);
+    }
+
+    @Override
+    protected Store buildStore() {
+        return store;
+    }
+
+    @Test
+    public void testRepeatedReadIsHit() throws Exception {
+        final Requirement requirement = requirement("r1", "first");
+        store.appendResource(GRAPH, requirement);
+
+        store.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+        final Requirement cached = store.getResource(GRAPH, requirement.getAbout(),
+            Requirement.class);
+
+        assertThat(cached.getIdentifier()).isEqualTo("first");
+        assertThat(store.getMissCount()).isEqualTo(1);
+        assertThat(store.getHitCount()).isEqualTo(1);
+        assertThat(store.resourceExists(GRAPH, requirement.getAbout())).isTrue();
+        assertThat(store.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testMissingResourceIsCached() {
+        final URI missing = URI.create("urn:test:missing");
+
+        assertThrows(NoSuchElementException.class,
+            () -> store.getJenaModelForSubject(GRAPH, missing));
+        assertThrows(NoSuchElementException.class,
+            () -> store.getJenaModelForSubject(GRAPH, missing));
+
+        assertThat(store.getMissCount()).isEqualTo(1);
+        assertThat(store.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testUpdateInvalidates() throws Exception {
+        final Requirement requirement = requirement("r1", "before");
+        store.appendResource(GRAPH, requirement);
+        store.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+
+        requirement.setIdentifier("after");
+        store.updateResources(GRAPH, requirement);
+
+        assertThat(store.getResource(GRAPH, requirement.getAbout(), Requirement.class)
+            .getIdentifier()).isEqualTo("after");
+        assertThat(store.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInsertInvalidatesMissingResource() throws Exception {
+        final Requirement requirement = requirement("r1", "late");
+        assertThat(store.resourceExists(GRAPH, requirement.getAbout())).isFalse();
+
+        store.appendResource(GRAPH, requirement);
+
+        assertThat(store.resourceExists(GRAPH, requirement.getAbout())).isTrue();
+    }
+
+    @Test
+    public void testInvalidationIsScopedToGraph() throws Exception {
+        final URI other = URI.create("urn:test:cache-other");
+        final Requirement requirement = requirement("r1", "kept");
+        store.appendResource(GRAPH, requirement);
+        store.appendResource(other, requirement);
+        store.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+        store.getResource(other, requirement.getAbout(), Requirement.class);
+
+        store.clear(other);
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.resourceExists(GRAPH, requirement.getAbout())).isTrue();
+        assertThat(store.resourceExists(other, requirement.getAbout())).isFalse();
+    }
+
+    @Test
+    public void testResourceWriteInvalidatesOnlyItsGraph() throws Exception {
+        final URI other = URI.create("urn:test:cache-other");
+        final Requirement requirement = requirement("r1", "kept");
+        store.appendResource(GRAPH, requirement);
+        store.appendResource(other, requirement);
+        store.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+        store.getResource(other, requirement.getAbout(), Requirement.class);
+
+        store.appendResource(other, requirement("r2", "new"));
+
+        assertThat(store.size()).isEqualTo(1);
+        store.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+        assertThat(store.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        final CachingStore small = new CachingStore(StoreFactory.sparqlInMem(), 2, 10_000, null);
+        final List<Requirement> requirements = List.of(requirement("r1", "a"),
+            requirement("r2", "b"), requirement("r3", "c"));
+        small.appendResources(GRAPH, requirements);
+
+        small.getResource(GRAPH, requirements.get(0).getAbout(), Requirement.class);
+        small.getResource(GRAPH, requirements.get(1).getAbout(), Requirement.class);
+        small.getResource(GRAPH, requirements.get(0).getAbout(), Requirement.class);
+        small.getResource(GRAPH, requirements.get(2).getAbout(), Requirement.class);
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.getEvictionCount()).isEqualTo(1);
+        small.getResource(GRAPH, requirements.get(0).getAbout(), Requirement.class);
+        assertThat(small.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEntriesExpire() throws Exception {
+        final CachingStore expiring = new CachingStore(StoreFactory.sparqlInMem(), 100, 10_000,
+            Duration.ZERO);
+        final Requirement requirement = requirement("r1", "a");
+        expiring.appendResource(GRAPH, requirement);
+
+        expiring.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+        expiring.getResource(GRAPH, requirement.getAbout(), Requirement.class);
+
+        assertThat(expiring.getHitCount()).isZero();
+        assertThat(expiring.getMissCount()).isEqualTo(2);
+    }
+
+    private static Requirement requirement(final String id, final String identifier)
+            throws URISyntaxException {
+        final Requirement requirement = new Requirement(URI.create("urn:test:req:" + id));
+        requirement.setIdentifier(identifier);
+        return requirement;
+    }
+}
@@ -21,8 +21,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.jena.query.Dataset;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.ResultSetFormatter;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.system.Txn;
+import org.apache.jena.vocabulary.RDFS;
 import org.eclipse.lyo.store.internals.DatasetBuilder;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -42,6 +49,30 @@ public class DatasetBuilderTest {
     }
 
 
+    @Test
+    public void testUnionDefaultGraphIsPerDataset() throws IOException {
+        final Dataset union = DatasetBuilder.buildPersistentTdb2(
+                Files.createTempDirectory(DatasetBuilderTest.PATH_PREFIX), true);
+        final Dataset plain = DatasetBuilder.buildPersistentTdb2(
+                Files.createTempDirectory(DatasetBuilderTest.PATH_PREFIX), false);
+        for (Dataset tdb2 : List.of(union, plain)) {
+            Txn.executeWrite(tdb2, () -> tdb2.getNamedModel("urn:test:g").add(
+                    ResourceFactory.createResource("urn:test:s"), RDFS.label, "label"));
+        }
+
+        assertThat(countDefaultGraph(union)).isEqualTo(1);
+        assertThat(countDefaultGraph(plain)).isZero();
+    }
+
+    private static long countDefaultGraph(final Dataset dataset) {
+        return Txn.calculateRead(dataset, () -> {
+            try (QueryExecution execution = QueryExecutionFactory.create(
+                    "SELECT * { ?s ?p ?o }", dataset)) {
+                return (long) ResultSetFormatter.consume(execution.execSelect());
+            }
+        });
+    }
+
     @Ignore("Because of Gitlab CI container permissions")
     @Test(expected = IOException.class)
     public void testWrongPathCausesExceptionNoPermissions() throws IOException {
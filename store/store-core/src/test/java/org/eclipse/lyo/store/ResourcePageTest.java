@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.List;
+
+import org.eclipse.lyo.oslc4j.core.model.ServiceProviderCatalog;
+import org.junit.jupiter.api.Test;
+
+public class ResourcePageTest {
+
+    @Test
+    public void testNextPage() {
+        final ResourcePage<ServiceProviderCatalog> page = new ResourcePage<>(List.of(), "bHlvOmE");
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextPage("http://example.com/query"))
+                .isEqualTo("http://example.com/query?pageToken=bHlvOmE");
+        assertThat(page.nextPage("http://example.com/query?oslc.where=x"))
+                .isEqualTo("http://example.com/query?oslc.where=x&pageToken=bHlvOmE");
+    }
+
+    @Test
+    public void testPageOfResources() {
+        final List<ServiceProviderCatalog> resources = List.of(catalog("lyo:😀"), catalog("lyo:b"),
+                catalog("lyo:｡"), catalog("lyo:a"));
+
+        final ResourcePage<ServiceProviderCatalog> page = ResourcePage.of(resources, 3);
+
+        // U+1F600 sorts after U+FF61 by code point, but before it by UTF-16 code unit
+        assertThat(page.getResources()).extracting(r -> r.getAbout().toString())
+                .containsExactly("lyo:a", "lyo:b", "lyo:｡");
+        assertThat(ResourcePage.lastSubject(page.getContinuationToken())).isEqualTo("lyo:｡");
+        assertThat(ResourcePage.of(resources, 4).hasNext()).isFalse();
+    }
+
+    @Test
+    public void testMalformedToken() {
+        assertThatThrownBy(() -> ResourcePage.lastSubject("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ResourcePage.lastSubject(null)).isNull();
+    }
+
+    @Test
+    public void testLastPage() {
+        final ResourcePage<ServiceProviderCatalog> page = new ResourcePage<>(List.of(), null);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextPage("http://example.com/query")).isNull();
+    }
+
+    private static ServiceProviderCatalog catalog(final String uri) {
+        final ServiceProviderCatalog catalog = new ServiceProviderCatalog();
+        catalog.setAbout(URI.create(uri));
+        return catalog;
+    }
+}
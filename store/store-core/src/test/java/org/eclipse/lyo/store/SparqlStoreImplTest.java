@@ -11,14 +11,28 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.update.Update;
+import org.apache.jena.update.UpdateProcessor;
+import org.apache.jena.update.UpdateRequest;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
 import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
 import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
 import org.eclipse.lyo.store.internals.SparqlStoreImpl;
+import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
+import org.eclipse.lyo.store.internals.query.JenaQueryExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +107,159 @@ public class SparqlStoreImplTest extends StoreTestBase<SparqlStoreImpl> {
         System.out.printf("10 named graphs persisted (raw Model) in %s ms", Duration.between(start, Instant.now()).toMillis());
     }
 
+    @Test
+    public void testBulkLoadNative() throws Exception {
+        final Model jenaModel = JenaModelHelper.createJenaModel(genProviders().toArray());
+        final URI testNg = URI.create("urn:test:bulk");
+        final List<Long> reports = new ArrayList<>();
+
+        OSLC4JUtils.setLyoStoreInsertChunkSize(100);
+        try {
+            manager.bulkLoad(testNg, jenaModel, (loaded, elapsed) -> reports.add(loaded));
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_INSERT_CHUNK_SIZE);
+        }
+
+        assertThat(reports).isNotEmpty().isSorted();
+        assertThat(reports.get(reports.size() - 1)).isEqualTo(jenaModel.size());
+        assertThat(manager.getResources(testNg, ServiceProvider.class)).hasSize(200);
+    }
+
+    @Test
+    public void testBulkLoadInConcurrentChunks() throws Exception {
+        final Store store = insertDataStore(DatasetFactory.createTxnMem());
+        final Model jenaModel = JenaModelHelper.createJenaModel(genProviders().toArray());
+        final URI testNg = URI.create("urn:test:bulk");
+        final AtomicLong lastReport = new AtomicLong();
+
+        OSLC4JUtils.setLyoStoreInsertChunkSize(50);
+        OSLC4JUtils.setLyoStoreInsertConcurrency(4);
+        try {
+            store.bulkLoad(testNg, jenaModel,
+                (loaded, elapsed) -> lastReport.accumulateAndGet(loaded, Math::max));
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_INSERT_CHUNK_SIZE);
+            System.clearProperty(OSLC4JConstants.LYO_STORE_INSERT_CONCURRENCY);
+        }
+
+        assertThat(lastReport.get()).isEqualTo(jenaModel.size());
+        assertThat(store.getResources(testNg, ServiceProvider.class)).hasSize(200);
+    }
+
+    @Test
+    public void testCountCacheMissesOtherWritesUntilOwnWrite() throws StoreAccessException {
+        final Dataset dataset = DatasetFactory.createTxnMem();
+        final Store store = new SparqlStoreImpl(new DatasetQueryExecutorImpl(dataset));
+        final Store other = new SparqlStoreImpl(new DatasetQueryExecutorImpl(dataset));
+        final URI testNg = URI.create("urn:test:count");
+        store.appendResource(testNg, provider("urn:test:p1"));
+
+        OSLC4JUtils.setLyoStoreCountCacheTtl(60_000);
+        try {
+            assertThat(store.countResources(testNg, null, null, null)).isEqualTo(1);
+            other.appendResource(testNg, provider("urn:test:p2"));
+            assertThat(store.countResources(testNg, null, null, null)).isEqualTo(1);
+            store.appendResource(testNg, provider("urn:test:p3"));
+            assertThat(store.countResources(testNg, null, null, null)).isEqualTo(3);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_COUNT_CACHE_TTL);
+        }
+    }
+
+    private static ServiceProvider provider(final String uri) {
+        final ServiceProvider sp = new ServiceProvider();
+        sp.setAbout(URI.create(uri));
+        sp.setIdentifier(uri);
+        return sp;
+    }
+
+    /**
+     * Hides the DatasetLoader capability, so that INSERT DATA chunks are used.
+     */
+    private static Store insertDataStore(final Dataset dataset) {
+        final DatasetQueryExecutorImpl datasetExecutor = new DatasetQueryExecutorImpl(dataset);
+        return new SparqlStoreImpl(new JenaQueryExecutor() {
+            @Override
+            public QueryExecution prepareSparqlQuery(final String query) {
+                return datasetExecutor.prepareSparqlQuery(query);
+            }
+
+            @Override
+            public UpdateProcessor prepareSparqlUpdate(final UpdateRequest updateRequest) {
+                // serialized, as for a remote endpoint
+                return datasetExecutor.prepareSparqlUpdate(updateRequest.toString());
+            }
+
+            @Override
+            public UpdateProcessor prepareSparqlUpdate(final Update update) {
+                return datasetExecutor.prepareSparqlUpdate(update);
+            }
+
+            @Override
+            public UpdateProcessor prepareSparqlUpdate(final String query) {
+                return datasetExecutor.prepareSparqlUpdate(query);
+            }
+
+            @Override
+            public void release() {
+                datasetExecutor.release();
+            }
+
+            @Override
+            public void beginWrite() {
+                datasetExecutor.beginWrite();
+            }
+
+            @Override
+            public void beginRead() {
+                datasetExecutor.beginRead();
+            }
+
+            @Override
+            public void commit() {
+                datasetExecutor.commit();
+            }
+
+            @Override
+            public void end() {
+                datasetExecutor.end();
+            }
+        });
+    }
+
+    @Test
+    public void testBulkLoadKeepsBlankNodesInOneChunk() throws Exception {
+        final Dataset dataset = DatasetFactory.createTxnMem();
+        final Store store = insertDataStore(dataset);
+        final Model model = ModelFactory.createDefaultModel();
+        final String ns = "http://example.com/ns#";
+        for (int i = 0; i < 20; i++) {
+            final Resource chained = model.createResource()
+                .addProperty(model.createProperty(ns, "value"), "c" + i);
+            model.createResource(ns + "r" + i)
+                .addProperty(model.createProperty(ns, "name"), "r" + i)
+                .addProperty(model.createProperty(ns, "address"), model.createResource()
+                    .addProperty(model.createProperty(ns, "street"), "s" + i)
+                    .addProperty(model.createProperty(ns, "city"), "c" + i)
+                    .addProperty(model.createProperty(ns, "next"), chained));
+        }
+        final URI testNg = URI.create("urn:test:bulk");
+
+        OSLC4JUtils.setLyoStoreInsertChunkSize(3);
+        try {
+            store.bulkLoad(testNg, model, null);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_INSERT_CHUNK_SIZE);
+        }
+
+        dataset.begin(ReadWrite.READ);
+        try {
+            assertThat(dataset.getNamedModel(testNg.toString()).isIsomorphicWith(model)).isTrue();
+        } finally {
+            dataset.end();
+        }
+    }
+
     private List<ServiceProvider> genProviders() {
         final List<ServiceProvider> providers = new ArrayList<>();
         for (int i = 0; i < 200; i++) {
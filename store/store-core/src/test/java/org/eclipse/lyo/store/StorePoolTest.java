@@ -1,8 +1,10 @@
 package org.eclipse.lyo.store;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -61,6 +63,86 @@ public class StorePoolTest {
         assertThat(resources).hasSize(1000);
     }
 
+    @Test
+    void Lease_Closed_StoreIsReused() throws StoreAccessException {
+        try (StorePool pool = new StorePool(1, StorePool.DEFAULT_GRAPH_JENA)) {
+            Store leased;
+            try (StorePool.Lease lease = pool.acquire()) {
+                leased = lease.getStore();
+                assertThat(pool.getActiveCount()).isEqualTo(1);
+                assertThat(pool.getIdleCount()).isZero();
+            }
+            assertThat(pool.getActiveCount()).isZero();
+            try (StorePool.Lease lease = pool.acquire()) {
+                assertThat(lease.getStore()).isSameAs(leased);
+            }
+            assertThat(pool.getAcquireCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void Exhausted_Acquire_TimesOut() throws StoreAccessException {
+        try (StorePool pool = new StorePool(1, StorePool.DEFAULT_GRAPH_JENA);
+             StorePool.Lease lease = pool.acquire()) {
+            assertThatThrownBy(() -> pool.acquire(Duration.ofMillis(50)))
+                    .isInstanceOf(StoreAccessException.class);
+            assertThat(pool.getTimeoutCount()).isEqualTo(1);
+            assertThat(lease.getStore()).isNotNull();
+        }
+    }
+
+    @Test
+    void Demand_Pool_GrowsAndShrinks() throws StoreAccessException {
+        // without background maintenance, which would discard the stores between the steps
+        try (StorePool pool = new StorePool(1, 3, StorePool.DEFAULT_GRAPH_JENA, Duration.ZERO)) {
+            pool.setIdleTimeout(Duration.ZERO);
+            assertThat(pool.getTotalCount()).isEqualTo(1);
+
+            List<StorePool.Lease> leases = List.of(pool.acquire(), pool.acquire(), pool.acquire());
+            assertThat(pool.getTotalCount()).isEqualTo(3);
+            assertThat(pool.getActiveCount()).isEqualTo(3);
+            leases.forEach(StorePool.Lease::close);
+            assertThat(pool.getIdleCount()).isEqualTo(3);
+
+            pool.runMaintenance();
+            assertThat(pool.getTotalCount()).isEqualTo(1);
+            assertThat(pool.getIdleCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void Exhausted_GetStore_WaitsBeyondAcquireTimeout() throws Exception {
+        try (StorePool pool = new StorePool(1, StorePool.DEFAULT_GRAPH_JENA)) {
+            pool.setAcquireTimeout(Duration.ofMillis(50));
+            Store held = pool.getStore();
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                pool.releaseStore(held);
+            });
+            releaser.start();
+
+            assertThat(pool.getStore()).isSameAs(held);
+            releaser.join();
+            assertThat(pool.getTimeoutCount()).isZero();
+        }
+    }
+
+    @Test
+    void HeldTooLong_Lease_IsReportedOnce() throws StoreAccessException {
+        try (StorePool pool = new StorePool(1, 1, StorePool.DEFAULT_GRAPH_JENA, Duration.ZERO);
+             StorePool.Lease lease = pool.acquire()) {
+            pool.setLeakDetectionThreshold(Duration.ofNanos(1));
+            pool.runMaintenance();
+            pool.runMaintenance();
+            assertThat(pool.getLeakCount()).isEqualTo(1);
+        }
+    }
+
     private void insertResources(int i, Store store) throws StoreAccessException {
         for (; i > 0; i--) {
             ServiceProvider resource = new ServiceProvider();
@@ -10,13 +10,25 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import javax.xml.namespace.QName;
 
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
 import org.assertj.core.api.Assertions;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.SelectClause;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.model.IResource;
 import org.eclipse.lyo.oslc4j.core.model.ServiceProviderCatalog;
+import org.eclipse.lyo.store.internals.SparqlStoreImpl;
 import org.eclipse.lyo.store.resources.BlankResource;
 import org.eclipse.lyo.store.resources.Nsp1DomainConstants;
 import org.eclipse.lyo.store.resources.Requirement;
@@ -45,6 +57,7 @@ import org.junit.jupiter.api.Test;
 public abstract class StoreTestBase<T extends Store> {
 
     public static final Random RANDOM = new Random(System.currentTimeMillis());
+    private static final URI NESTED_SUBJECT = URI.create("urn:lyo:nested");
 
     @Test
     public void testStoreHasNoMissingKey() {
@@ -168,6 +181,63 @@ public abstract class StoreTestBase<T extends Store> {
         Assertions.assertThat(catalogs2).hasSize(50);
     }
 
+    @Test
+    public void testKeysetPagingWorks()
+            throws StoreAccessException, ModelUnmarshallingException {
+        final Store manager = buildStore();
+        final URI testKeyAdd = buildKey();
+        final List<IResource> resources = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            resources.add(buildResource());
+        }
+        manager.appendResources(testKeyAdd, resources);
+
+        final List<URI> seen = new ArrayList<>();
+        final List<Integer> pageSizes = new ArrayList<>();
+        String token = null;
+        do {
+            final ResourcePage<ServiceProviderCatalog> page = manager.getResourcePage(testKeyAdd,
+                    ServiceProviderCatalog.class, null, null, null, 10, token);
+            page.getResources().forEach(r -> seen.add(r.getAbout()));
+            pageSizes.add(page.getResources().size());
+            token = page.getContinuationToken();
+        } while (token != null);
+
+        Assertions.assertThat(pageSizes).containsExactly(10, 10, 5);
+        Assertions.assertThat(seen)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(
+                        resources.stream().map(IResource::getAbout).toList());
+    }
+
+    @Test
+    public void testKeysetPagingOrdersByCodePoint()
+            throws StoreAccessException, ModelUnmarshallingException {
+        final Store manager = buildStore();
+        final URI testKeyAdd = buildKey();
+        // U+1F600 sorts after U+FF61 by code point, but before it by UTF-16 code unit
+        final List<URI> uris = List.of(URI.create("lyo:spc_a"), URI.create("lyo:spc_｡"),
+                URI.create("lyo:spc_😀"));
+        final List<IResource> resources = new ArrayList<>();
+        for (URI uri : uris) {
+            final ServiceProviderCatalog resource = new ServiceProviderCatalog();
+            resource.setAbout(uri);
+            resources.add(resource);
+        }
+        manager.appendResources(testKeyAdd, resources);
+
+        final List<URI> seen = new ArrayList<>();
+        String token = null;
+        do {
+            final ResourcePage<ServiceProviderCatalog> page = manager.getResourcePage(testKeyAdd,
+                    ServiceProviderCatalog.class, null, null, null, 1, token);
+            page.getResources().forEach(r -> seen.add(r.getAbout()));
+            token = page.getContinuationToken();
+        } while (token != null);
+
+        Assertions.assertThat(seen).containsExactlyElementsOf(uris);
+    }
+
     @Test
     public void testSingleResourceRetrieved()
             throws StoreAccessException, ModelUnmarshallingException {
@@ -210,6 +280,84 @@ public abstract class StoreTestBase<T extends Store> {
         );
     }
 
+    @Test
+    public void testDeleteResourcesInChunks()
+            throws StoreAccessException, ModelUnmarshallingException {
+        final Store manager = buildStore();
+        final URI testKeyAdd = buildKey();
+        final List<IResource> resources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            resources.add(buildResource());
+        }
+        manager.appendResources(testKeyAdd, resources);
+
+        OSLC4JUtils.setLyoStoreDeleteChunkSize(2);
+        try {
+            // three subjects span two chunks
+            manager.deleteResources(testKeyAdd, resources.get(0), resources.get(2),
+                    resources.get(4));
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_DELETE_CHUNK_SIZE);
+        }
+
+        final List<ServiceProviderCatalog> catalogs = manager.getResources(testKeyAdd,
+                ServiceProviderCatalog.class);
+        Assertions.assertThat(catalogs)
+                .extracting(IResource::getAbout)
+                .containsExactlyInAnyOrder(resources.get(1).getAbout(), resources.get(3).getAbout());
+    }
+
+    @Test
+    public void testUpdateResourcesReplacesStatements()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI testKeyAdd = buildKey();
+        final Requirement requirement = createRequirement("before", "Old description", "s-1", 1);
+        final IResource other = buildResource();
+        manager.appendResources(testKeyAdd, List.of(requirement, other));
+
+        requirement.setIdentifier("after");
+        requirement.setDescription(null);
+        manager.updateResources(testKeyAdd, requirement);
+
+        final Requirement updated = manager.getResource(testKeyAdd, requirement.getAbout(),
+                Requirement.class);
+        Assertions.assertThat(updated.getIdentifier()).isEqualTo("after");
+        Assertions.assertThat(updated.getDescription()).isNull();
+        Assertions.assertThat(manager.resourceExists(testKeyAdd, other.getAbout())).isTrue();
+    }
+
+    @Test
+    public void testGetResourcesByUri()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI testKeyAdd = buildKey();
+        final List<Requirement> requirements = List.of(
+                createRequirement("a", "First", "s-1", 1),
+                createRequirement("b", "Second", "s-2", 2),
+                createRequirement("c", "Third", "s-3", 3));
+        manager.appendResources(testKeyAdd, requirements);
+        final URI missing = buildKey();
+
+        final ResourceBatch<Requirement> batch;
+        OSLC4JUtils.setLyoStoreReadChunkSize(2);
+        try {
+            batch = manager.getResources(testKeyAdd, List.of(requirements.get(2).getAbout(),
+                    missing, requirements.get(0).getAbout(), requirements.get(1).getAbout(),
+                    requirements.get(0).getAbout()), Requirement.class);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_READ_CHUNK_SIZE);
+        }
+
+        Assertions.assertThat(batch.getResources().keySet()).containsExactly(
+                requirements.get(2).getAbout(), requirements.get(0).getAbout(),
+                requirements.get(1).getAbout());
+        Assertions.assertThat(batch.get(requirements.get(1).getAbout()).getIdentifier())
+                .isEqualTo("b");
+        Assertions.assertThat(batch.getMissing()).containsExactly(missing);
+        Assertions.assertThat(batch.isComplete()).isFalse();
+    }
+
     @Test
     public void testBlankNodeRetrieval()
             throws URISyntaxException, StoreAccessException,
@@ -351,6 +499,93 @@ public abstract class StoreTestBase<T extends Store> {
 
     }
 
+    @Test
+    public void testCountResources() throws StoreAccessException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        Assertions.assertThat(manager.countResources(namedGraphUri, null, null, null)).isEqualTo(7);
+        Assertions.assertThat(manager.countResources(namedGraphUri, null, null, "river"))
+                .isEqualTo(2);
+        Assertions.assertThat(manager.countResources(namedGraphUri,
+                "dcterms=<http://purl.org/dc/terms/>", "dcterms:identifier=\"observations\"", null))
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testCountResourcesCacheSeesOwnWrites() throws StoreAccessException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        OSLC4JUtils.setLyoStoreCountCacheTtl(60_000);
+        try {
+            Assertions.assertThat(manager.countResources(namedGraphUri, null, null, null))
+                    .isEqualTo(7);
+            manager.appendResource(namedGraphUri, buildResource());
+            Assertions.assertThat(manager.countResources(namedGraphUri, null, null, null))
+                    .isEqualTo(8);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_COUNT_CACHE_TTL);
+        }
+        Assertions.assertThat(manager.countResources(namedGraphUri, null, null, null)).isEqualTo(8);
+    }
+
+    @Test
+    public void testStoreQueryWithSearchTermsRanksByScore()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                null, null, "\"river\",\"car\"", -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("kindly", "hang");
+
+        Model model = manager.getResources(namedGraphUri, null, null, "\"river\",\"car\"", -1, -1);
+        Assertions.assertThat(model.listSubjectsWithProperty(SparqlStoreImpl.OSLC_SCORE).toList())
+                .hasSize(2);
+    }
+
+    @Test
+    public void testStoreQueryWithSearchTermsDoesNotStoreScores()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                null, null, "\"river\",\"car\"", -1, -1);
+        Assertions.assertThat(requirements).hasSize(2);
+        for (Requirement requirement : requirements) {
+            Assertions.assertThat(requirement.getExtendedProperties())
+                    .doesNotContainKey(new QName(SparqlStoreImpl.OSLC_SCORE.getNameSpace(),
+                            SparqlStoreImpl.OSLC_SCORE.getLocalName()));
+            manager.updateResources(namedGraphUri, requirement);
+        }
+
+        for (Requirement requirement : requirements) {
+            Model model = manager.getJenaModelForSubject(namedGraphUri, requirement.getAbout());
+            Assertions.assertThat(model.listSubjectsWithProperty(SparqlStoreImpl.OSLC_SCORE).toList())
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    public void testStoreQueryWithSearchTermsWithRegexMetacharacters()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                null, null, "\"piece of pie.\",\"[(*\"", -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("rob");
+    }
+
 
     @Test
     public void testStoreQueryWithWhereFilterOnStringsWithIntegerValue()
@@ -376,9 +611,186 @@ public abstract class StoreTestBase<T extends Store> {
         Assertions.assertThat(requirements).hasSize(2);
     }
 
+    @Test
+    public void testStoreQueryWithWhereFilterOnIntegerRange()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                "prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">",
+                "prf:intProperty>=2 and prf:intProperty<5", null, -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactlyInAnyOrder("hang", "observations", "kindly");
+    }
+
+    @Test
+    public void testStoreQueryWithWhereFilterNotEquals()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                "prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">", "prf:intProperty!=3", null, -1, -1);
+        Assertions.assertThat(requirements).hasSize(4);
+    }
+
+    @Test
+    public void testStoreQueryWithWhereFilterIn()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> numbers = manager.getResources(namedGraphUri, Requirement.class,
+                "prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">", "prf:intProperty in [1,5]", null, -1, -1);
+        Assertions.assertThat(numbers).extracting(Requirement::getIdentifier)
+                .containsExactlyInAnyOrder("rob", "itch");
+
+        List<Requirement> strings = manager.getResources(namedGraphUri, Requirement.class,
+                "dcterms=<http://purl.org/dc/terms/>", "dcterms:identifier in [\"rob\",\"morning\"]", null, -1, -1);
+        Assertions.assertThat(strings).extracting(Requirement::getIdentifier)
+                .containsExactlyInAnyOrder("rob", "morning");
+    }
+
+    @Test
+    public void testStoreQueryWithWhereFilterTwoIns()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                "dcterms=<http://purl.org/dc/terms/>,prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">",
+                "dcterms:identifier in [\"rob\",\"hang\",\"kindly\"] and prf:stringProperty in [\"s-4\",\"s-1\"]",
+                null, -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactlyInAnyOrder("rob", "kindly");
+    }
+
+    @Test
+    public void testStoreQueryWithWhereFilterOnUndeclaredPrefix() {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+
+        assertThrows(IllegalArgumentException.class, () -> manager.getResources(namedGraphUri,
+                Requirement.class, "", "prf:intProperty=3", null, -1, -1));
+    }
+
+    @Test
+    public void testStoreQueryWithOrderBy()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException, ParseException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        final Map<String, String> prefixes = Map.of("dcterms", "http://purl.org/dc/terms/",
+                "prf", Nsp1DomainConstants.TESTDOMAIN_NAMSPACE);
+        final OrderByClause orderBy = QueryUtils.parseOrderBy("-prf:intProperty,+dcterms:identifier", prefixes);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class, null, null, null,
+                orderBy, null, -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("morning", "itch", "kindly", "observations", "hang", "rob");
+    }
+
+    @Test
+    public void testStoreQueryWithSelect()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException, ParseException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        final Map<String, String> prefixes = Map.of("dcterms", "http://purl.org/dc/terms/");
+        final OrderByClause orderBy = QueryUtils.parseOrderBy("+dcterms:identifier", prefixes);
+        final SelectClause select = QueryUtils.parseSelect("dcterms:identifier", prefixes);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class, null, null, null,
+                orderBy, select, 2, 0);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("hang", "itch");
+        Assertions.assertThat(requirements).extracting(Requirement::getDescription).containsOnlyNulls();
+    }
+
+    @Test
+    public void testTripleLimitFailsFast() throws StoreAccessException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        OSLC4JUtils.setLyoStoreTripleLimit(5);
+        try {
+            assertThrows(TripleLimitExceededException.class,
+                    () -> manager.getResources(namedGraphUri, Requirement.class));
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT);
+        }
+    }
+
+    @Test
+    public void testTripleLimitTruncates() throws StoreAccessException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        OSLC4JUtils.setLyoStoreTripleLimit(5);
+        OSLC4JUtils.setLyoStoreTripleLimitTruncate(true);
+        try {
+            Model model = manager.getResources(namedGraphUri, null, null, -1, -1);
+            Assertions.assertThat(model.size()).isEqualTo(5);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT);
+            System.clearProperty(OSLC4JConstants.LYO_STORE_TRIPLE_LIMIT_TRUNCATE);
+        }
+    }
+
+    @Test
+    public void testDeeplyNestedBlankNodesAreFetched() {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        final Model model = nestedBlankNodes(10);
+        manager.insertJenaModel(namedGraphUri, model);
+
+        final Model fetched = manager.getJenaModelForSubject(namedGraphUri, NESTED_SUBJECT);
+        Assertions.assertThat(fetched.isIsomorphicWith(model)).isTrue();
+    }
+
+    @Test
+    public void testBlankNodeDepthLimitsNesting() {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        manager.insertJenaModel(namedGraphUri, nestedBlankNodes(10));
+
+        OSLC4JUtils.setLyoStoreBlankNodeDepth(2);
+        try {
+            // the triple of the subject and those of the first two blank nodes
+            Assertions.assertThat(manager.getJenaModelForSubject(namedGraphUri, NESTED_SUBJECT)
+                    .size()).isEqualTo(3);
+        } finally {
+            System.clearProperty(OSLC4JConstants.LYO_STORE_BLANK_NODE_DEPTH);
+        }
+    }
+
+    /**
+     * @return {@link #NESTED_SUBJECT} followed by a chain of {@code depth} blank nodes
+     */
+    private static Model nestedBlankNodes(final int depth) {
+        final Model model = ModelFactory.createDefaultModel();
+        final Property next = model.createProperty("urn:lyo:next");
+        Resource resource = model.createResource(NESTED_SUBJECT.toString());
+        for (int i = 0; i < depth; i++) {
+            final Resource blank = model.createResource();
+            resource.addProperty(next, blank);
+            resource = blank;
+        }
+        return model;
+    }
+
     protected abstract Store buildStore();
 
-    private URI buildKey() {
+    protected URI buildKey() {
         return URI.create("lyo:testKey_" + randomHexString());
     }
 
@@ -401,7 +813,7 @@ public abstract class StoreTestBase<T extends Store> {
 		return r;
 	}
 
-    private void populateStore(final Store manager, final URI namedGraphUri)
+    protected void populateStore(final Store manager, final URI namedGraphUri)
             throws StoreAccessException, URISyntaxException {
         manager.appendResource(namedGraphUri,
                 createRequirement("rob", "Tom got a small piece of pie. Rock music approaches at high velocity.", "s-1", 1));
@@ -0,0 +1,78 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.eclipse.lyo.store.internals.DatasetBuilder;
+import org.eclipse.lyo.store.internals.SparqlStoreImpl;
+import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the store tests on a TDB2 dataset.
+ */
+public class Tdb2StoreImplTest extends StoreTestBase<SparqlStoreImpl> {
+
+    private Store manager;
+
+    @BeforeEach
+    public void setUp() {
+        manager = StoreFactory.tdb2InMem();
+    }
+
+    @Override
+    protected Store buildStore() {
+        return manager;
+    }
+
+    @Test
+    public void testBulkLoadAndCompactPersistent() throws Exception {
+        final Path directory = Files.createTempDirectory("lyoTdb2");
+        final List<ServiceProvider> providers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ServiceProvider sp = new ServiceProvider();
+            sp.setIdentifier(String.valueOf(i));
+            sp.setCreated(new Date());
+            providers.add(sp);
+        }
+        final Model model = JenaModelHelper.createJenaModel(providers.toArray());
+        final URI graph = URI.create("urn:test:tdb2");
+
+        final DatasetQueryExecutorImpl queryExecutor = new DatasetQueryExecutorImpl(
+                DatasetBuilder.buildPersistentTdb2(directory, false));
+        final Store store = new SparqlStoreImpl(queryExecutor);
+        try {
+            store.bulkLoad(graph, model, null);
+            store.clear(graph);
+            store.bulkLoad(graph, model, null);
+            queryExecutor.compact();
+            assertThat(store.getResources(graph, ServiceProvider.class)).hasSize(100);
+        } finally {
+            store.close();
+        }
+    }
+}
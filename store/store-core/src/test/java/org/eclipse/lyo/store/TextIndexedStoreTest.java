@@ -0,0 +1,54 @@
+package org.eclipse.lyo.store;
+
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.apache.jena.rdf.model.Model;
+import org.assertj.core.api.Assertions;
+import org.eclipse.lyo.store.internals.SparqlStoreImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the store tests on a TDB2 dataset with a text index, which the search terms are matched by.
+ */
+public class TextIndexedStoreTest extends StoreTestBase<SparqlStoreImpl> {
+
+    private Store manager;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        manager = StoreFactory.tdb2TextIndexed(null, null);
+    }
+
+    @Override
+    protected Store buildStore() {
+        return manager;
+    }
+
+    @Test
+    public void testSearchTermsAreLimitedToHitLimit()
+            throws IOException, StoreAccessException, URISyntaxException {
+        final Store limited = StoreFactory.tdb2TextIndexed(null, null, 1);
+        final URI namedGraphUri = buildKey();
+        populateStore(limited, namedGraphUri);
+
+        Model model = limited.getResources(namedGraphUri, null, null, "river", -1, -1);
+        Assertions.assertThat(model.listSubjects().toList()).hasSize(1);
+    }
+}